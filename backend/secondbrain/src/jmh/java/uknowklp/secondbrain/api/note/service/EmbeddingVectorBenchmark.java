@@ -0,0 +1,76 @@
+package uknowklp.secondbrain.api.note.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 검색어 임베딩 전달 경로 벤치마크
+ *
+ * 비교 대상:
+ * - boxed: 캐시 float[] → List<Double> 변환 후 Neo4j 파라미터 바인딩 (기존 경로)
+ * - primitive: 캐시 float[]를 그대로 Neo4j 파라미터 바인딩 (현재 경로)
+ * - Redis 바이트 → 벡터 복원, SDK 응답(List<Double>) → float[] 변환 비용
+ *
+ * 실행: ./gradlew jmh (gc 프로파일러로 op당 할당 바이트 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmbeddingVectorBenchmark {
+
+	@Param({"1536"})
+	private int dimensions;
+
+	private float[] cachedVector;
+	private byte[] redisBytes;
+	private List<Double> sdkResponse;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		cachedVector = new float[dimensions];
+		sdkResponse = new ArrayList<>(dimensions);
+		for (int i = 0; i < dimensions; i++) {
+			cachedVector[i] = random.nextFloat() * 2 - 1;
+			sdkResponse.add((double) cachedVector[i]);
+		}
+		redisBytes = QueryEmbeddingCache.toBytes(cachedVector);
+	}
+
+	@Benchmark
+	public Value cacheHitBoxed() {
+		List<Double> embedding = new ArrayList<>(cachedVector.length);
+		for (float value : cachedVector) {
+			embedding.add((double) value);
+		}
+		return Values.parameters("embedding", embedding);
+	}
+
+	@Benchmark
+	public Value cacheHitPrimitive() {
+		return Values.parameters("embedding", cachedVector);
+	}
+
+	@Benchmark
+	public float[] redisDecode() {
+		return QueryEmbeddingCache.fromBytes(redisBytes);
+	}
+
+	@Benchmark
+	public float[] sdkResponseToFloatArray() {
+		return EmbeddingService.toFloatArray(sdkResponse);
+	}
+}
@@ -0,0 +1,109 @@
+package uknowklp.secondbrain.global.security.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import uknowklp.secondbrain.api.user.domain.User;
+import uknowklp.secondbrain.global.security.jwt.JwtProvider;
+import uknowklp.secondbrain.global.security.jwt.dto.CustomUserDetails;
+import uknowklp.secondbrain.global.security.jwt.service.TokenRevocationService;
+
+/**
+ * JwtAuthenticationFilter 요청 1건당 인증 비용
+ *
+ * 비교 대상:
+ * - legacy: 기존 경로 (validateToken + getAuthentication, 매번 파서 생성 후 HMAC 검증 2회)
+ * - filter (authCacheSize=0): 미리 만든 파서로 1회 파싱 (캐시 미적중과 동일)
+ * - filter (authCacheSize=10000): 인증 캐시 적중 (SHA-256 다이제스트 + 조회)
+ *
+ * filter는 토큰 무효화 확인(블룸 필터 미적중, Redis 접근 없음)을 포함
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+
+	@Param({"0", "10000"})
+	public long authCacheSize;
+
+	private JwtAuthenticationFilter filter;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+	private SecretKey secretKey;
+	private String token;
+
+	private final FilterChain chain = (req, res) -> {
+	};
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		JwtProvider jwtProvider = new JwtProvider(SECRET, Duration.ofHours(1), Duration.ofDays(7),
+			authCacheSize, Duration.ofMinutes(5), new SimpleMeterRegistry());
+		jwtProvider.init();
+
+		// 블룸 필터만 사용 (init 미호출 → Redis 연결/구독 없음)
+		TokenRevocationService tokenRevocationService =
+			new TokenRevocationService(new StringRedisTemplate(), null, 100_000, 0.01, "jwt:revoked");
+
+		filter = new JwtAuthenticationFilter(jwtProvider, tokenRevocationService);
+		secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		token = jwtProvider.createAccessToken(User.builder().id(42L).email("bench@secondbrain.com").build());
+
+		request = new MockHttpServletRequest("GET", "/api/notes");
+		request.addHeader("Authorization", "Bearer " + token);
+		response = new MockHttpServletResponse();
+	}
+
+	@Benchmark
+	public Authentication filter() throws ServletException, IOException {
+		filter.doFilter(request, response, chain);
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		SecurityContextHolder.clearContext();
+		return authentication;
+	}
+
+	@Benchmark
+	public Authentication legacy() {
+		Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+		Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+
+		User user = User.builder()
+			.id(claims.get("userId", Long.class))
+			.email(claims.getSubject())
+			.build();
+		return new UsernamePasswordAuthenticationToken(new CustomUserDetails(user), "",
+			Collections.singleton(new SimpleGrantedAuthority(claims.get("role", String.class))));
+	}
+}
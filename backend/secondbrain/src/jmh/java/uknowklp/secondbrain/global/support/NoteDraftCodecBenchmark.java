@@ -0,0 +1,98 @@
+package uknowklp.secondbrain.global.support;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import uknowklp.secondbrain.api.note.domain.NoteDraft;
+import uknowklp.secondbrain.global.config.JacksonConfig;
+import uknowklp.secondbrain.global.support.CompactRedisSerializer.Codec;
+
+/**
+ * NoteDraft Redis 직렬화 비교 (자동 저장 1회당 encode/decode 비용)
+ *
+ * 비교 대상:
+ * - json: 기존 Jackson2JsonRedisSerializer
+ * - smile: CompactRedisSerializer (Smile, 압축 없음)
+ * - smile-lz4: CompactRedisSerializer (Smile + 2KB 이상 LZ4, 운영 기본값)
+ *
+ * Redis 메모리:
+ * - 값 크기(바이트)를 Setup에서 출력 ("draft-bytes ...")
+ * - 키/객체 헤더 등 Redis 고정 오버헤드는 코덱과 무관하므로 값 크기로 비교
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=NoteDraftCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NoteDraftCodecBenchmark {
+
+	@Param({"json", "smile", "smile-lz4"})
+	public String codec;
+
+	// 본문 길이 (짧은 메모 ~ 긴 문서)
+	@Param({"500", "20000", "200000"})
+	public int contentLength;
+
+	private RedisSerializer<NoteDraft> serializer;
+	private NoteDraft draft;
+	private byte[] encoded;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+		serializer = switch (codec) {
+			case "json" -> new Jackson2JsonRedisSerializer<>(objectMapper, NoteDraft.class);
+			case "smile" -> new CompactRedisSerializer<>(objectMapper, NoteDraft.class, Codec.SMILE, 0);
+			default -> new CompactRedisSerializer<>(objectMapper, NoteDraft.class, Codec.SMILE, 2048);
+		};
+
+		draft = NoteDraft.builder()
+			.noteId("6f1c2a9e-3b7d-4c1e-9a51-0d2f8e6b4a13")
+			.userId(42L)
+			.title("회의록 - 검색 성능 개선")
+			.content(sampleContent(contentLength))
+			.version(37L)
+			.lastModified(LocalDateTime.now())
+			.build();
+		encoded = serializer.serialize(draft);
+
+		System.out.printf("%ndraft-bytes codec=%s contentLength=%d bytes=%d%n", codec, contentLength, encoded.length);
+	}
+
+	@Benchmark
+	public byte[] encode() {
+		return serializer.serialize(draft);
+	}
+
+	@Benchmark
+	public NoteDraft decode() {
+		return serializer.deserialize(encoded);
+	}
+
+	// 한글/영문/마크다운이 섞인 노트 본문 (단어 단위 무작위 조합)
+	private static String sampleContent(int length) {
+		String[] words = {"노트", "검색", "임베딩", "그래프", "Redis", "## 제목", "- 항목", "**강조**",
+			"지식", "연결", "메모", "SecondBrain", "리마인더", "\n", "요약", "`code`"};
+		StringBuilder sb = new StringBuilder(length + 16);
+		Random random = new Random(42); // 코덱 간 같은 본문으로 비교
+		while (sb.length() < length) {
+			sb.append(words[random.nextInt(words.length)]).append(' ');
+		}
+		return sb.substring(0, length);
+	}
+}
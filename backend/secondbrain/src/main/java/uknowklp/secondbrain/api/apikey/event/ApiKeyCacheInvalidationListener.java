@@ -0,0 +1,24 @@
+package uknowklp.secondbrain.api.apikey.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import uknowklp.secondbrain.api.apikey.service.ApiKeyCache;
+
+/**
+ * API Key 캐시 무효화
+ *
+ * 커밋 이후(AFTER_COMMIT)에 전파하여 커밋 전 DB 값을 다시 캐시하지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiKeyCacheInvalidationListener {
+
+	private final ApiKeyCache apiKeyCache;
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onApiKeyRevoked(ApiKeyRevokedEvent event) {
+		apiKeyCache.invalidate(event.apiKeyHash());
+	}
+}
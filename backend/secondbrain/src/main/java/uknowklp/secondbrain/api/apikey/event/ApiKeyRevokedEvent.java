@@ -0,0 +1,12 @@
+package uknowklp.secondbrain.api.apikey.event;
+
+/**
+ * API Key 무효화 이벤트 (애플리케이션 내부용)
+ *
+ * API Key 재발급(기존 키), 삭제 시 발행
+ * 커밋 후 모든 인스턴스의 API Key 캐시에서 제거
+ *
+ * @param apiKeyHash 무효화된 API Key의 다이제스트
+ */
+public record ApiKeyRevokedEvent(String apiKeyHash) {
+}
@@ -0,0 +1,117 @@
+package uknowklp.secondbrain.api.apikey.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API Key 다이제스트 → userId 로컬 캐시
+ *
+ * - Caffeine (인스턴스별, 크기 제한, 쓰기 기준 TTL)
+ * - 유효한 키만 캐시 (존재하지 않는 키는 매번 DB 조회)
+ *
+ * 무효화:
+ * - 재발급/삭제 커밋 후 다이제스트를 채널로 발행 → 모든 인스턴스(자신 포함)가 제거
+ * - Pub/Sub 유실이나 커밋 직전 조회와의 경합은 TTL로 한정
+ *
+ * 지표 (Micrometer):
+ * - cache.gets / cache.evictions / cache.size {cache=api-key}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyCache implements MessageListener {
+
+	private static final String CACHE_NAME = "api-key";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisConnectionFactory redisConnectionFactory;
+	private final MeterRegistry meterRegistry;
+
+	// 캐시 최대 항목 수
+	@Value("${secondbrain.api-key.cache.max-size:10000}")
+	private long maxSize;
+
+	// 캐시 유지 시간 (무효화 전파 실패 시 최대 지연)
+	@Value("${secondbrain.api-key.cache.ttl:5m}")
+	private Duration ttl;
+
+	// 무효화 전파 채널
+	@Value("${secondbrain.api-key.cache.channel:apikey:invalidated}")
+	private String channel;
+
+	private Cache<String, Long> cache;
+	private RedisMessageListenerContainer listenerContainer;
+
+	@PostConstruct
+	public void init() {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+		listenerContainer = new RedisMessageListenerContainer();
+		listenerContainer.setConnectionFactory(redisConnectionFactory);
+		listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+		listenerContainer.afterPropertiesSet();
+		listenerContainer.start();
+	}
+
+	@PreDestroy
+	public void shutdown() throws Exception {
+		if (listenerContainer != null) {
+			listenerContainer.destroy();
+		}
+	}
+
+	/**
+	 * userId 조회 (캐시에 없으면 loader로 조회 후 저장)
+	 *
+	 * @param apiKeyHash API Key 다이제스트
+	 * @param loader     DB 조회 (없으면 null 반환, null은 캐시하지 않음)
+	 * @return userId 또는 null
+	 */
+	public Long getUserId(String apiKeyHash, Function<String, Long> loader) {
+		return cache.get(apiKeyHash, loader);
+	}
+
+	/**
+	 * 모든 인스턴스의 캐시에서 제거
+	 */
+	public void invalidate(String apiKeyHash) {
+		cache.invalidate(apiKeyHash);
+		try {
+			stringRedisTemplate.convertAndSend(channel, apiKeyHash);
+		} catch (Exception e) {
+			// 다른 인스턴스는 TTL 만료 후 반영
+			log.warn("API Key 캐시 무효화 전파 실패: {}", e.getMessage());
+		}
+	}
+
+	// 다른 인스턴스(자신 포함)의 무효화 반영
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+}
@@ -1,24 +1,44 @@
 package uknowklp.secondbrain.api.apikey.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import uknowklp.secondbrain.api.apikey.dto.ApiKeyResponse;
 import uknowklp.secondbrain.api.apikey.dto.ApiKeyValidateResponse;
+import uknowklp.secondbrain.api.apikey.event.ApiKeyRevokedEvent;
 import uknowklp.secondbrain.api.user.domain.User;
 import uknowklp.secondbrain.api.user.repository.UserRepository;
 import uknowklp.secondbrain.global.exception.BaseException;
 import uknowklp.secondbrain.global.response.BaseResponseStatus;
 
+/**
+ * API Key 관리
+ *
+ * 저장:
+ * - DB에는 SHA-256 다이제스트(hex)만 저장, 원문은 발급 응답으로 한 번만 반환
+ * - 키가 무작위 UUID(122bit)이므로 솔트/느린 해시 없이 다이제스트 비교로 충분
+ *
+ * 검증:
+ * - 다이제스트 → userId 로컬 캐시(ApiKeyCache) 우선, 없을 때만 DB 조회
+ * - 재발급/삭제 시 기존 다이제스트를 커밋 후 모든 인스턴스 캐시에서 제거
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ApiKeyServiceImpl implements ApiKeyService {
 
 	private final UserRepository userRepository;
+	private final ApiKeyCache apiKeyCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 사용자에게 새로운 API Key 생성 또는 재발급
 	@Override
@@ -31,20 +51,32 @@ public class ApiKeyServiceImpl implements ApiKeyService {
 		// UUID 기반 API Key 생성
 		String apiKey = UUID.randomUUID().toString();
 
-		// 기존 API Key가 있으면 덮어쓰기 (재발급)
-		user.setApiKey(apiKey);
+		// 기존 API Key가 있으면 덮어쓰기 (재발급) 후 캐시 무효화
+		String previousHash = user.getApiKeyHash();
+		user.setApiKeyHash(digest(apiKey));
+		if (previousHash != null) {
+			eventPublisher.publishEvent(new ApiKeyRevokedEvent(previousHash));
+		}
 
 		return new ApiKeyResponse(apiKey);
 	}
 
-	// API Key 검증 및 userId 반환
+	// API Key 검증 및 userId 반환 (캐시 적중 시 트랜잭션/DB 접근 없음)
 	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public ApiKeyValidateResponse validateApiKey(String apiKey) {
-		// API Key로 사용자 조회
-		User user = userRepository.findByApiKey(apiKey)
-			.orElseThrow(() -> new BaseException(BaseResponseStatus.INVALID_API_KEY));
+		if (apiKey == null || apiKey.isBlank()) {
+			throw new BaseException(BaseResponseStatus.INVALID_API_KEY);
+		}
+
+		// API Key 다이제스트로 사용자 조회
+		Long userId = apiKeyCache.getUserId(digest(apiKey), hash ->
+			userRepository.findByApiKeyHash(hash).map(User::getId).orElse(null));
+		if (userId == null) {
+			throw new BaseException(BaseResponseStatus.INVALID_API_KEY);
+		}
 
-		return new ApiKeyValidateResponse(user.getId());
+		return new ApiKeyValidateResponse(userId);
 	}
 
 	// API Key 삭제
@@ -56,11 +88,23 @@ public class ApiKeyServiceImpl implements ApiKeyService {
 			.orElseThrow(() -> new BaseException(BaseResponseStatus.USER_NOT_FOUND));
 
 		// API Key가 없으면 예외 발생
-		if (user.getApiKey() == null) {
+		String apiKeyHash = user.getApiKeyHash();
+		if (apiKeyHash == null) {
 			throw new BaseException(BaseResponseStatus.API_KEY_NOT_FOUND);
 		}
 
-		// API Key 삭제
+		// API Key 삭제 후 캐시 무효화
 		user.clearApiKey();
+		eventPublisher.publishEvent(new ApiKeyRevokedEvent(apiKeyHash));
+	}
+
+	// SHA-256 다이제스트 (hex, schema.sql의 기존 키 변환과 같은 형식)
+	private static String digest(String apiKey) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not supported", e);
+		}
 	}
 }
@@ -9,6 +9,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -33,6 +34,7 @@ import uknowklp.secondbrain.global.security.jwt.JwtProvider;
 import uknowklp.secondbrain.global.security.jwt.dto.CustomUserDetails;
 import uknowklp.secondbrain.global.security.jwt.dto.TokenResponse;
 import uknowklp.secondbrain.global.security.jwt.service.RefreshTokenService;
+import uknowklp.secondbrain.global.security.jwt.service.TokenRevocationService;
 import uknowklp.secondbrain.global.security.oauth2.dto.AuthCodeData;
 import uknowklp.secondbrain.global.security.oauth2.service.AuthorizationCodeService;
 import uknowklp.secondbrain.global.security.oauth2.service.GoogleTokenVerifier;
@@ -52,6 +54,7 @@ public class AuthController {
 
 	private final JwtProvider jwtProvider;
 	private final RefreshTokenService refreshTokenService;
+	private final TokenRevocationService tokenRevocationService;
 	private final AuthorizationCodeService authorizationCodeService;
 	private final UserService userService;
 	private final GoogleTokenVerifier googleTokenVerifier;
@@ -224,14 +227,14 @@ public class AuthController {
 			throw new BaseException(BaseResponseStatus.REFRESH_TOKEN_NOT_FOUND);
 		}
 
-		// 2. Refresh token JWT 검증
-		if (!jwtProvider.validateToken(oldRefreshToken)) {
-			log.warn("Invalid refresh token");
-			throw new BaseException(BaseResponseStatus.INVALID_REFRESH_TOKEN);
-		}
+		// 2. Refresh token JWT 검증 및 Claims 추출 (한 번만 파싱)
+		Claims claims = jwtProvider.getClaimsIfValid(oldRefreshToken)
+			.orElseThrow(() -> {
+				log.warn("Invalid refresh token");
+				return new BaseException(BaseResponseStatus.INVALID_REFRESH_TOKEN);
+			});
 
 		// 3. Claims에서 사용자 정보 추출
-		Claims claims = jwtProvider.getClaims(oldRefreshToken);
 		Long userId = claims.get("userId", Long.class);
 
 		// 4. Redis에서 Refresh Token 검증 (단순 검증)
@@ -276,21 +279,34 @@ public class AuthController {
 	 * 로그아웃 처리 (단순화)
 	 * - Refresh token을 Redis에서 삭제
 	 * - Refresh token 쿠키 삭제
-	 * - Access token은 만료까지 유효 (1시간)
+	 * - 요청에 사용한 Access token 무효화 (jti, 만료 시각까지)
 	 *
-	 * @param userDetails  인증된 사용자 정보
-	 * @param refreshToken Refresh token (쿠키에서 자동 추출)
+	 * @param userDetails   인증된 사용자 정보
+	 * @param authorization Authorization 헤더 (Bearer access token)
+	 * @param refreshToken  Refresh token (쿠키에서 자동 추출)
 	 * @param response     HTTP 응답 (쿠키 삭제용)
 	 * @return 성공 응답
 	 */
 	@PostMapping("/logout")
 	public ResponseEntity<BaseResponse<Void>> logout(
 		@AuthenticationPrincipal CustomUserDetails userDetails,
+		@RequestHeader(name = "Authorization", required = false) String authorization,
 		@CookieValue(name = "refreshToken", required = false) String refreshToken,
 		HttpServletResponse response) {
 
 		Long userId = userDetails.getUser().getId();
 
+		// 0. Access token 무효화 (모든 인스턴스에 전파)
+		if (authorization != null && authorization.startsWith("Bearer ")) {
+			try {
+				jwtProvider.verify(authorization.substring(7))
+					.ifPresent(verified -> tokenRevocationService.revoke(verified.jti(), verified.expiresAt()));
+			} catch (Exception e) {
+				// 무효화 실패해도 로그아웃은 진행 (토큰은 만료 시각까지 유효)
+				log.error("Failed to revoke access token. UserId: {}", userId, e);
+			}
+		}
+
 		// 1. Refresh token이 존재하면 Redis에서 삭제
 		if (refreshToken != null) {
 			try {
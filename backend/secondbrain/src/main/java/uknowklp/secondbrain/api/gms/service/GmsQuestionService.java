@@ -14,7 +14,6 @@ import reactor.util.retry.Retry;
 import uknowklp.secondbrain.api.gms.dto.GmsMessage;
 import uknowklp.secondbrain.api.gms.dto.GmsRequest;
 import uknowklp.secondbrain.api.gms.dto.GmsResponse;
-import uknowklp.secondbrain.api.note.domain.Note;
 
 @Slf4j
 @Service
@@ -32,9 +31,9 @@ public class GmsQuestionService {
 	@Value("${gms.temperature}")
 	private Double temperature;
 
-	// 리마인더 질문 비동기로 생성
-	public Mono<String> makeReminderQuestion(Note note) {
-		String prompt = createReminderPrompt(note);
+	// 리마인더 질문 비동기로 생성 (GMS 실패 시 에러 전달, 사전 생성/캐시용)
+	public Mono<String> generateReminderQuestion(Long noteId, String title, String content) {
+		String prompt = createReminderPrompt(title, content);
 
 		GmsRequest request = new GmsRequest(
 			model,
@@ -53,21 +52,17 @@ public class GmsQuestionService {
 				.maxBackoff(Duration.ofSeconds(5))
 				.doBeforeRetry(signal ->
 					log.warn("GMS API 재시도 - noteId: {}, 시도: {}/3",
-						note.getId(), signal.totalRetries() + 1)
+						noteId, signal.totalRetries() + 1)
 				)
 			)
-			.onErrorResume(e -> {
-				log.error("GMS API 실패 (비상용 질문 사용) - noteId: {}", note.getId(), e);
-				return Mono.just(createFallbackQuestion(note));
-			})
 			.doOnSuccess(question ->
 				log.debug("GMS 질문 생성 성공 - noteId: {}, 길이: {}",
-					note.getId(), question.length())
+					noteId, question.length())
 			);
 	}
 
 	// 리마인더 프롬프트
-	private String createReminderPrompt(Note note) {
+	private String createReminderPrompt(String title, String content) {
 		return String.format("""
 				당신은 학습 효과를 극대화하는 교육 전문가입니다.
 				사용자가 작성한 다음 노트를 복습할 수 있도록 핵심을 파악하고 복습 질문을 생성해주세요.
@@ -84,13 +79,13 @@ public class GmsQuestionService {
 				
 				질문만 출력하고 다른 설명은 포함하지 마세요.
 				""",
-			note.getTitle(),
-			note.getContent()
+			title,
+			content
 		);
 	}
 
 	// GMS 실패 시 진행할 비상용 질문
-	private String createFallbackQuestion(Note note) {
-		return String.format("'%s' 노트의 핵심 내용을 기억하시나요?", note.getTitle());
+	public String createFallbackQuestion(String title) {
+		return String.format("'%s' 노트의 핵심 내용을 기억하시나요?", title);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package uknowklp.secondbrain.api.note.constant;
+
+/**
+ * Draft 자동 저장 결과 (스케줄러 집계용)
+ *
+ * - SAVED: DB 저장 성공
+ * - ALREADY_PROCESSED: 이미 처리 완료 또는 다른 요청이 처리 중
+ * - SKIPPED: 비즈니스 검증 실패 (빈 내용 등, 정상 케이스)
+ * - FAILED: 시스템 오류 (DB 장애, Redis 오류 등)
+ */
+public enum DraftAutoSaveResult {
+	SAVED,
+	ALREADY_PROCESSED,
+	SKIPPED,
+	FAILED
+}
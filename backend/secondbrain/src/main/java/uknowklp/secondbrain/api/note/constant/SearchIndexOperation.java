@@ -0,0 +1,12 @@
+package uknowklp.secondbrain.api.note.constant;
+
+/**
+ * 검색 인덱스 작업 종류 (search_index_outbox.operation)
+ *
+ * - INDEX: 노트 최신 상태를 Elasticsearch에 저장 (생성/수정)
+ * - DELETE: Elasticsearch 문서 삭제
+ */
+public enum SearchIndexOperation {
+	INDEX,
+	DELETE
+}
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -19,6 +20,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uknowklp.secondbrain.api.note.domain.NoteDraft;
+import uknowklp.secondbrain.api.note.dto.NoteDraftDeltaRequest;
+import uknowklp.secondbrain.api.note.dto.NoteDraftDeltaResponse;
 import uknowklp.secondbrain.api.note.dto.NoteDraftListResponse;
 import uknowklp.secondbrain.api.note.dto.NoteDraftRequest;
 import uknowklp.secondbrain.api.note.dto.NoteDraftResponse;
@@ -33,6 +36,7 @@ import uknowklp.secondbrain.global.security.jwt.dto.CustomUserDetails;
  *
  * Redis Write-Behind 패턴 (자동 저장):
  * - POST /api/drafts → Draft 저장 (Debouncing 후)
+ * - PATCH /api/drafts/{noteId} → Draft Delta 저장 (변경분만 전송)
  * - GET /api/drafts → Draft 목록 조회
  * - GET /api/drafts/{noteId} → Draft 조회
  * - DELETE /api/drafts/{noteId} → Draft 삭제
@@ -86,6 +90,37 @@ public class NoteDraftController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
 
+	/**
+	 * Draft Delta 저장 (Auto-save)
+	 *
+	 * 전체 title/content 대신 마지막 저장 이후의 변경분(INSERT/DELETE/REPLACE)만 전송
+	 * 긴 노트에서 자동 저장 시 요청 크기와 Redis 쓰기량을 변경량 수준으로 축소
+	 *
+	 * 실패 시 클라이언트 처리:
+	 * - DRAFT_VERSION_CONFLICT: Draft 재조회 후 병합
+	 * - DRAFT_INVALID_DELTA: 전체 저장(POST)으로 재동기화
+	 *
+	 * @param userDetails 인증된 사용자 정보
+	 * @param noteId      노트 ID
+	 * @param request     Delta 요청 (version, operations)
+	 * @return 적용 후 버전 정보 (title/content 제외)
+	 */
+	@PatchMapping("/{noteId}")
+	@Operation(summary = "Draft Delta 저장", description = "변경분만 전송하는 노트 임시 저장 (Auto-save)")
+	public ResponseEntity<BaseResponse<NoteDraftDeltaResponse>> saveDraftDelta(
+		@AuthenticationPrincipal CustomUserDetails userDetails,
+		@PathVariable String noteId,
+		@Valid @RequestBody NoteDraftDeltaRequest request) {
+
+		User user = userDetails.getUser();
+		log.debug("Draft Delta 저장 요청 - UserId: {}, NoteId: {}, Operations: {}",
+			user.getId(), noteId, request.getOperations().size());
+
+		NoteDraft draft = noteDraftService.saveDraftDelta(noteId, user.getId(), request);
+
+		return ResponseEntity.ok(new BaseResponse<>(NoteDraftDeltaResponse.from(draft)));
+	}
+
 	/**
 	 * Draft 목록 조회
 	 *
@@ -3,9 +3,7 @@ package uknowklp.secondbrain.api.note.controller;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,8 +19,11 @@ import lombok.RequiredArgsConstructor;
 import uknowklp.secondbrain.api.note.domain.NoteDocument;
 import uknowklp.secondbrain.api.note.dto.NoteSearchResponse;
 import uknowklp.secondbrain.api.note.dto.NoteSearchResult;
+import uknowklp.secondbrain.api.note.dto.NoteSearchSlice;
 import uknowklp.secondbrain.api.note.service.NoteSearchService;
+import uknowklp.secondbrain.global.exception.BaseException;
 import uknowklp.secondbrain.global.response.BaseResponse;
+import uknowklp.secondbrain.global.response.BaseResponseStatus;
 import uknowklp.secondbrain.global.security.jwt.dto.CustomUserDetails;
 
 @RestController
@@ -30,31 +31,45 @@ import uknowklp.secondbrain.global.security.jwt.dto.CustomUserDetails;
 @RequiredArgsConstructor
 public class NoteSearchController {
 
+	// 한 번에 조회할 수 있는 최대 검색 결과 수
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final NoteSearchService noteSearchService;
 
 	@GetMapping("/search")
-	@Operation(summary = "노트 검색", description = "제목 + 내용 기반 검색, 유사한 노트도 검색됩니다.")
+	@Operation(summary = "노트 검색", description = "제목 + 내용 기반 검색, 유사한 노트도 검색됩니다. "
+		+ "응답의 nextCursor를 cursor로 전달하면 재검색 없이 다음 결과를 조회합니다.")
 	public BaseResponse<NoteSearchResponse> searchNotes(
-		@RequestParam String keyword,
+		@RequestParam(required = false) String keyword,
+		@RequestParam(required = false) String cursor,
 		@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "10") int size,
 		@AuthenticationPrincipal CustomUserDetails userDetails
 	) {
+		// size 0은 페이지 계산의 0 나누기, 음수는 subList 범위 오류로 이어지므로 진입 시점에 거부
+		if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+			throw new BaseException(BaseResponseStatus.INVALID_SEARCH_PAGE);
+		}
+
 		Long userId = userDetails.getUser().getId();
-		Pageable pageable = PageRequest.of(page, size);
-		Page<NoteDocument> searchResults = noteSearchService.searchByKeyword(keyword, userId, pageable);
+
+		// 커서가 있으면 저장된 병합 결과에서 조회, 없으면 검색 실행
+		NoteSearchSlice searchResults = cursor != null
+			? noteSearchService.searchByCursor(cursor, userId, size)
+			: noteSearchService.searchByKeyword(keyword, userId, PageRequest.of(page, size));
 
 		// NoteDocument -> NoteSearchResult 변환
-		List<NoteSearchResult> results = searchResults.getContent().stream()
+		List<NoteSearchResult> results = searchResults.documents().stream()
 			.map(NoteSearchResult::from)
 			.collect(Collectors.toList());
 
 		NoteSearchResponse response = NoteSearchResponse.builder()
 			.results(results)
-			.totalCount(searchResults.getTotalElements())
-			.currentPage(searchResults.getNumber())
-			.totalPages(searchResults.getTotalPages())
-			.pageSize(searchResults.getSize())
+			.totalCount(searchResults.totalCount())
+			.currentPage(searchResults.offset() / size)
+			.totalPages((int) Math.ceil((double) searchResults.totalCount() / size))
+			.pageSize(size)
+			.nextCursor(searchResults.nextCursor())
 			.build();
 
 		return new BaseResponse<>(response);
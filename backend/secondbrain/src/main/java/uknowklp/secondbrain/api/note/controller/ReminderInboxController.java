@@ -0,0 +1,31 @@
+package uknowklp.secondbrain.api.note.controller;
+
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+import lombok.RequiredArgsConstructor;
+import uknowklp.secondbrain.api.note.dto.ReminderAckRequest;
+import uknowklp.secondbrain.api.note.service.ReminderInboxService;
+
+/**
+ * 리마인더 수신함 STOMP 컨트롤러
+ *
+ * - SEND /app/reminder/ack → 수신한 알림을 수신함에서 삭제 (재구독 시 다시 전송되지 않음)
+ */
+@Controller
+@RequiredArgsConstructor
+public class ReminderInboxController {
+
+	private final ReminderInboxService reminderInboxService;
+
+	@MessageMapping("/reminder/ack")
+	public void acknowledge(ReminderAckRequest request, SimpMessageHeaderAccessor accessor) {
+		// CONNECT 시 StompHandler가 저장한 userId (본인 수신함만 삭제 가능)
+		String userId = (String) accessor.getSessionAttributes().get("userId");
+		if (userId == null) {
+			return;
+		}
+		reminderInboxService.acknowledge(Long.valueOf(userId), request.inboxIds());
+	}
+}
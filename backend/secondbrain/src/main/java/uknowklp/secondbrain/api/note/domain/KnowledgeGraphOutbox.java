@@ -0,0 +1,52 @@
+package uknowklp.secondbrain.api.note.domain;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지식 그래프 이벤트 Outbox
+ *
+ * 노트 변경과 같은 트랜잭션에서 저장되고,
+ * KnowledgeGraphOutboxRelay가 id 순서대로 RabbitMQ에 발행한 뒤 삭제
+ * (롤백된 변경의 이벤트는 저장되지 않으므로 발행되지 않음)
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "knowledge_graph_outbox")
+public class KnowledgeGraphOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	// RabbitMQ 라우팅 키 (note.created, note.updated, note.deleted, note.deleted.batch)
+	@Column(name = "routing_key", nullable = false, length = 64)
+	private String routingKey;
+
+	// 단건 이벤트의 노트 ID (일괄 이벤트는 null)
+	@Column(name = "note_id")
+	private Long noteId;
+
+	// KnowledgeGraphEvent JSON (발행 시 그대로 메시지 본문으로 사용)
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@CreationTimestamp
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+}
@@ -1,6 +1,8 @@
 package uknowklp.secondbrain.api.note.domain;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 import lombok.AllArgsConstructor;
@@ -17,7 +19,8 @@ import uknowklp.secondbrain.api.note.dto.DeltaOperation;
  *
  * Hybrid Snapshot + Delta 방식:
  * - Primary: Snapshot (전체 title + content 저장)
- * - Secondary: Delta (미래 확장용, 현재 null)
+ * - Secondary: Delta 로그 (draft:delta:{noteId} LIST, 스냅샷 이후 변경분)
+ * - 조회 시 스냅샷에 Delta 로그를 순서대로 적용하여 최신 상태 복원
  */
 @Builder
 @Getter
@@ -46,9 +49,10 @@ public class NoteDraft {
 	private LocalDateTime lastModified = LocalDateTime.now();
 
 	/**
-	 * Delta 목록 (미래 확장용, 현재 null)
+	 * Delta 목록 (스냅샷에는 저장하지 않음, 항상 null)
 	 *
-	 * 향후 실시간 협업이나 변경 이력 추적이 필요할 때 활성화
+	 * Delta는 별도 LIST(draft:delta:{noteId})에 요청 단위로 저장
+	 * 기존 스냅샷과의 직렬화 호환을 위해 필드 유지
 	 */
 	private List<DeltaOperation> deltas;
 
@@ -73,6 +77,31 @@ public class NoteDraft {
 		incrementVersion();
 	}
 
+	/**
+	 * Delta 적용 (요청 1건 = 버전 1 증가)
+	 *
+	 * 스냅샷 복원과 Delta 저장 모두 같은 로직으로 적용하여 결과 일치 보장
+	 * lastModified는 Delta에 기록된 서버 적용 시각 사용
+	 *
+	 * @param operations 순서대로 적용할 Delta 목록
+	 * @throws IllegalArgumentException Delta가 현재 텍스트에 적용 불가능한 경우
+	 */
+	public void applyDeltas(List<DeltaOperation> operations) {
+		for (DeltaOperation operation : operations) {
+			if (operation.targetField() == DeltaOperation.DeltaField.TITLE) {
+				this.title = operation.apply(this.title);
+			} else {
+				this.content = operation.apply(this.content);
+			}
+		}
+		this.version++;
+
+		Long timestamp = operations.isEmpty() ? null : operations.get(operations.size() - 1).getTimestamp();
+		this.lastModified = timestamp != null
+			? LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault())
+			: LocalDateTime.now();
+	}
+
 	/**
 	 * NoteRequest로 변환
 	 *
@@ -0,0 +1,119 @@
+package uknowklp.secondbrain.api.note.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import uknowklp.secondbrain.api.note.constant.SearchIndexOperation;
+
+/**
+ * 검색 인덱스 작업 (Outbox)
+ *
+ * 노트 변경과 같은 트랜잭션에서 저장되고,
+ * SearchIndexWorker가 주기적으로 모아서 Elasticsearch bulk API로 반영
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "search_index_outbox",
+	indexes = @Index(name = "idx_search_index_outbox_next_attempt", columnList = "next_attempt_at"))
+public class SearchIndexTask {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "note_id", nullable = false)
+	private Long noteId;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	private SearchIndexOperation operation;
+
+	// 실패 횟수 (재시도 간격 계산용)
+	@Column(nullable = false)
+	@Builder.Default
+	private int attempts = 0;
+
+	// 다음 처리 가능 시각 (실패 시 지수 백오프로 연기)
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	// 최대 시도 횟수 초과로 격리된 시각 (값이 있으면 더 이상 처리하지 않음, 수동 확인 후 재등록)
+	@Column(name = "dead_lettered_at")
+	private LocalDateTime deadLetteredAt;
+
+	@CreationTimestamp
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	/**
+	 * 인덱싱 작업 생성 (노트 생성/수정)
+	 */
+	public static SearchIndexTask index(Long noteId, Long userId) {
+		return of(noteId, userId, SearchIndexOperation.INDEX);
+	}
+
+	/**
+	 * 삭제 작업 생성 (노트 삭제)
+	 */
+	public static SearchIndexTask delete(Long noteId, Long userId) {
+		return of(noteId, userId, SearchIndexOperation.DELETE);
+	}
+
+	/**
+	 * 처리 시작 기록 (점유 시간 동안 다른 인스턴스/다음 주기가 다시 가져가지 않도록 다음 시도 시각 연기)
+	 * 처리 중 인스턴스가 중단되면 점유 시간이 지난 뒤 다시 처리
+	 *
+	 * @param claimTimeout 점유 시간
+	 */
+	public void claim(Duration claimTimeout) {
+		this.nextAttemptAt = LocalDateTime.now().plus(claimTimeout);
+	}
+
+	/**
+	 * 처리 실패 기록 및 다음 시도 시각 연기
+	 *
+	 * @param backoff 다음 시도까지 대기 시간
+	 */
+	public void markFailed(Duration backoff) {
+		this.attempts++;
+		this.nextAttemptAt = LocalDateTime.now().plus(backoff);
+	}
+
+	/**
+	 * 최대 시도 횟수 초과 작업 격리 (이후 claimBatch에서 제외)
+	 */
+	public void markDeadLettered() {
+		this.attempts++;
+		this.deadLetteredAt = LocalDateTime.now();
+	}
+
+	private static SearchIndexTask of(Long noteId, Long userId, SearchIndexOperation operation) {
+		return SearchIndexTask.builder()
+			.noteId(noteId)
+			.userId(userId)
+			.operation(operation)
+			.nextAttemptAt(LocalDateTime.now())
+			.build();
+	}
+}
@@ -1,21 +1,30 @@
 package uknowklp.secondbrain.api.note.dto;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
- * Delta 변경 작업 (미래 확장용)
- *
- * 현재는 사용하지 않지만, 향후 실시간 협업이나
- * 변경 이력 추적이 필요할 때 활성화
+ * Delta 변경 작업
  *
  * Delta-Based Saving 전략:
  * - 전체 문서가 아닌 변경된 부분만 전송하여 네트워크 효율성 향상
+ * - 서버가 저장된 스냅샷에 순서대로 적용 (PATCH /api/drafts/{noteId})
  * - Operational Transform (OT) 또는 CRDT 알고리즘과 결합 가능
+ *
+ * 위치 기준:
+ * - position은 UTF-16 문자 인덱스 (JavaScript String 인덱스와 동일)
+ * - 같은 요청의 작업은 앞선 작업이 적용된 결과를 기준으로 위치 지정
+ *
+ * 검증:
+ * - DELETE, REPLACE는 oldValue가 해당 위치의 실제 텍스트와 일치해야 적용
+ * - 저장 시 Redis 스크립트(draft-delta.lua)가 현재 텍스트와 비교하여 불일치하면 로그에 추가하지 않고 거부
+ * - 불일치 시 클라이언트와 서버 상태가 어긋난 것이므로 전체 저장으로 재동기화
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,10 +42,26 @@ public class DeltaOperation {
 		REPLACE
 	}
 
+	/**
+	 * Delta 적용 대상 필드
+	 */
+	public enum DeltaField {
+		/** 제목 */
+		TITLE,
+		/** 내용 */
+		CONTENT
+	}
+
 	/** Delta 타입 */
+	@NotNull(message = "Delta 타입은 필수입니다")
 	private DeltaType type;
 
+	/** 적용 대상 필드 (없으면 CONTENT) */
+	private DeltaField field;
+
 	/** 변경 위치 (문자 인덱스) */
+	@NotNull(message = "Delta 위치는 필수입니다")
+	@PositiveOrZero(message = "Delta 위치는 0 이상이어야 합니다")
 	private Integer position;
 
 	/** 이전 값 (DELETE, REPLACE 시 사용) */
@@ -45,6 +70,72 @@ public class DeltaOperation {
 	/** 새 값 (INSERT, REPLACE 시 사용) */
 	private String newValue;
 
-	/** 타임스탬프 (순서 보장용) */
+	/** 타임스탬프 (epoch millis, 서버 적용 시각으로 기록) */
 	private Long timestamp;
+
+	/**
+	 * 적용 대상 필드 (기본값 CONTENT)
+	 *
+	 * @return 대상 필드
+	 */
+	public DeltaField targetField() {
+		return field != null ? field : DeltaField.CONTENT;
+	}
+
+	/**
+	 * 텍스트에 Delta 적용
+	 *
+	 * @param text 현재 텍스트 (null이면 빈 문자열로 취급)
+	 * @return 적용 결과
+	 * @throws IllegalArgumentException 위치가 범위를 벗어나거나 oldValue가 일치하지 않는 경우
+	 */
+	public String apply(String text) {
+		String current = text != null ? text : "";
+		validate();
+		if (position > current.length()) {
+			throw new IllegalArgumentException("잘못된 Delta 위치: " + position);
+		}
+		if (type != DeltaType.INSERT && !current.startsWith(oldValue, position)) {
+			throw new IllegalArgumentException("oldValue 불일치 - position: " + position);
+		}
+
+		return current.substring(0, position) + insertedText() + current.substring(position + removedText().length());
+	}
+
+	/**
+	 * 텍스트 없이 확인 가능한 항목 검증 (타입, 위치, 타입별 필수 값)
+	 *
+	 * @throws IllegalArgumentException 누락되거나 잘못된 값이 있는 경우
+	 */
+	public void validate() {
+		if (type == null || position == null || position < 0) {
+			throw new IllegalArgumentException("잘못된 Delta 위치: " + position);
+		}
+		if (type != DeltaType.DELETE) {
+			requireValue(newValue, "newValue");
+		}
+		if (type != DeltaType.INSERT) {
+			requireValue(oldValue, "oldValue");
+		}
+	}
+
+	/**
+	 * 삭제되는 텍스트 (INSERT는 빈 문자열)
+	 */
+	public String removedText() {
+		return type != DeltaType.INSERT && oldValue != null ? oldValue : "";
+	}
+
+	/**
+	 * 삽입되는 텍스트 (DELETE는 빈 문자열)
+	 */
+	public String insertedText() {
+		return type != DeltaType.DELETE && newValue != null ? newValue : "";
+	}
+
+	private static void requireValue(String value, String name) {
+		if (value == null || value.isEmpty()) {
+			throw new IllegalArgumentException(name + " 누락");
+		}
+	}
 }
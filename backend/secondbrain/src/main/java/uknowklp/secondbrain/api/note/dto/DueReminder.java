@@ -0,0 +1,12 @@
+package uknowklp.secondbrain.api.note.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 선점한 리마인더
+ *
+ * @param noteId 노트 ID
+ * @param dueAt  선점 전 발송 예정 시각 (발송 지연 측정용)
+ */
+public record DueReminder(Long noteId, LocalDateTime dueAt) {
+}
@@ -0,0 +1,26 @@
+package uknowklp.secondbrain.api.note.dto;
+
+import java.util.List;
+
+/**
+ * 배치 임베딩 결과 DTO
+ * embeddings는 입력 순서와 동일하며, 실패한 항목은 null
+ */
+public record EmbeddingBatchResult(
+	List<float[]> embeddings,
+	List<Integer> failedIndexes
+) {
+	/**
+	 * 실패 항목 존재 여부
+	 */
+	public boolean hasFailures() {
+		return !failedIndexes.isEmpty();
+	}
+
+	/**
+	 * 성공한 임베딩 개수
+	 */
+	public int successCount() {
+		return embeddings.size() - failedIndexes.size();
+	}
+}
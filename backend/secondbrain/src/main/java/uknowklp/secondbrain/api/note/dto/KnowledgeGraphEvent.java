@@ -1,5 +1,8 @@
 package uknowklp.secondbrain.api.note.dto;
 
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public record KnowledgeGraphEvent(
@@ -7,20 +10,22 @@ public record KnowledgeGraphEvent(
 	@JsonProperty("note_id") Long noteId,
 	@JsonProperty("user_id") Long userId,
 	@JsonProperty("title") String title,
-	@JsonProperty("content") String content
+	@JsonProperty("content") String content,
+	// 일괄 이벤트에서만 사용 (단건 이벤트 메시지 형식은 그대로 유지)
+	@JsonProperty("note_ids") @JsonInclude(JsonInclude.Include.NON_NULL) List<Long> noteIds
 ) {
 	// 생성 이벤트 팩토리 메서드
 	public static KnowledgeGraphEvent created(Long noteId, Long userId, String title, String content) {
-		return new KnowledgeGraphEvent("note.created", noteId, userId, title, content);
+		return new KnowledgeGraphEvent("note.created", noteId, userId, title, content, null);
 	}
 
 	// 수정 이벤트 (title, content null 허용)
 	public static KnowledgeGraphEvent updated(Long noteId, Long userId, String title, String content) {
-		return new KnowledgeGraphEvent("note.updated", noteId, userId, title, content);
+		return new KnowledgeGraphEvent("note.updated", noteId, userId, title, content, null);
 	}
 
-	// 삭제 이벤트
-	public static KnowledgeGraphEvent deleted(Long noteId, Long userId) {
-		return new KnowledgeGraphEvent("note.deleted", noteId, userId, null, null);
+	// 일괄 삭제 이벤트 (여러 노트 ID를 한 메시지로 전달)
+	public static KnowledgeGraphEvent deletedBatch(Long userId, List<Long> noteIds) {
+		return new KnowledgeGraphEvent("note.deleted.batch", null, userId, null, null, noteIds);
 	}
 }
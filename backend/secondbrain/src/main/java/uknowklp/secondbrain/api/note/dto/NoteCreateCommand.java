@@ -0,0 +1,10 @@
+package uknowklp.secondbrain.api.note.dto;
+
+/**
+ * 노트 일괄 생성 항목 (사용자가 서로 다른 노트를 한 번에 생성할 때 사용)
+ *
+ * @param userId  노트 소유자 ID
+ * @param request 노트 생성 요청
+ */
+public record NoteCreateCommand(Long userId, NoteRequest request) {
+}
@@ -0,0 +1,37 @@
+package uknowklp.secondbrain.api.note.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Draft Delta 저장 요청 DTO
+ *
+ * 전체 title/content 대신 마지막 저장 이후의 변경분만 전송
+ * - version: 클라이언트가 알고 있는 현재 버전 (불일치 시 DRAFT_VERSION_CONFLICT)
+ * - operations: 순서대로 적용할 Delta 목록
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoteDraftDeltaRequest {
+
+	/**
+	 * 버전 (충돌 감지용, 필수)
+	 */
+	@NotNull(message = "버전 정보는 필수입니다")
+	private Long version;
+
+	/**
+	 * Delta 목록 (1건 이상)
+	 */
+	@NotEmpty(message = "Delta 목록은 비어있을 수 없습니다")
+	private List<@Valid @NotNull DeltaOperation> operations;
+}
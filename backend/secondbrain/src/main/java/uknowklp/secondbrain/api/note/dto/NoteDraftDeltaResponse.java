@@ -0,0 +1,37 @@
+package uknowklp.secondbrain.api.note.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import uknowklp.secondbrain.api.note.domain.NoteDraft;
+
+/**
+ * Draft Delta 저장 응답 DTO
+ *
+ * 클라이언트가 이미 최신 내용을 가지고 있으므로 title/content는 반환하지 않음
+ */
+@Builder
+@Getter
+@AllArgsConstructor
+public class NoteDraftDeltaResponse {
+
+	private String noteId;
+	private Long version;
+	private LocalDateTime lastModified;
+
+	/**
+	 * NoteDraft -> NoteDraftDeltaResponse 변환
+	 *
+	 * @param draft Delta 적용 후 NoteDraft
+	 * @return NoteDraftDeltaResponse
+	 */
+	public static NoteDraftDeltaResponse from(NoteDraft draft) {
+		return NoteDraftDeltaResponse.builder()
+			.noteId(draft.getNoteId())
+			.version(draft.getVersion())
+			.lastModified(draft.getLastModified())
+			.build();
+	}
+}
@@ -53,6 +53,7 @@ public class NoteDraftRequest {
 	 * - 새 Draft: version = 1
 	 * - 기존 Draft 수정: 현재 version 전송 필수
 	 * - 서버에서 버전 불일치 시 DRAFT_VERSION_CONFLICT 에러 반환
+	 * - 저장 성공 시 서버 버전 = 요청 버전 + 1 (응답의 version을 다음 요청에 사용)
 	 *
 	 * 동시 편집 보호:
 	 * - 사용자 A가 브라우저 1에서 편집 → version 증가
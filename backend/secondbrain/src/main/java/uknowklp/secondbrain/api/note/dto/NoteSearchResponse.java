@@ -5,12 +5,14 @@ import java.util.List;
 import lombok.Builder;
 
 // 노트 검색 응답 DTO (페이징 정보 포함)
+// nextCursor: 다음 조각 조회용 커서 (마지막 조각이면 null)
 @Builder
 public record NoteSearchResponse(
 	List<NoteSearchResult> results,
 	long totalCount,
 	int currentPage,
 	int totalPages,
-	int pageSize
+	int pageSize,
+	String nextCursor
 ) {
 }
@@ -0,0 +1,17 @@
+package uknowklp.secondbrain.api.note.dto;
+
+import java.util.List;
+
+import uknowklp.secondbrain.api.note.domain.NoteDocument;
+
+/**
+ * 하이브리드 검색 결과 조각 (페이지 또는 커서 단위)
+ * nextCursor가 null이면 마지막 조각
+ */
+public record NoteSearchSlice(
+	List<NoteDocument> documents,
+	long totalCount,
+	int offset,
+	String nextCursor
+) {
+}
@@ -0,0 +1,9 @@
+package uknowklp.secondbrain.api.note.dto;
+
+import java.util.List;
+
+// 리마인더 수신 확인 요청 (STOMP /app/reminder/ack)
+public record ReminderAckRequest(
+	List<String> inboxIds // 수신한 알림의 수신함 ID 목록
+) {
+}
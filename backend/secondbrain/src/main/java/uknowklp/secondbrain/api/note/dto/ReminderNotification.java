@@ -15,6 +15,13 @@ public record ReminderNotification(
 	Integer remindCount, // 현재 리마인더 횟수
 
 	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
-	LocalDateTime timestamp // 발송 시간
+	LocalDateTime timestamp, // 발송 시간
+
+	String inboxId // 수신함 ID (클라이언트가 수신 확인 시 전달, 수신함 저장 실패 시 null)
 ) {
+
+	// 수신함 ID 부여
+	public ReminderNotification withInboxId(String inboxId) {
+		return new ReminderNotification(noteId, title, question, remindCount, timestamp, inboxId);
+	}
 }
@@ -0,0 +1,25 @@
+package uknowklp.secondbrain.api.note.dto;
+
+import java.util.List;
+
+/**
+ * 하이브리드 검색 병합 결과 (Redis 캐시용)
+ * notes는 RRF 점수 내림차순으로 정렬된 전체 결과의 노트 ID와 점수 (문서 본문은 저장하지 않고 페이지 단위로 조회)
+ * generation은 생성 당시 사용자 검색 세대 번호 (노트 변경 시 증가)
+ */
+public record SearchRanking(
+	Long userId,
+	long generation,
+	String keyword,
+	List<RankedNote> notes
+) {
+
+	/**
+	 * 병합 결과의 한 항목 (노트 ID + RRF 점수)
+	 */
+	public record RankedNote(
+		Long noteId,
+		double score
+	) {
+	}
+}
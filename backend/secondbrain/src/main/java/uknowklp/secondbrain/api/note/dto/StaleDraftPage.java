@@ -0,0 +1,19 @@
+package uknowklp.secondbrain.api.note.dto;
+
+import java.util.List;
+
+import uknowklp.secondbrain.api.note.domain.NoteDraft;
+
+/**
+ * 오래된 Draft 조회 결과 (한 페이지)
+ *
+ * @param drafts    조회된 Draft 목록 (만료된 항목 제외)
+ * @param lastScore 이 페이지 마지막 항목의 수정 시각 (epoch millis, 다음 페이지 커서)
+ * @param hasNext   다음 페이지 존재 가능 여부
+ */
+public record StaleDraftPage(List<NoteDraft> drafts, long lastScore, boolean hasNext) {
+
+	public static StaleDraftPage empty() {
+		return new StaleDraftPage(List.of(), 0L, false);
+	}
+}
@@ -0,0 +1,25 @@
+package uknowklp.secondbrain.api.note.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import uknowklp.secondbrain.api.note.service.ReminderQuestionService;
+
+/**
+ * 리마인더 질문 사전 생성 요청
+ *
+ * 커밋 이후(AFTER_COMMIT)에 백그라운드 생성 대기열에 등록 (요청 스레드는 대기하지 않음)
+ * 롤백된 변경 내용으로는 질문을 만들지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ReminderQuestionPregenerationListener {
+
+	private final ReminderQuestionService reminderQuestionService;
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onReminderQuestionRequested(ReminderQuestionRequestedEvent event) {
+		reminderQuestionService.pregenerate(event.noteId(), event.title(), event.content());
+	}
+}
@@ -0,0 +1,14 @@
+package uknowklp.secondbrain.api.note.event;
+
+/**
+ * 리마인더 질문 사전 생성 요청 이벤트 (애플리케이션 내부용)
+ *
+ * 리마인더 활성화, 리마인더가 켜진 노트 수정 시 발행
+ * 커밋 후 노트 내용 기준으로 질문을 미리 생성하여 발송 시 GMS 호출 제거
+ *
+ * @param noteId  노트 ID
+ * @param title   커밋된 노트 제목
+ * @param content 커밋된 노트 내용
+ */
+public record ReminderQuestionRequestedEvent(Long noteId, String title, String content) {
+}
@@ -0,0 +1,23 @@
+package uknowklp.secondbrain.api.note.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import uknowklp.secondbrain.api.note.domain.KnowledgeGraphOutbox;
+
+public interface KnowledgeGraphOutboxRepository extends JpaRepository<KnowledgeGraphOutbox, Long> {
+
+	// 발행 대기 이벤트를 저장 순서대로 조회
+	@Query(value = "SELECT * FROM knowledge_graph_outbox ORDER BY id LIMIT :limit", nativeQuery = true)
+	List<KnowledgeGraphOutbox> findBatch(@Param("limit") int limit);
+
+	/**
+	 * 트랜잭션 범위 advisory lock 획득 시도 (커밋/롤백 시 자동 해제)
+	 * 한 번에 하나의 인스턴스만 발행하도록 하여 전체 발행 순서 보장
+	 */
+	@Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+	boolean tryAdvisoryXactLock(@Param("key") long key);
+}
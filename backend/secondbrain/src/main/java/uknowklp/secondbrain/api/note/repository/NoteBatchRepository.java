@@ -0,0 +1,22 @@
+package uknowklp.secondbrain.api.note.repository;
+
+import java.util.List;
+
+import uknowklp.secondbrain.api.note.domain.Note;
+
+/**
+ * 노트 일괄 저장 (JDBC batch)
+ *
+ * Note는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로
+ * 대량 생성(Draft 자동 저장 등)은 JDBC batch로 직접 저장
+ */
+public interface NoteBatchRepository {
+
+	/**
+	 * 노트 일괄 INSERT (현재 트랜잭션 참여)
+	 *
+	 * @param notes 저장할 노트 (id 없음, user는 id만 사용)
+	 * @return 입력 순서와 동일한, 생성된 id가 채워진 노트 목록 (영속성 컨텍스트에 등록되지 않음)
+	 */
+	List<Note> insertAll(List<Note> notes);
+}
@@ -0,0 +1,73 @@
+package uknowklp.secondbrain.api.note.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import lombok.RequiredArgsConstructor;
+import uknowklp.secondbrain.api.note.domain.Note;
+
+@RequiredArgsConstructor
+public class NoteBatchRepositoryImpl implements NoteBatchRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO notes " +
+		"(version, user_id, created_at, updated_at, title, content, remind_at, remind_count) " +
+		"VALUES (0, ?, ?, ?, ?, ?, NULL, 0)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<Note> insertAll(List<Note> notes) {
+		if (notes.isEmpty()) {
+			return List.of();
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		Timestamp timestamp = Timestamp.valueOf(now);
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+
+		jdbcTemplate.batchUpdate(
+			connection -> connection.prepareStatement(INSERT_SQL, new String[] {"note_id"}),
+			new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					Note note = notes.get(i);
+					ps.setLong(1, note.getUser().getId());
+					ps.setTimestamp(2, timestamp);
+					ps.setTimestamp(3, timestamp);
+					ps.setString(4, note.getTitle());
+					ps.setString(5, note.getContent());
+				}
+
+				@Override
+				public int getBatchSize() {
+					return notes.size();
+				}
+			},
+			keyHolder);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		List<Note> saved = new ArrayList<>(notes.size());
+		for (int i = 0; i < notes.size(); i++) {
+			Note note = notes.get(i);
+			saved.add(Note.builder()
+				.id(((Number)keys.get(i).get("note_id")).longValue())
+				.user(note.getUser())
+				.title(note.getTitle())
+				.content(note.getContent())
+				.createdAt(now)
+				.updatedAt(now)
+				.build());
+		}
+		return saved;
+	}
+}
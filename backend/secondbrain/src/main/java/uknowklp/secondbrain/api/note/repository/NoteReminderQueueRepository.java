@@ -0,0 +1,31 @@
+package uknowklp.secondbrain.api.note.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import uknowklp.secondbrain.api.note.dto.DueReminder;
+
+/**
+ * 리마인더 발송 대기열 (notes.remind_at 부분 인덱스 기반)
+ *
+ * remind_at이 있는 노트만 담는 부분 인덱스(idx_notes_remind_due, schema.sql)를 사용하므로
+ * 조회 비용이 전체 노트 수가 아닌 발송 대상 수에 비례
+ */
+public interface NoteReminderQueueRepository {
+
+	/**
+	 * 발송 시각이 지난 리마인더를 최대 limit건 선점 (FOR UPDATE SKIP LOCKED)
+	 *
+	 * 선점한 노트는 remind_at을 claimUntil로 미뤄 다른 인스턴스/다음 주기에 다시 조회되지 않게 함
+	 * - 발송 성공 시 호출 측에서 다음 발송 시각으로 갱신
+	 * - 발송 실패(갱신 없음) 시 claimUntil 이후 다시 발송 대상이 됨
+	 * - version을 올려 선점 전에 읽은 엔티티의 갱신은 낙관적 락으로 실패
+	 *
+	 * @param now        기준 시각
+	 * @param maxCount   최대 발송 횟수 (remind_count가 이 값 미만인 노트만)
+	 * @param claimUntil 선점 만료 시각
+	 * @param limit      최대 선점 건수
+	 * @return 선점한 노트 ID와 원래 발송 예정 시각
+	 */
+	List<DueReminder> claimDueReminders(LocalDateTime now, int maxCount, LocalDateTime claimUntil, int limit);
+}
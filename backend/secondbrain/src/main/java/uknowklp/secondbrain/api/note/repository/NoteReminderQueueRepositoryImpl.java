@@ -0,0 +1,34 @@
+package uknowklp.secondbrain.api.note.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import uknowklp.secondbrain.api.note.dto.DueReminder;
+
+@RequiredArgsConstructor
+public class NoteReminderQueueRepositoryImpl implements NoteReminderQueueRepository {
+
+	// 알림을 끈 사용자의 노트는 선점하지 않음 (켜면 다음 주기부터 대상)
+	private static final String CLAIM_SQL = "WITH due AS (" +
+		"SELECT n.note_id, n.remind_at FROM notes n JOIN users u ON u.id = n.user_id " +
+		"WHERE n.remind_at IS NOT NULL AND n.remind_at <= ? AND n.remind_count < ? AND u.set_alarm " +
+		"ORDER BY n.remind_at " +
+		"LIMIT ? " +
+		"FOR UPDATE OF n SKIP LOCKED) " +
+		"UPDATE notes SET remind_at = ?, version = notes.version + 1 " +
+		"FROM due WHERE notes.note_id = due.note_id " +
+		"RETURNING notes.note_id, due.remind_at AS due_at";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<DueReminder> claimDueReminders(LocalDateTime now, int maxCount, LocalDateTime claimUntil, int limit) {
+		return jdbcTemplate.query(CLAIM_SQL,
+			(rs, rowNum) -> new DueReminder(rs.getLong("note_id"), rs.getTimestamp("due_at").toLocalDateTime()),
+			Timestamp.valueOf(now), maxCount, limit, Timestamp.valueOf(claimUntil));
+	}
+}
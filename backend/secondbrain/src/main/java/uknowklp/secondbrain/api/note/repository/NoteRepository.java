@@ -1,6 +1,5 @@
 package uknowklp.secondbrain.api.note.repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +11,7 @@ import org.springframework.data.repository.query.Param;
 
 import uknowklp.secondbrain.api.note.domain.Note;
 
-public interface NoteRepository extends JpaRepository<Note, Long> {
+public interface NoteRepository extends JpaRepository<Note, Long>, NoteBatchRepository, NoteReminderQueueRepository {
 
 	// N+1 방지를 위한 fetch join
 	@Query("select n from Note n join fetch n.user where n.id = :noteId")
@@ -34,10 +33,7 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
 	@Query("SELECT n FROM Note n WHERE n.user.id = :userId AND n.remindAt IS NOT NULL ORDER BY n.updatedAt DESC, n.id DESC")
 	Page<Note> findReminderNotesByUserId(@Param("userId") Long userId, Pageable pageable);
 
-	// 리마인더 발송 대상 조회 (시간 지난 것 + 3회 미만 + User fetch join)
-	@Query("SELECT n FROM Note n JOIN FETCH n.user " +
-		"WHERE n.remindAt IS NOT NULL " +
-		"AND n.remindAt <= :now " +
-		"AND n.remindCount < :maxCount")
-	List<Note> findPendingReminders(@Param("now") LocalDateTime now, @Param("maxCount") int maxCount);
+	// 선점한 리마인더 노트 조회 (User fetch join)
+	@Query("SELECT n FROM Note n JOIN FETCH n.user WHERE n.id IN :noteIds")
+	List<Note> findAllByIdWithUser(@Param("noteIds") List<Long> noteIds);
 }
@@ -0,0 +1,26 @@
+package uknowklp.secondbrain.api.note.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import uknowklp.secondbrain.api.note.domain.SearchIndexTask;
+
+public interface SearchIndexTaskRepository extends JpaRepository<SearchIndexTask, Long> {
+
+	/**
+	 * 처리 가능한 작업을 잠금과 함께 조회 (트랜잭션 내에서 호출)
+	 * SKIP LOCKED로 다른 인스턴스가 잡은 작업은 건너뛰어 중복 처리 방지
+	 * 최대 시도 횟수를 넘겨 격리된 작업(dead_lettered_at)은 제외
+	 */
+	@Query(value = "SELECT * FROM search_index_outbox " +
+		"WHERE dead_lettered_at IS NULL " +
+		"AND next_attempt_at <= :now " +
+		"ORDER BY id " +
+		"LIMIT :limit " +
+		"FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<SearchIndexTask> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -1,6 +1,12 @@
 package uknowklp.secondbrain.api.note.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -8,10 +14,13 @@ import org.springframework.stereotype.Service;
 import com.openai.client.OpenAIClient;
 import com.openai.client.okhttp.OpenAIOkHttpClient;
 import com.openai.models.CreateEmbeddingResponse;
+import com.openai.models.Embedding;
 import com.openai.models.EmbeddingCreateParams;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import uknowklp.secondbrain.api.note.dto.EmbeddingBatchResult;
 
 // GMS의 text-embedding-3-small 모델을 사용하여 검색어를 1536차원 벡터로 변환
 @Slf4j
@@ -27,7 +36,16 @@ public class EmbeddingService {
 	@Value("${gms.openai-base-url}")
 	private String openaiBaseUrl;
 
+	// 배치 요청 1회당 입력 개수
+	@Value("${gms.embedding-batch.size:100}")
+	private int batchSize;
+
+	// 동시에 보내는 배치 요청 수
+	@Value("${gms.embedding-batch.concurrency:4}")
+	private int batchConcurrency;
+
 	private OpenAIClient client;
+	private ExecutorService batchExecutor;
 
 	@PostConstruct
 	public void init() {
@@ -37,11 +55,25 @@ public class EmbeddingService {
 			.baseUrl(openaiBaseUrl)
 			.build();
 
+		// 배치 임베딩 전용 스레드 풀 (동시 요청 수 제한)
+		AtomicInteger threadCount = new AtomicInteger();
+		this.batchExecutor = Executors.newFixedThreadPool(batchConcurrency, runnable -> {
+			Thread thread = new Thread(runnable, "embedding-batch-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
 		log.debug("✅ OpenAI 클라이언트 초기화 (GMS): {}", openaiBaseUrl);
 	}
 
+	@PreDestroy
+	public void shutdown() {
+		batchExecutor.shutdownNow();
+	}
+
 	// 텍스트를 1536차원 임베딩 벡터로 변환 (OpenAI SDK 사용)
-	public List<Double> generateEmbedding(String text) {
+	// SDK 응답(List<Double>)은 즉시 float[]로 변환하여 캐시/Neo4j 바인딩까지 박싱 없이 전달
+	public float[] generateEmbedding(String text) {
 		try {
 			log.debug("🤖 임베딩 생성 중 - 모델: {}, 텍스트 길이: {}자", embeddingModel, text.length());
 
@@ -54,10 +86,10 @@ public class EmbeddingService {
 
 			CreateEmbeddingResponse response = client.embeddings().create(params);
 
-			// 임베딩 벡터 추출
-			List<Double> embedding = response.data().get(0).embedding();
+			// 임베딩 벡터 추출 (float[]로 변환)
+			float[] embedding = toFloatArray(response.data().get(0).embedding());
 
-			log.debug("✅ 임베딩 생성 완료 - 차원: {}", embedding.size());
+			log.debug("✅ 임베딩 생성 완료 - 차원: {}", embedding.length);
 
 			return embedding;
 
@@ -66,4 +98,91 @@ public class EmbeddingService {
 			throw new RuntimeException("임베딩 생성 중 오류 발생", e);
 		}
 	}
+
+	// SDK의 List<Double> 응답을 float[]로 변환 (text-embedding-3 계열은 float32 정밀도)
+	static float[] toFloatArray(List<Double> embedding) {
+		float[] vector = new float[embedding.size()];
+		for (int i = 0; i < vector.length; i++) {
+			vector[i] = embedding.get(i).floatValue();
+		}
+		return vector;
+	}
+
+	/**
+	 * 여러 텍스트를 배치로 임베딩 (재임베딩, 가져오기, 다중 검색어용)
+	 *
+	 * 처리 방식:
+	 * - batchSize 단위로 나눠 다중 입력 요청 1회로 전송
+	 * - 최대 batchConcurrency개 요청을 동시에 처리
+	 * - 응답은 index 기준으로 정렬하여 입력 순서 유지
+	 * - 배치 요청이 실패하거나 응답에 빠진 항목이 있으면 해당 항목만 단건 요청으로 재시도
+	 * - 단건 재시도도 실패한 항목은 null로 남기고 failedIndexes에 기록
+	 *
+	 * @param texts 임베딩할 텍스트 목록
+	 * @return 입력 순서와 동일한 임베딩 목록 및 실패 인덱스
+	 */
+	public EmbeddingBatchResult generateEmbeddings(List<String> texts) {
+		if (texts.isEmpty()) {
+			return new EmbeddingBatchResult(List.of(), List.of());
+		}
+
+		float[][] embeddings = new float[texts.size()][];
+
+		// 배치 단위로 분할하여 병렬 요청
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int start = 0; start < texts.size(); start += batchSize) {
+			int offset = start;
+			List<String> chunk = texts.subList(start, Math.min(start + batchSize, texts.size()));
+			futures.add(CompletableFuture.runAsync(() -> embedChunk(chunk, offset, embeddings), batchExecutor));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+		List<Integer> failedIndexes = new ArrayList<>();
+		for (int i = 0; i < embeddings.length; i++) {
+			if (embeddings[i] == null) {
+				failedIndexes.add(i);
+			}
+		}
+
+		log.debug("✅ 배치 임베딩 완료 - 전체: {}건, 실패: {}건", texts.size(), failedIndexes.size());
+
+		return new EmbeddingBatchResult(Arrays.asList(embeddings), failedIndexes);
+	}
+
+	// 배치 1개 처리 (배치 실패 또는 응답에서 빠진 항목은 단건 재시도)
+	private void embedChunk(List<String> chunk, int offset, float[][] embeddings) {
+		try {
+			EmbeddingCreateParams params = EmbeddingCreateParams.builder()
+				.model(embeddingModel)
+				.input(EmbeddingCreateParams.Input.ofArrayOfStrings(chunk))
+				.encodingFormat(EmbeddingCreateParams.EncodingFormat.FLOAT)
+				.build();
+
+			CreateEmbeddingResponse response = client.embeddings().create(params);
+
+			// 응답 순서는 보장되지 않으므로 index 기준으로 배치 (범위를 벗어난 index는 무시)
+			for (Embedding embedding : response.data()) {
+				long index = embedding.index();
+				if (index >= 0 && index < chunk.size()) {
+					embeddings[offset + (int)index] = toFloatArray(embedding.embedding());
+				}
+			}
+
+		} catch (Exception e) {
+			log.warn("배치 임베딩 실패 - 단건 재시도: offset={}, size={}, error={}",
+				offset, chunk.size(), e.getMessage());
+		}
+
+		for (int i = 0; i < chunk.size(); i++) {
+			if (embeddings[offset + i] != null) {
+				continue;
+			}
+			try {
+				embeddings[offset + i] = generateEmbedding(chunk.get(i));
+			} catch (Exception e) {
+				// generateEmbedding에서 이미 에러 로그 기록
+				embeddings[offset + i] = null;
+			}
+		}
+	}
 }
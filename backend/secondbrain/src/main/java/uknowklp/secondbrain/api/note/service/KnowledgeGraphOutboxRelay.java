@@ -0,0 +1,111 @@
+package uknowklp.secondbrain.api.note.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uknowklp.secondbrain.api.note.domain.KnowledgeGraphOutbox;
+import uknowklp.secondbrain.api.note.repository.KnowledgeGraphOutboxRepository;
+
+/**
+ * 지식 그래프 Outbox 발행기 (Relay)
+ *
+ * 처리 흐름 (relayInterval마다, 배치가 가득 차면 연속 처리):
+ * 1. pg_try_advisory_xact_lock으로 발행 권한 획득 (실패 시 다른 인스턴스가 발행 중이므로 종료)
+ * 2. Outbox를 id 순서대로 최대 batchSize건 조회
+ * 3. 하나의 채널에서 모두 발행 후 publisher confirm을 한 번에 대기 (waitForConfirmsOrDie)
+ * 4. 확인되면 Outbox 삭제 후 커밋, 실패하면 롤백하여 다음 주기에 같은 순서로 재발행
+ *
+ * 순서 보장:
+ * - 한 시점에 하나의 인스턴스만 id 순서대로 발행 → 노트별 created/updated/deleted 순서 유지
+ *
+ * 전달 보장:
+ * - at-least-once (confirm 대기 중 실패하면 일부 이벤트가 다시 발행될 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KnowledgeGraphOutboxRelay {
+
+	private static final String EXCHANGE_NAME = "knowledge_graph_events";
+
+	// advisory lock 키 (Outbox 발행 전용)
+	private static final long RELAY_LOCK_KEY = 0x4B474F5554424F58L; // "KGOUTBOX"
+
+	private final KnowledgeGraphOutboxRepository knowledgeGraphOutboxRepository;
+	private final RabbitTemplate rabbitTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	// 한 번에 발행할 최대 이벤트 수
+	@Value("${secondbrain.knowledge-graph.outbox.batch-size:200}")
+	private int batchSize;
+
+	// publisher confirm 대기 시간
+	@Value("${secondbrain.knowledge-graph.outbox.confirm-timeout:5s}")
+	private Duration confirmTimeout;
+
+	@Scheduled(fixedDelayString = "${secondbrain.knowledge-graph.outbox.relay-interval:500}")
+	public void relay() {
+		Integer published;
+		do {
+			try {
+				published = transactionTemplate.execute(status -> relayBatch());
+			} catch (Exception e) {
+				log.warn("지식 그래프 이벤트 발행 실패 - 다음 주기에 재시도: {}", e.getMessage());
+				return;
+			}
+		} while (published != null && published >= batchSize);
+	}
+
+	/**
+	 * 이벤트 1배치 발행 (트랜잭션 내)
+	 *
+	 * @return 발행한 이벤트 수
+	 */
+	private int relayBatch() {
+		if (!knowledgeGraphOutboxRepository.tryAdvisoryXactLock(RELAY_LOCK_KEY)) {
+			return 0;
+		}
+
+		List<KnowledgeGraphOutbox> events = knowledgeGraphOutboxRepository.findBatch(batchSize);
+		if (events.isEmpty()) {
+			return 0;
+		}
+
+		// 한 채널에서 순서대로 발행 후 confirm 일괄 대기 (실패 시 예외 → 롤백)
+		rabbitTemplate.invoke(operations -> {
+			for (KnowledgeGraphOutbox event : events) {
+				operations.send(EXCHANGE_NAME, event.getRoutingKey(), toMessage(event));
+			}
+			operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+			return null;
+		});
+
+		knowledgeGraphOutboxRepository.deleteAllInBatch(events);
+
+		log.debug("지식 그래프 이벤트 발행 완료 - {}건 (id {} ~ {})",
+			events.size(), events.get(0).getId(), events.get(events.size() - 1).getId());
+		return events.size();
+	}
+
+	// Outbox payload(JSON)를 그대로 메시지 본문으로 사용 (기존 Jackson 변환 결과와 동일)
+	private Message toMessage(KnowledgeGraphOutbox event) {
+		return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+			.setContentType(MessageProperties.CONTENT_TYPE_JSON)
+			.setContentEncoding(StandardCharsets.UTF_8.name())
+			.setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+			.build();
+	}
+}
@@ -1,54 +1,82 @@
 package uknowklp.secondbrain.api.note.service;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import uknowklp.secondbrain.api.note.domain.KnowledgeGraphOutbox;
 import uknowklp.secondbrain.api.note.dto.KnowledgeGraphEvent;
+import uknowklp.secondbrain.api.note.repository.KnowledgeGraphOutboxRepository;
 
+/**
+ * 지식 그래프 이벤트 발행 (Transactional Outbox)
+ *
+ * 이벤트를 RabbitMQ로 바로 보내지 않고 노트 변경과 같은 트랜잭션에서 Outbox에 저장
+ * 실제 발행은 KnowledgeGraphOutboxRelay가 커밋된 이벤트만 순서대로 처리
+ *
+ * - 요청 처리 경로에서 브로커 지연 제거
+ * - 롤백된 변경의 이벤트는 발행되지 않음
+ * - 브로커 장애 시에도 이벤트가 Outbox에 남아 재발행
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
 public class KnowledgeGraphProducerService {
 
-	private final RabbitTemplate rabbitTemplate;
-	private static final String EXCHANGE_NAME = "knowledge_graph_events";
+	private final KnowledgeGraphOutboxRepository knowledgeGraphOutboxRepository;
+	private final ObjectMapper objectMapper;
+
+	// 일괄 삭제 이벤트 1건에 담을 최대 노트 수
+	@Value("${secondbrain.knowledge-graph.delete-batch-size:500}")
+	private int deleteBatchSize;
 
 	// 노트 생성 이벤트 발행
 	public void publishNoteCreated(Long noteId, Long userId, String title, String content) {
-		try {
-			KnowledgeGraphEvent event = KnowledgeGraphEvent.created(noteId, userId, title, content);
-			rabbitTemplate.convertAndSend(EXCHANGE_NAME, "note.created", event);
-		} catch (Exception e) {
-			// 지식 그래프 발행 실패해도 메인 로직엔 영향 주면 안됨
-			log.error("지식 그래프 발행 실패", e);
-		}
+		KnowledgeGraphEvent event = KnowledgeGraphEvent.created(noteId, userId, title, content);
+		enqueue(event);
 	}
 
 	// 노트 수정 이벤트 발행
 	public void publishNoteUpdated(Long noteId, Long userId, String oldTitle, String newTitle, String oldContent, String newContent) {
-		try {
-			// title 변경 여부 확인 (변경 없으면 null)
-			String titleToSend = (oldTitle != null && oldTitle.equals(newTitle)) ? null : newTitle;
+		// title 변경 여부 확인 (변경 없으면 null)
+		String titleToSend = (oldTitle != null && oldTitle.equals(newTitle)) ? null : newTitle;
 
-			// Content 변경 여부 확인 (변경 없으면 null)
-			String contentToSend = (oldContent != null && oldContent.equals(newContent)) ? null : newContent;
+		// Content 변경 여부 확인 (변경 없으면 null)
+		String contentToSend = (oldContent != null && oldContent.equals(newContent)) ? null : newContent;
+
+		KnowledgeGraphEvent event = KnowledgeGraphEvent.updated(noteId, userId, titleToSend, contentToSend);
+		enqueue(event);
+	}
 
-			KnowledgeGraphEvent event = KnowledgeGraphEvent.updated(noteId, userId, titleToSend, contentToSend);
-			rabbitTemplate.convertAndSend(EXCHANGE_NAME, "note.updated", event);
-		} catch (Exception e) {
-			log.error("지식 그래프 수정 이벤트 발행 실패", e);
+	// 노트 일괄 삭제 이벤트 발행 (deleteBatchSize 단위로 나눠 이벤트 수 최소화)
+	public void publishNotesDeleted(List<Long> noteIds, Long userId) {
+		for (int start = 0; start < noteIds.size(); start += deleteBatchSize) {
+			List<Long> chunk = List.copyOf(noteIds.subList(start, Math.min(start + deleteBatchSize, noteIds.size())));
+			enqueue(KnowledgeGraphEvent.deletedBatch(userId, chunk));
 		}
 	}
 
-	// 노트 삭제 이벤트 발행
-	public void publishNoteDeleted(Long noteId, Long userId) {
+	// Outbox 저장 (이벤트 타입을 라우팅 키로 사용)
+	private void enqueue(KnowledgeGraphEvent event) {
 		try {
-			KnowledgeGraphEvent event = KnowledgeGraphEvent.deleted(noteId, userId);
-			rabbitTemplate.convertAndSend(EXCHANGE_NAME, "note.deleted", event);
-		} catch (Exception e) {
-			log.error("지식 그래프 삭제 이벤트 발행 실패", e);
+			KnowledgeGraphOutbox outbox = KnowledgeGraphOutbox.builder()
+				.routingKey(event.eventType())
+				.noteId(event.noteId())
+				.payload(objectMapper.writeValueAsString(event))
+				.build();
+			knowledgeGraphOutboxRepository.save(outbox);
+		} catch (JsonProcessingException e) {
+			// record 직렬화 실패는 코드 오류이므로 트랜잭션 롤백
+			throw new IllegalStateException("지식 그래프 이벤트 직렬화 실패", e);
 		}
 	}
 }
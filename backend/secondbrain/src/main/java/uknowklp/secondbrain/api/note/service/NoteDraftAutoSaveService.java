@@ -1,18 +1,31 @@
 package uknowklp.secondbrain.api.note.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import uknowklp.secondbrain.api.note.domain.Note;
+import uknowklp.secondbrain.api.note.constant.DraftAutoSaveResult;
 import uknowklp.secondbrain.api.note.domain.NoteDraft;
-import uknowklp.secondbrain.api.note.dto.NoteRequest;
-import uknowklp.secondbrain.global.exception.BaseException;
+import uknowklp.secondbrain.api.note.dto.StaleDraftPage;
+import uknowklp.secondbrain.global.support.SchedulerLease;
 
 /**
  * Draft 자동 저장 스케줄러
@@ -27,20 +40,60 @@ import uknowklp.secondbrain.global.exception.BaseException;
  * 3. Side Peek 닫기
  * 4. 백엔드 스케줄러 (5분마다) ← 이 클래스
  *
- * 트랜잭션 전략 (v2):
- * - 각 Draft별 독립 트랜잭션 (Propagation.REQUIRES_NEW)
- * - 하나의 Draft 실패가 다른 Draft에 영향 없음
- * - 트랜잭션 경계가 명확하여 예외 처리 안정성 향상
+ * 배치 처리 (v4):
+ * - 페이지를 batchSize 단위로 나눠 최대 concurrency개 배치를 동시에 처리
+ * - 처리 상태 조회/선점/완료 기록/Draft 삭제는 배치당 Redis 왕복 1회씩
+ * - 노트는 JDBC batch로 일괄 저장
  *
- * @see <a href="https://docs.spring.io/spring-framework/docs/current/reference/html/data-access.html#tx-propagation">Spring Transaction Propagation</a>
+ * 트랜잭션 전략 (v5):
+ * - DB 저장은 NoteDraftPromotionWorker가 commitInterval개 청크마다 트랜잭션 1회로 수행
+ * - 청크 저장이 실패하면 해당 청크만 Draft별 독립 트랜잭션으로 재시도
+ * - 하나의 Draft 실패가 다른 청크/Draft에 영향 없음
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NoteDraftAutoSaveService {
 
+	private static final String LEASE_JOB = "draft-autosave";
+
 	private final NoteDraftService draftService;
-	private final NoteService noteService;
+	private final NoteDraftPromotionWorker promotionWorker;
+	private final SchedulerLease schedulerLease;
+
+	// 한 번에 조회할 Draft 수
+	@Value("${secondbrain.draft.autosave.page-size:400}")
+	private int pageSize;
+
+	// 배치 1회(Redis 파이프라인 1회씩)로 처리할 Draft 수
+	@Value("${secondbrain.draft.autosave.batch-size:100}")
+	private int batchSize;
+
+	// 동시에 처리하는 배치 수
+	@Value("${secondbrain.draft.autosave.concurrency:4}")
+	private int concurrency;
+
+	// 리더 리스 유지 시간 (한 인스턴스만 자동 저장 수행, 페이지마다 연장)
+	@Value("${secondbrain.draft.autosave.lease-time:6m}")
+	private Duration leaseTime;
+
+	private ExecutorService autoSaveExecutor;
+
+	@PostConstruct
+	public void init() {
+		// 자동 저장 전용 스레드 풀 (동시 배치 수 제한)
+		AtomicInteger threadCount = new AtomicInteger();
+		this.autoSaveExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+			Thread thread = new Thread(runnable, "draft-autosave-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		autoSaveExecutor.shutdown();
+	}
 
 	/**
 	 * 5분마다 오래된 Draft를 DB로 자동 저장
@@ -52,74 +105,60 @@ public class NoteDraftAutoSaveService {
 	 * - 프론트엔드에서 자동 저장 못했을 경우 백업
 	 * - 네트워크 끊김이나 브라우저 강제 종료 시 보호
 	 *
-	 * 트랜잭션 전략 (v2):
+	 * 트랜잭션 전략 (v5):
 	 * - 스케줄러 메서드 자체는 트랜잭션 없음
-	 * - 각 Draft 저장은 독립 트랜잭션으로 처리
+	 * - DB 저장은 NoteDraftPromotionWorker에서 청크 단위 트랜잭션으로 처리
+	 *
+	 * 페이지 처리 (v3):
+	 * - 수정 시각 인덱스에서 pageSize개씩 조회하여 처리 (메모리 사용량 제한)
+	 * - 기준 시각은 실행 시작 시점으로 고정 (처리 중 수정된 Draft는 다음 주기 대상)
+	 *
+	 * 다중 인스턴스 (v6):
+	 * - 리더 리스를 가진 인스턴스만 실행 (나머지는 중복 조회 없이 건너뜀)
+	 * - 다음 페이지 조회 전마다 리스를 연장, 그 사이 리더를 잃었으면 남은 페이지는 새 리더에게 넘기고 중단
 	 */
 	@Scheduled(fixedDelay = 300000) // 5분
 	public void autoSaveStaleDrafts() {
+		if (!schedulerLease.tryAcquire(LEASE_JOB, leaseTime)) {
+			return;
+		}
+
 		try {
 			log.debug("Draft 자동 저장 스케줄러 시작");
 
-			// 5분 이상 지난 Draft 조회
-			List<NoteDraft> staleDrafts = draftService.getStaleDrafts(5);
+			// 5분 이상 지난 Draft
+			LocalDateTime threshold = LocalDateTime.now().minusMinutes(5);
+
+			Map<DraftAutoSaveResult, Integer> counts = new EnumMap<>(DraftAutoSaveResult.class);
+			int totalCount = 0;
+
+			StaleDraftPage page = draftService.getStaleDrafts(threshold, null, pageSize);
+			while (true) {
+				for (DraftAutoSaveResult result : autoSavePage(page.drafts())) {
+					counts.merge(result, 1, Integer::sum);
+					totalCount++;
+				}
+
+				// 페이지마다 리스를 연장하고, 그 사이 리더를 잃었으면 새 리더에게 넘기고 중단
+				if (!page.hasNext() || !schedulerLease.tryAcquire(LEASE_JOB, leaseTime)) {
+					break;
+				}
+				page = draftService.getStaleDrafts(threshold, page.lastScore(), pageSize);
+			}
 
-			if (staleDrafts.isEmpty()) {
+			if (totalCount == 0) {
 				log.debug("자동 저장할 Draft 없음");
 				return;
 			}
 
-			int savedCount = 0;
-			int skippedCount = 0;         // 검증 실패 (정상 케이스)
-			int alreadyProcessedCount = 0; // 이미 처리된 Draft
-			int failedCount = 0;          // 시스템 오류 (비정상 케이스)
-
-			for (NoteDraft draft : staleDrafts) {
-				try {
-					// 이미 처리된 Draft인지 확인
-					String status = draftService.getProcessingStatus(draft.getNoteId());
-
-					if (status != null) {
-						// 이미 처리 완료 또는 처리 중
-						log.info("스케줄러: 이미 처리된 Draft 건너뜀 - DraftId: {}, Status: {}",
-							draft.getNoteId(), status);
-
-						// Draft 정리 시도
-						try {
-							draftService.deleteDraft(
-								draft.getNoteId(),
-								draft.getUserId()
-							);
-						} catch (Exception e) {
-							log.warn("스케줄러: Draft 정리 실패 - DraftId: {}",
-								draft.getNoteId(), e);
-						}
-
-						alreadyProcessedCount++;
-						continue;
-					}
-
-					// 미처리 Draft 저장 시도
-					promoteDraftToDatabaseWithTransaction(draft);
-					savedCount++;
-
-				} catch (BaseException e) {
-					// 비즈니스 검증 실패 - 정상적인 케이스 (빈 내용 등)
-					log.warn("스케줄러: Draft 검증 실패 - NoteId: {}, Reason: {}",
-						draft.getNoteId(), e.getMessage());
-					skippedCount++;
-
-				} catch (Exception e) {
-					// 시스템 오류 - 비정상 케이스 (DB 장애, Redis 오류 등)
-					log.error("스케줄러: Draft 자동 저장 오류 - NoteId: {}",
-						draft.getNoteId(), e);
-					failedCount++;
-				}
-			}
+			int failedCount = counts.getOrDefault(DraftAutoSaveResult.FAILED, 0); // 시스템 오류 (비정상 케이스)
 
 			// 구분된 로깅으로 모니터링 품질 향상
 			log.info("Draft 자동 저장 완료 - 성공: {}, 이미처리: {}, 검증실패: {}, 시스템오류: {}, 전체: {}",
-				savedCount, alreadyProcessedCount, skippedCount, failedCount, staleDrafts.size());
+				counts.getOrDefault(DraftAutoSaveResult.SAVED, 0),
+				counts.getOrDefault(DraftAutoSaveResult.ALREADY_PROCESSED, 0),
+				counts.getOrDefault(DraftAutoSaveResult.SKIPPED, 0),
+				failedCount, totalCount);
 
 			// 시스템 오류가 있으면 경고 (모니터링 시스템 연동 가능)
 			if (failedCount > 0) {
@@ -132,53 +171,70 @@ public class NoteDraftAutoSaveService {
 	}
 
 	/**
-	 * Draft를 DB로 승격 저장 (독립 트랜잭션)
+	 * 한 페이지를 batchSize 단위로 나눠 병렬 처리
 	 *
-	 * Propagation.REQUIRES_NEW:
-	 * - 항상 새로운 트랜잭션 생성
-	 * - 다른 Draft 처리와 완전히 독립적
-	 * - 이 Draft 실패가 다른 Draft에 영향 없음
-	 * - 롤백 범위가 명확 (현재 Draft만 롤백)
-	 *
-	 * @param draft 저장할 Draft
-	 * @see <a href="https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/transaction/annotation/Propagation.html#REQUIRES_NEW">Propagation.REQUIRES_NEW</a>
+	 * @param drafts 오래된 Draft 목록
+	 * @return Draft별 처리 결과
 	 */
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	protected void promoteDraftToDatabaseWithTransaction(NoteDraft draft) {
-		String draftId = draft.getNoteId();
+	private List<DraftAutoSaveResult> autoSavePage(List<NoteDraft> drafts) {
+		List<CompletableFuture<List<DraftAutoSaveResult>>> futures = new ArrayList<>();
+		for (int start = 0; start < drafts.size(); start += batchSize) {
+			List<NoteDraft> batch = drafts.subList(start, Math.min(start + batchSize, drafts.size()));
+			futures.add(CompletableFuture.supplyAsync(() -> autoSaveBatch(batch), autoSaveExecutor));
+		}
 
+		return futures.stream()
+			.flatMap(future -> future.join().stream())
+			.toList();
+	}
+
+	/**
+	 * Draft 1배치 자동 저장
+	 *
+	 * 1. 처리 상태 일괄 조회 (MGET) → 이미 처리된 Draft는 정리
+	 * 2. 미처리 Draft 일괄 선점 (SET NX 파이프라인)
+	 * 3. 선점한 Draft를 NoteDraftPromotionWorker로 DB에 저장
+	 *
+	 * @param batch Draft 목록
+	 * @return Draft별 처리 결과
+	 */
+	private List<DraftAutoSaveResult> autoSaveBatch(List<NoteDraft> batch) {
 		try {
-			// 처리 시작 표시
-			boolean marked = draftService.markAsProcessing(draftId);
-			if (!marked) {
-				log.info("스케줄러: 다른 요청이 이미 처리 중 - DraftId: {}", draftId);
-				return;
+			List<String> statuses = draftService.getProcessingStatuses(
+				batch.stream().map(NoteDraft::getNoteId).toList());
+
+			List<NoteDraft> processed = new ArrayList<>();
+			List<NoteDraft> pending = new ArrayList<>();
+			for (int i = 0; i < batch.size(); i++) {
+				if (statuses.get(i) != null) {
+					// 이미 처리 완료 또는 처리 중
+					log.info("스케줄러: 이미 처리된 Draft 건너뜀 - DraftId: {}, Status: {}",
+						batch.get(i).getNoteId(), statuses.get(i));
+					processed.add(batch.get(i));
+				} else {
+					pending.add(batch.get(i));
+				}
 			}
 
-			// NoteRequest 생성 (도메인 모델 변환 메서드 사용)
-			NoteRequest request = draft.toNoteRequest();
+			// Draft 정리 시도 (실패 허용)
+			draftService.deleteDrafts(processed);
 
-			// DB 저장 (검증 포함 - title과 content 모두 필수)
-			Note savedNote = noteService.createNote(draft.getUserId(), request);
-			Long dbNoteId = savedNote.getId();
-
-			// 처리 완료 기록
-			draftService.markAsCompleted(draftId, dbNoteId);
-
-			// Draft 삭제 (실패 허용)
-			try {
-				draftService.deleteDraft(draftId, draft.getUserId(), true);
-			} catch (Exception e) {
-				log.warn("스케줄러: Draft 삭제 실패 - DraftId: {}", draftId, e);
-			}
+			// 처리 시작 표시 (선점 실패 = 다른 요청이 이미 처리 중)
+			Set<String> claimedIds = new HashSet<>(draftService.markAllAsProcessing(
+				pending.stream().map(NoteDraft::getNoteId).toList()));
+			List<NoteDraft> claimed = pending.stream()
+				.filter(draft -> claimedIds.contains(draft.getNoteId()))
+				.toList();
 
-			log.info("스케줄러: Draft 자동 저장 성공 - DraftId: {} → DB NoteId: {}",
-				draftId, dbNoteId);
+			List<DraftAutoSaveResult> results = new ArrayList<>(
+				Collections.nCopies(batch.size() - claimed.size(), DraftAutoSaveResult.ALREADY_PROCESSED));
+			results.addAll(promotionWorker.promote(claimed));
+			return results;
 
 		} catch (Exception e) {
-			// 실패 시 상태 롤백
-			draftService.rollbackProcessingStatus(draftId);
-			throw e;
+			// 시스템 오류 - 비정상 케이스 (Redis 오류 등)
+			log.error("스케줄러: Draft 배치 처리 오류 - {}건", batch.size(), e);
+			return Collections.nCopies(batch.size(), DraftAutoSaveResult.FAILED);
 		}
 	}
 }
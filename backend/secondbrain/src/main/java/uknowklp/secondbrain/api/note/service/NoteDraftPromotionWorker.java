@@ -0,0 +1,158 @@
+package uknowklp.secondbrain.api.note.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uknowklp.secondbrain.api.note.constant.DraftAutoSaveResult;
+import uknowklp.secondbrain.api.note.domain.Note;
+import uknowklp.secondbrain.api.note.domain.NoteDraft;
+import uknowklp.secondbrain.api.note.dto.NoteCreateCommand;
+import uknowklp.secondbrain.global.exception.BaseException;
+
+/**
+ * Draft → DB 승격 워커 (자동 저장 스케줄러 전용)
+ *
+ * 트랜잭션 경계:
+ * - 별도 빈에서 TransactionTemplate으로 직접 시작 (같은 빈 내부 호출로 @Transactional이 무시되던 문제 제거)
+ * - 처리 시작 표시된 Draft를 commitInterval개씩 나눠 청크마다 트랜잭션 1회 (DB 트랜잭션 크기 고정)
+ * - 청크 저장이 실패하면 해당 청크만 Draft별 독립 트랜잭션으로 재시도 (문제 Draft만 실패 처리)
+ * - Redis 처리 완료 기록/Draft 삭제는 커밋 후 수행 (롤백된 노트가 완료로 기록되지 않음)
+ *
+ * 지표 (Micrometer):
+ * - draft.promotion.chunk{result=success|fallback}: 청크 처리 시간
+ * - draft.promotion.drafts{result=saved|skipped|failed}: Draft 처리 건수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoteDraftPromotionWorker {
+
+	private final NoteService noteService;
+	private final NoteDraftService draftService;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	// 트랜잭션 1회로 저장할 최대 Draft 수
+	@Value("${secondbrain.draft.autosave.commit-interval:50}")
+	private int commitInterval;
+
+	/**
+	 * 처리 시작 표시된 Draft를 청크 단위로 DB에 저장
+	 *
+	 * @param claimed 처리 시작 표시된 Draft 목록
+	 * @return 입력 순서와 동일한 Draft별 처리 결과
+	 */
+	public List<DraftAutoSaveResult> promote(List<NoteDraft> claimed) {
+		List<DraftAutoSaveResult> results = new ArrayList<>(claimed.size());
+		for (int start = 0; start < claimed.size(); start += commitInterval) {
+			results.addAll(promoteChunk(claimed.subList(start, Math.min(start + commitInterval, claimed.size()))));
+		}
+		return results;
+	}
+
+	/**
+	 * Draft 1청크 저장 (트랜잭션 1회)
+	 */
+	private List<DraftAutoSaveResult> promoteChunk(List<NoteDraft> chunk) {
+		long startNanos = System.nanoTime();
+
+		List<Note> savedNotes;
+		try {
+			savedNotes = transactionTemplate.execute(status -> noteService.createNotes(chunk.stream()
+				.map(draft -> new NoteCreateCommand(draft.getUserId(), draft.toNoteRequest()))
+				.toList()));
+		} catch (Exception e) {
+			log.warn("스케줄러: Draft 청크 저장 실패 - 단건 저장으로 재시도: {}건, 오류: {}",
+				chunk.size(), e.getMessage());
+
+			List<DraftAutoSaveResult> results = chunk.stream().map(this::promoteDraft).toList();
+
+			// 저장하지 못한 Draft는 처리 상태를 한 번에 초기화 (다음 주기에 재시도)
+			List<String> unsaved = new ArrayList<>();
+			for (int i = 0; i < chunk.size(); i++) {
+				if (results.get(i) != DraftAutoSaveResult.SAVED) {
+					unsaved.add(chunk.get(i).getNoteId());
+				}
+			}
+			draftService.rollbackProcessingStatuses(unsaved);
+			recordChunk("fallback", startNanos);
+			return results;
+		}
+
+		// 커밋 후 처리 완료 기록, Draft 삭제 (둘 다 실패 허용)
+		Map<String, Long> dbNoteIds = new HashMap<>();
+		for (int i = 0; i < chunk.size(); i++) {
+			dbNoteIds.put(chunk.get(i).getNoteId(), savedNotes.get(i).getId());
+		}
+		draftService.markAllAsCompleted(dbNoteIds);
+		draftService.deleteDrafts(chunk);
+
+		recordChunk("success", startNanos);
+		recordDrafts(DraftAutoSaveResult.SAVED, chunk.size());
+		log.info("스케줄러: Draft 청크 자동 저장 성공 - {}건", chunk.size());
+		return Collections.nCopies(chunk.size(), DraftAutoSaveResult.SAVED);
+	}
+
+	/**
+	 * Draft 1건 저장 (독립 트랜잭션, 청크 저장 실패 시)
+	 * 실패 시 처리 상태 초기화는 호출한 쪽에서 청크 단위로 일괄 수행
+	 */
+	private DraftAutoSaveResult promoteDraft(NoteDraft draft) {
+		String draftId = draft.getNoteId();
+		DraftAutoSaveResult result;
+
+		try {
+			Note savedNote = transactionTemplate.execute(status ->
+				noteService.createNote(draft.getUserId(), draft.toNoteRequest()));
+
+			draftService.markAsCompleted(draftId, savedNote.getId());
+			draftService.deleteDrafts(List.of(draft));
+
+			log.info("스케줄러: Draft 자동 저장 성공 - DraftId: {} → DB NoteId: {}",
+				draftId, savedNote.getId());
+			result = DraftAutoSaveResult.SAVED;
+
+		} catch (BaseException e) {
+			// 비즈니스 검증 실패 - 정상적인 케이스 (빈 내용 등)
+			log.warn("스케줄러: Draft 검증 실패 - NoteId: {}, Reason: {}", draftId, e.getMessage());
+			result = DraftAutoSaveResult.SKIPPED;
+
+		} catch (Exception e) {
+			// 시스템 오류 - 비정상 케이스 (DB 장애 등)
+			log.error("스케줄러: Draft 자동 저장 오류 - NoteId: {}", draftId, e);
+			result = DraftAutoSaveResult.FAILED;
+		}
+
+		recordDrafts(result, 1);
+		return result;
+	}
+
+	private void recordChunk(String result, long startNanos) {
+		Timer.builder("draft.promotion.chunk")
+			.description("Draft 승격 청크 처리 시간")
+			.tag("result", result)
+			.register(meterRegistry)
+			.record(Duration.ofNanos(System.nanoTime() - startNanos));
+	}
+
+	private void recordDrafts(DraftAutoSaveResult result, int count) {
+		Counter.builder("draft.promotion.drafts")
+			.description("Draft 승격 처리 건수")
+			.tag("result", result.name().toLowerCase())
+			.register(meterRegistry)
+			.increment(count);
+	}
+}
@@ -1,31 +1,54 @@
 package uknowklp.secondbrain.api.note.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uknowklp.secondbrain.api.note.constant.DraftProcessingStatus;
 import uknowklp.secondbrain.api.note.domain.NoteDraft;
+import uknowklp.secondbrain.api.note.dto.DeltaOperation;
+import uknowklp.secondbrain.api.note.dto.NoteDraftDeltaRequest;
 import uknowklp.secondbrain.api.note.dto.NoteDraftRequest;
 import uknowklp.secondbrain.api.note.dto.NoteDraftResponse;
+import uknowklp.secondbrain.api.note.dto.StaleDraftPage;
 import uknowklp.secondbrain.global.exception.BaseException;
 import uknowklp.secondbrain.global.response.BaseResponseStatus;
 
@@ -43,6 +66,26 @@ import uknowklp.secondbrain.global.response.BaseResponseStatus;
  * - KEYS 명령어 제거 → 사용자별 SET 관리로 O(1) 성능 달성
  * - ObjectMapper 변환 과정 제거로 CPU 사용량 감소
  *
+ * Delta 저장 (v4):
+ * - 스냅샷(draft:note:{noteId}) + Delta 로그(draft:delta:{noteId} LIST)
+ * - 자동 저장 시 변경분만 RPUSH → 긴 노트도 키 입력량만큼만 전송/저장
+ * - 현재 버전 = 스냅샷 버전 + Delta 로그 길이 (요청 1건 = 버전 1 증가)
+ * - Delta 로그가 compactionThreshold에 도달하면 스냅샷으로 압축
+ *
+ * 원자적 저장 (v5):
+ * - 소유자/현재 버전을 draft:meta:{noteId} HASH에 별도 보관
+ * - 저장은 Lua 스크립트(redis/draft-*.lua)에서 버전 비교 후 쓰기 → 1회 왕복, 갱신 유실 없음
+ *
+ * 수정 시각 인덱스 (v6):
+ * - drafts:by-modified ZSET을 저장 스크립트에서 함께 갱신
+ * - 오래된 Draft 조회는 전체 SCAN 대신 ZRANGEBYSCORE 범위 조회
+ *
+ * Delta 검증 (v8):
+ * - 메타 HASH에 현재 제목/내용(title, content)을 UTF-16BE로 함께 보관 (위치 p = 바이트 오프셋 2p)
+ * - Delta 저장은 스냅샷/로그를 읽지 않고 스크립트에서 현재 텍스트에 적용해 oldValue까지 검증 → 자동 저장 1건당 1회 왕복
+ * - 검증에 실패한 Delta는 로그에 추가되지 않으므로 로그 복원은 항상 끝까지 적용됨
+ * - 복원에 실패한 Draft(검증 도입 이전 로그)는 일부만 적용된 상태로 반환/승격하지 않고 전체 저장으로 재동기화
+ *
  * @see <a href="https://redis.io/docs/latest/commands/scan">Redis SCAN vs KEYS Performance</a>
  */
 @Slf4j
@@ -52,18 +95,57 @@ public class NoteDraftService {
 
 	private final RedisTemplate<String, NoteDraft> noteDraftRedisTemplate;
 	private final RedisTemplate<String, Object> redisTemplate; // SET 관리용
-	private final StringRedisTemplate stringRedisTemplate; // 처리 상태 추적용
+	private final StringRedisTemplate stringRedisTemplate; // 처리 상태 추적, Delta 로그용
+	private final ObjectMapper objectMapper;
 
 	// Redis Key Patterns
 	private static final String DRAFT_PREFIX = "draft:note:";
+	private static final String DELTA_PREFIX = "draft:delta:";
+	private static final String META_PREFIX = "draft:meta:";
 	private static final String USER_DRAFTS_PREFIX = "user:drafts:";
 	private static final String PROCESSED_PREFIX = "processed:draft:";
+	// 수정 시각 인덱스 (member = noteId, score = lastModified epoch millis)
+	private static final String MODIFIED_INDEX_KEY = "drafts:by-modified";
+	private static final String BACKFILL_MARKER_KEY = "drafts:by-modified:backfilled";
 
 	// TTL: 24시간
 	private static final Duration DRAFT_TTL = Duration.ofHours(24);
 	// 처리 완료 기록 TTL: 24시간 (Draft와 동일하게 설정하여 완벽한 중복 방지)
 	private static final Duration PROCESSED_TTL = Duration.ofHours(24);
 
+	// 메타 HASH 필드 (Lua 스크립트와 동일)
+	private static final String META_USER_ID = "userId";
+	private static final String META_VERSION = "version";
+
+	// Draft 저장 스크립트 (버전 비교 + 쓰기를 원자적으로 수행)
+	private static final RedisScript<Long> SAVE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/draft-save.lua"), Long.class);
+	// Delta 저장 스크립트 (Delta 로그 길이 반환)
+	private static final RedisScript<Long> DELTA_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/draft-delta.lua"), Long.class);
+	private static final RedisScript<Long> COMPACT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/draft-compact.lua"), Long.class);
+	private static final RedisSerializer<Long> SCRIPT_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+	// 스크립트 결과 코드
+	private static final int SCRIPT_VERSION_CONFLICT = -1;
+	private static final int SCRIPT_INVALID_VERSION = -2;
+	private static final int SCRIPT_LEGACY_DRAFT = -3;
+	private static final int SCRIPT_ACCESS_DENIED = -4;
+	private static final int SCRIPT_NOT_FOUND = -5;
+	private static final int SCRIPT_TEXT_MISSING = -6;
+	private static final int SCRIPT_INVALID_DELTA = -7;
+
+	// 제목 최대 길이 (NoteDraftRequest 검증과 동일)
+	private static final int TITLE_MAX_LENGTH = 64;
+
+	private static final TypeReference<List<DeltaOperation>> DELTA_LIST_TYPE = new TypeReference<>() {
+	};
+
+	// Delta 로그가 이 개수에 도달하면 스냅샷으로 압축
+	@Value("${secondbrain.draft.delta.compaction-threshold:50}")
+	private int compactionThreshold;
+
 	/**
 	 * Draft 저장 (Redis)
 	 *
@@ -78,6 +160,12 @@ public class NoteDraftService {
 	 * - Controller에서 getDraft() 불필요 → Redis 네트워크 호출 50% 감소
 	 * - 자동 저장 빈번한 시나리오에서 성능 향상 (100회 저장 시 100회 Redis 호출 제거)
 	 *
+	 * 원자적 저장 (v4):
+	 * - 버전 비교, 스냅샷 저장, 사용자 SET 등록, TTL 갱신을 Lua 스크립트 1회로 처리
+	 * - 이전: GET → Java 버전 비교 → SET → SADD → EXPIRE (4회 왕복, 동시 저장 시 갱신 유실 가능)
+	 * - 개선: EVALSHA 1회 왕복, 버전 비교와 쓰기 사이에 다른 저장이 끼어들 수 없음
+	 * - 저장 후 버전 = 요청 버전 + 1 (새 Draft 포함)
+	 *
 	 * @param userId  사용자 ID
 	 * @param request Draft 요청
 	 * @return 저장된 NoteDraft 객체 (version 포함)
@@ -89,46 +177,41 @@ public class NoteDraftService {
 				log.warn("Draft 저장 실패 - 빈 내용 - UserId: {}", userId);
 				throw new BaseException(BaseResponseStatus.DRAFT_EMPTY);
 			}
+			if (request.getVersion() == null) {
+				throw new BaseException(BaseResponseStatus.DRAFT_VERSION_REQUIRED);
+			}
 
 			// noteId가 없으면 새 UUID 생성 (새 노트)
 			String noteId = request.getNoteId() != null
 				? request.getNoteId()
 				: UUID.randomUUID().toString();
 
-			// 기존 draft 조회 (충돌 감지)
-			NoteDraft existingDraft = getDraftOrNull(noteId);
+			// 저장할 스냅샷 (버전 비교는 스크립트에서 수행)
+			NoteDraft draft = NoteDraft.builder()
+				.noteId(noteId)
+				.userId(userId)
+				.title(request.getTitle())
+				.content(request.getContent())
+				.version(request.getVersion() + 1)
+				.lastModified(LocalDateTime.now())
+				.build();
 
-			// Version 충돌 검사 (Optimistic Locking)
-			// v2: version 필수화로 항상 검증 수행
-			if (existingDraft != null) {
-				// 기존 Draft가 존재하는 경우: version 일치 여부 확인
-				if (!existingDraft.getVersion().equals(request.getVersion())) {
-					log.warn("Version conflict - NoteId: {}, Client: {}, Server: {}",
-						noteId, request.getVersion(), existingDraft.getVersion());
-					throw new BaseException(BaseResponseStatus.DRAFT_VERSION_CONFLICT);
-				}
-			} else {
-				// 새 Draft인 경우: version은 1이어야 함
-				if (request.getVersion() != 1L) {
-					log.warn("Invalid initial version - NoteId: {}, Version: {}",
-						noteId, request.getVersion());
-					throw new BaseException(BaseResponseStatus.DRAFT_INVALID_VERSION);
+			byte[][] args = {
+				bytes(userId), bytes(request.getVersion()), draftSerializer().serialize(draft),
+				bytes(DRAFT_TTL.toSeconds()), userDraftsMember(noteId),
+				bytes(toEpochMillis(draft.getLastModified())), bytes(noteId),
+				utf16(draft.getTitle()), utf16(draft.getContent())};
+
+			long result = executeDraftScript(SAVE_SCRIPT, noteId, userId, args);
+			if (result == SCRIPT_LEGACY_DRAFT) {
+				// 메타 정보가 없는 이전 형식 Draft → 스냅샷 기준으로 메타 생성 후 재시도
+				NoteDraft legacy = getDraftOrNull(noteId);
+				if (legacy != null) {
+					initializeMeta(noteId, legacy.getUserId(), legacy.getVersion());
 				}
+				result = executeDraftScript(SAVE_SCRIPT, noteId, userId, args);
 			}
-
-			// NoteDraft 생성 또는 업데이트
-			NoteDraft draft = existingDraft != null
-				? updateExistingDraft(existingDraft, request)
-				: createNewDraft(noteId, userId, request);
-
-			// Redis 저장 (Draft 데이터)
-			String draftKey = DRAFT_PREFIX + noteId;
-			noteDraftRedisTemplate.opsForValue().set(draftKey, draft, DRAFT_TTL);
-
-			// 사용자별 Draft SET에 추가 (성능 최적화)
-			String userDraftsKey = USER_DRAFTS_PREFIX + userId;
-			redisTemplate.opsForSet().add(userDraftsKey, noteId);
-			redisTemplate.expire(userDraftsKey, DRAFT_TTL);
+			checkScriptResult(result, noteId, request.getVersion());
 
 			log.info("Draft 저장 완료 - NoteId: {}, UserId: {}, Version: {}",
 				noteId, userId, draft.getVersion());
@@ -144,12 +227,89 @@ public class NoteDraftService {
 		}
 	}
 
+	/**
+	 * Draft Delta 저장 (Redis)
+	 *
+	 * 검증에 성공하면 Delta만 로그에 추가 (전체 JSON 재저장 없음)
+	 *
+	 * 검증 (v8):
+	 * - 스냅샷/Delta 로그를 읽지 않고 메타 HASH의 현재 제목/내용에 Delta를 적용해 위치, oldValue, 제목 길이를 검증
+	 * - 버전 비교, 검증, 로그 추가, 현재 텍스트 갱신을 Lua 스크립트 1회로 처리 → 자동 저장 1건당 Redis 왕복 1회
+	 * - 메타에 현재 텍스트가 없는 이전 형식 Draft만 전체 상태를 읽어 기준 텍스트와 함께 재시도
+	 *
+	 * 압축:
+	 * - 로그 길이가 compactionThreshold에 도달하면 적용 결과를 새 스냅샷으로 저장하고 로그 삭제
+	 *
+	 * @param noteId  노트 ID (기존 Draft 필수)
+	 * @param userId  사용자 ID
+	 * @param request Delta 요청 (version, operations)
+	 * @return 반영 결과 (noteId, version, lastModified만 포함, 내용은 클라이언트가 보유)
+	 * @throws BaseException DRAFT_NOT_FOUND, DRAFT_ACCESS_DENIED, DRAFT_VERSION_CONFLICT, DRAFT_INVALID_DELTA
+	 */
+	public NoteDraft saveDraftDelta(String noteId, Long userId, NoteDraftDeltaRequest request) {
+		// 서버 적용 시각 기록 (lastModified 복원용)
+		long now = System.currentTimeMillis();
+		List<DeltaOperation> operations = request.getOperations().stream()
+			.map(operation -> operation.toBuilder().timestamp(now).build())
+			.toList();
+
+		try {
+			validateRequestDeltas(noteId, operations);
+			String deltaEntry = objectMapper.writeValueAsString(operations);
+
+			long result = executeDeltaScript(noteId, userId, request.getVersion(), deltaEntry, operations, now, null);
+			if (result == SCRIPT_LEGACY_DRAFT || result == SCRIPT_TEXT_MISSING) {
+				// 메타/현재 텍스트가 없는 이전 형식 Draft → 전체 상태를 읽어 기준 텍스트와 함께 재시도
+				NoteDraft current = getDraftOrNull(noteId);
+				if (current == null) {
+					throw new BaseException(BaseResponseStatus.DRAFT_NOT_FOUND);
+				}
+				if (!current.getUserId().equals(userId)) {
+					log.warn("Draft 접근 권한 없음 - NoteId: {}, UserId: {}", noteId, userId);
+					throw new BaseException(BaseResponseStatus.DRAFT_ACCESS_DENIED);
+				}
+				if (!current.getVersion().equals(request.getVersion())) {
+					throw new BaseException(BaseResponseStatus.DRAFT_VERSION_CONFLICT);
+				}
+
+				if (result == SCRIPT_LEGACY_DRAFT) {
+					initializeMeta(noteId, userId, request.getVersion());
+				}
+				result = executeDeltaScript(noteId, userId, request.getVersion(), deltaEntry, operations, now,
+					current);
+			}
+			checkScriptResult(result, noteId, request.getVersion());
+
+			// 스크립트 결과는 Delta 로그 길이
+			if (result >= compactionThreshold) {
+				compact(noteId);
+			}
+
+			long version = request.getVersion() + 1;
+			log.info("Draft Delta 저장 완료 - NoteId: {}, UserId: {}, Version: {}, Operations: {}",
+				noteId, userId, version, operations.size());
+			return NoteDraft.builder()
+				.noteId(noteId)
+				.userId(userId)
+				.version(version)
+				.lastModified(LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault()))
+				.build();
+
+		} catch (BaseException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("Draft Delta 저장 실패 - NoteId: {}, UserId: {}", noteId, userId, e);
+			throw new BaseException(BaseResponseStatus.REDIS_ERROR);
+		}
+	}
+
 	/**
 	 * Draft 조회 (Redis)
 	 *
 	 * @param noteId 노트 ID
 	 * @param userId 사용자 ID
 	 * @return NoteDraft
+	 * @throws BaseException DRAFT_INVALID_DELTA - Delta 로그를 끝까지 복원할 수 없는 경우 (전체 저장으로 재동기화 필요)
 	 */
 	public NoteDraft getDraft(String noteId, Long userId) {
 		NoteDraft draft = getDraftOrNull(noteId);
@@ -210,8 +370,8 @@ public class NoteDraftService {
 				return Collections.emptyList();
 			}
 
-			// 4단계: 정렬 및 변환
-			List<NoteDraftResponse> responses = drafts.stream()
+			// 4단계: 정렬 및 변환 (복원에 실패한 Draft 제외)
+			List<NoteDraftResponse> responses = applyDeltaLogs(drafts).stream()
 				.filter(Objects::nonNull)
 				.sorted(Comparator.comparing(NoteDraft::getLastModified).reversed())
 				.map(NoteDraftResponse::from)
@@ -252,16 +412,25 @@ public class NoteDraftService {
 	 */
 	public void deleteDraft(String noteId, Long userId, boolean throwOnFailure) {
 		try {
-			// 소유권 검증
-			NoteDraft draft = getDraft(noteId, userId);
+			// 소유권 검증 (스냅샷의 소유자만 확인, Delta 로그를 복원할 수 없는 Draft도 삭제 가능)
+			String draftKey = DRAFT_PREFIX + noteId;
+			NoteDraft draft = noteDraftRedisTemplate.opsForValue().get(draftKey);
+			if (draft == null) {
+				throw new BaseException(BaseResponseStatus.DRAFT_NOT_FOUND);
+			}
+			if (!draft.getUserId().equals(userId)) {
+				log.warn("Draft 접근 권한 없음 - NoteId: {}, UserId: {}", noteId, userId);
+				throw new BaseException(BaseResponseStatus.DRAFT_ACCESS_DENIED);
+			}
 
 			// Draft 데이터 삭제
-			String draftKey = DRAFT_PREFIX + noteId;
-			Boolean deleted = noteDraftRedisTemplate.delete(draftKey);
+			Long deleted = noteDraftRedisTemplate.delete(
+				List.of(draftKey, DELTA_PREFIX + noteId, META_PREFIX + noteId));
 
-			// 사용자별 SET에서도 제거
+			// 사용자별 SET, 수정 시각 인덱스에서도 제거
 			String userDraftsKey = USER_DRAFTS_PREFIX + userId;
 			redisTemplate.opsForSet().remove(userDraftsKey, noteId);
+			stringRedisTemplate.opsForZSet().remove(MODIFIED_INDEX_KEY, noteId);
 
 			log.info("Draft 삭제 완료 - NoteId: {}, UserId: {}, Deleted: {}",
 				noteId, userId, deleted);
@@ -289,66 +458,117 @@ public class NoteDraftService {
 	}
 
 	/**
-	 * 오래된 Draft 조회 (자동 저장용)
+	 * 오래된 Draft 조회 (자동 저장용, 페이지 단위)
 	 *
 	 * Batching 전략: 5분마다 백엔드 스케줄러가 호출
 	 *
-	 * 성능 최적화 (v3):
-	 * - KEYS 명령어 제거 → SCAN 명령어로 전환
-	 * - N+1 문제 해결 → MGET 사용으로 배치 조회
-	 * - 이전: 1 + N번 호출 → 개선: 2번 호출 (SCAN + MGET)
-	 * - Redis 블로킹 없이 cursor 기반 안전한 스캔
+	 * 성능 최적화 (v4):
+	 * - 전체 SCAN + 전체 MGET 제거 → 수정 시각 인덱스(ZSET)에서 기준 시각 이전 범위만 조회
+	 * - ZRANGEBYSCORE LIMIT으로 limit개씩 조회 → 메모리 사용량이 페이지 크기로 제한
+	 * - 비용: 전체 Draft 수가 아닌 대상 Draft 수에 비례
 	 *
-	 * @param minutes lastModified가 이 시간보다 오래된 Draft
-	 * @return 오래된 Draft 목록
-	 * @see <a href="https://redis.io/docs/latest/commands/scan">Redis SCAN Command</a>
-	 * @see <a href="https://redis.io/docs/latest/commands/mget">Redis MGET Command</a>
+	 * 페이지 커서:
+	 * - 이전 페이지의 lastScore + 1ms부터 조회 (score는 밀리초 정수)
+	 * - 페이지 경계에서 같은 밀리초의 항목이 잘리면 다음 실행 주기에 처리됨
+	 *
+	 * 인덱스 정리:
+	 * - TTL로 만료된 Draft는 인덱스에만 남으므로 조회 시 함께 제거
+	 *
+	 * @param threshold  이 시각 이전에 수정된 Draft 대상
+	 * @param afterScore 이전 페이지의 lastScore (첫 페이지는 null)
+	 * @param limit      페이지 크기
+	 * @return 오래된 Draft 한 페이지
+	 * @see <a href="https://redis.io/docs/latest/commands/zrangebyscore">Redis ZRANGEBYSCORE</a>
 	 */
-	public List<NoteDraft> getStaleDrafts(int minutes) {
+	public StaleDraftPage getStaleDrafts(LocalDateTime threshold, Long afterScore, int limit) {
 		try {
-			// 1단계: SCAN으로 모든 key 수집
-			List<String> allKeys = new ArrayList<>();
-			ScanOptions options = ScanOptions.scanOptions()
-				.match(DRAFT_PREFIX + "*")
-				.count(100) // 한 번에 스캔할 키 개수
-				.build();
+			// 1단계: 인덱스에서 기준 시각 이전 범위만 조회
+			double min = afterScore != null ? afterScore + 1 : Double.NEGATIVE_INFINITY;
+			double max = toEpochMillis(threshold);
+			Set<ZSetOperations.TypedTuple<String>> entries =
+				stringRedisTemplate.opsForZSet().rangeByScoreWithScores(MODIFIED_INDEX_KEY, min, max, 0, limit);
 
-			try (Cursor<String> cursor = noteDraftRedisTemplate.scan(options)) {
-				while (cursor.hasNext()) {
-					try {
-						allKeys.add(cursor.next());
-					} catch (Exception e) {
-						log.warn("Draft 스캔 중 개별 오류 발생 - 건너뜀", e);
-					}
-				}
+			if (entries == null || entries.isEmpty()) {
+				log.debug("오래된 Draft 조회 - Draft 없음");
+				return StaleDraftPage.empty();
 			}
 
-			if (allKeys.isEmpty()) {
-				log.debug("오래된 Draft 조회 - Draft 없음");
-				return Collections.emptyList();
+			List<String> noteIds = new ArrayList<>(entries.size());
+			long lastScore = 0L;
+			for (ZSetOperations.TypedTuple<String> entry : entries) {
+				noteIds.add(entry.getValue());
+				lastScore = entry.getScore() != null ? entry.getScore().longValue() : lastScore;
 			}
 
-			// 2단계: MGET으로 한 번에 조회 (N+1 문제 해결)
-			List<NoteDraft> allDrafts = noteDraftRedisTemplate.opsForValue().multiGet(allKeys);
+			// 2단계: 해당 페이지만 MGET
+			List<String> draftKeys = noteIds.stream().map(noteId -> DRAFT_PREFIX + noteId).toList();
+			List<NoteDraft> drafts = noteDraftRedisTemplate.opsForValue().multiGet(draftKeys);
+			if (drafts == null) {
+				return StaleDraftPage.empty();
+			}
 
-			if (allDrafts == null) {
-				return Collections.emptyList();
+			// 만료된 Draft는 인덱스에서 제거
+			Object[] expired = IntStream.range(0, noteIds.size())
+				.filter(i -> drafts.get(i) == null)
+				.mapToObj(noteIds::get)
+				.toArray();
+			if (expired.length > 0) {
+				stringRedisTemplate.opsForZSet().remove(MODIFIED_INDEX_KEY, expired);
 			}
 
-			// 3단계: 시간 기준 필터링
-			LocalDateTime threshold = LocalDateTime.now().minusMinutes(minutes);
-			List<NoteDraft> staleDrafts = allDrafts.stream()
+			// 복원에 실패한 Draft는 일부만 적용된 내용이 DB에 저장되지 않도록 제외
+			List<NoteDraft> staleDrafts = applyDeltaLogs(drafts).stream()
 				.filter(Objects::nonNull)
-				.filter(draft -> draft.getLastModified().isBefore(threshold))
 				.collect(Collectors.toList());
 
-			log.debug("오래된 Draft 조회 - Threshold: {}분, 전체: {}, 필터링 후: {}",
-				minutes, allKeys.size(), staleDrafts.size());
-			return staleDrafts;
+			log.debug("오래된 Draft 조회 - Threshold: {}, 조회: {}, 만료 정리: {}",
+				threshold, noteIds.size(), expired.length);
+			return new StaleDraftPage(staleDrafts, lastScore, noteIds.size() >= limit);
 
 		} catch (Exception e) {
 			log.error("오래된 Draft 조회 실패", e);
-			return Collections.emptyList();
+			return StaleDraftPage.empty();
+		}
+	}
+
+	/**
+	 * 수정 시각 인덱스 초기 구축 (인덱스 도입 이전 Draft 대상, 최초 1회)
+	 *
+	 * 기동 시 마커 키를 SETNX로 선점한 인스턴스만 SCAN을 수행
+	 * 이미 인덱스에 있는 Draft는 ZADD NX로 건너뜀
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillModifiedIndex() {
+		try {
+			Boolean first = stringRedisTemplate.opsForValue().setIfAbsent(BACKFILL_MARKER_KEY, "1");
+			if (!Boolean.TRUE.equals(first)) {
+				return;
+			}
+
+			ScanOptions options = ScanOptions.scanOptions()
+				.match(DRAFT_PREFIX + "*")
+				.count(100) // 한 번에 스캔할 키 개수
+				.build();
+
+			int indexed = 0;
+			List<String> batch = new ArrayList<>(100);
+			try (Cursor<String> cursor = noteDraftRedisTemplate.scan(options)) {
+				while (cursor.hasNext()) {
+					batch.add(cursor.next());
+					if (batch.size() == 100) {
+						indexed += indexBatch(batch);
+						batch.clear();
+					}
+				}
+			}
+			indexed += indexBatch(batch);
+
+			log.info("Draft 수정 시각 인덱스 구축 완료 - {}건", indexed);
+
+		} catch (Exception e) {
+			// 다음 기동 시 재시도
+			stringRedisTemplate.delete(BACKFILL_MARKER_KEY);
+			log.error("Draft 수정 시각 인덱스 구축 실패", e);
 		}
 	}
 
@@ -364,6 +584,7 @@ public class NoteDraftService {
 	 *
 	 * @param key Redis key 또는 noteId
 	 * @return NoteDraft 또는 null
+	 * @throws BaseException DRAFT_INVALID_DELTA - Delta 로그를 끝까지 복원할 수 없는 경우
 	 */
 	private NoteDraft getDraftOrNull(String key) {
 		try {
@@ -372,35 +593,253 @@ public class NoteDraftService {
 			}
 
 			// 타입 특화 RedisTemplate이 직접 NoteDraft 반환 (변환 불필요)
-			return noteDraftRedisTemplate.opsForValue().get(key);
+			NoteDraft draft = noteDraftRedisTemplate.opsForValue().get(key);
+			if (draft != null) {
+				String deltaKey = DELTA_PREFIX + key.substring(DRAFT_PREFIX.length());
+				applyDeltaLog(draft, stringRedisTemplate.opsForList().range(deltaKey, 0, -1));
+			}
+			return draft;
 
+		} catch (BaseException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("Draft 조회 실패 - Key: {}", key, e);
 			return null;
 		}
 	}
 
+	// SCAN으로 모은 Draft 키 한 묶음을 인덱스에 추가 (ZADD NX)
+	private int indexBatch(List<String> draftKeys) {
+		if (draftKeys.isEmpty()) {
+			return 0;
+		}
+
+		List<NoteDraft> drafts = noteDraftRedisTemplate.opsForValue().multiGet(draftKeys);
+		if (drafts == null) {
+			return 0;
+		}
+
+		int indexed = 0;
+		for (NoteDraft draft : applyDeltaLogs(drafts)) {
+			if (draft != null && draft.getLastModified() != null) {
+				stringRedisTemplate.opsForZSet()
+					.addIfAbsent(MODIFIED_INDEX_KEY, draft.getNoteId(), toEpochMillis(draft.getLastModified()));
+				indexed++;
+			}
+		}
+		return indexed;
+	}
+
+	private static long toEpochMillis(LocalDateTime time) {
+		return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/**
+	 * 여러 Draft에 Delta 로그 적용 (LRANGE 파이프라인 1회)
+	 *
+	 * @param drafts MGET 결과 (null 항목 포함 가능)
+	 * @return 입력과 같은 순서의 복원 결과 (없거나 복원에 실패한 Draft는 null)
+	 */
+	private List<NoteDraft> applyDeltaLogs(List<NoteDraft> drafts) {
+		List<NoteDraft> existing = drafts.stream().filter(Objects::nonNull).toList();
+		if (existing.isEmpty()) {
+			return drafts;
+		}
+
+		List<Object> logs = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations ops) throws DataAccessException {
+				for (NoteDraft draft : existing) {
+					ops.opsForList().range(DELTA_PREFIX + draft.getNoteId(), 0, -1);
+				}
+				return null;
+			}
+		});
+
+		Set<NoteDraft> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int i = 0; i < existing.size(); i++) {
+			@SuppressWarnings("unchecked")
+			List<String> deltaLog = (List<String>)logs.get(i);
+			try {
+				applyDeltaLog(existing.get(i), deltaLog);
+			} catch (BaseException e) {
+				failed.add(existing.get(i));
+			}
+		}
+
+		return drafts.stream()
+			.map(draft -> failed.contains(draft) ? null : draft)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 스냅샷에 Delta 로그 적용 (최신 상태 복원)
+	 *
+	 * 저장 시 현재 텍스트 기준 검증을 통과한 Delta만 로그에 있으므로 정상적으로는 실패하지 않음
+	 * 적용 불가능한 항목이 있으면 일부만 적용된 상태를 남기지 않고 예외 발생
+	 * (이후 항목은 실패한 항목이 적용된 텍스트 기준이므로 건너뛰고 이어서 적용할 수 없음)
+	 *
+	 * @param draft    스냅샷 (적용 결과로 갱신됨)
+	 * @param deltaLog Delta 로그 (요청 단위 JSON 배열 목록)
+	 * @throws BaseException DRAFT_INVALID_DELTA - 적용 불가능한 항목이 있는 경우 (전체 저장으로 재동기화 필요)
+	 */
+	private void applyDeltaLog(NoteDraft draft, List<String> deltaLog) {
+		if (deltaLog == null || deltaLog.isEmpty()) {
+			return;
+		}
+
+		for (String entry : deltaLog) {
+			try {
+				draft.applyDeltas(objectMapper.readValue(entry, DELTA_LIST_TYPE));
+			} catch (JsonProcessingException | IllegalArgumentException e) {
+				log.error("Delta 로그 복원 실패 - 전체 저장 필요: NoteId: {}, Version: {}",
+					draft.getNoteId(), draft.getVersion(), e);
+				throw new BaseException(BaseResponseStatus.DRAFT_INVALID_DELTA);
+			}
+		}
+	}
+
+	/**
+	 * 요청 Delta의 필수 값 검증 (텍스트 없이 확인 가능한 항목)
+	 *
+	 * @throws BaseException DRAFT_INVALID_DELTA - 타입/위치/값 누락
+	 */
+	private void validateRequestDeltas(String noteId, List<DeltaOperation> operations) {
+		try {
+			operations.forEach(DeltaOperation::validate);
+		} catch (IllegalArgumentException e) {
+			log.warn("Delta 적용 실패 - NoteId: {}, 원인: {}", noteId, e.getMessage());
+			throw new BaseException(BaseResponseStatus.DRAFT_INVALID_DELTA);
+		}
+	}
+
+	/**
+	 * Delta 로그 압축 (스냅샷 + 로그 적용 결과를 새 스냅샷으로 저장)
+	 *
+	 * - compactionThreshold건마다 1회만 스냅샷/로그 전체 조회
+	 * - 로그 복원에 실패하면 압축하지 않음 (다음 전체 저장에서 로그 삭제)
+	 * - Delta는 이미 저장되었으므로 실패해도 예외를 전파하지 않음
+	 *
+	 * @param noteId 노트 ID
+	 */
+	private void compact(String noteId) {
+		try {
+			NoteDraft draft = getDraftOrNull(noteId);
+			if (draft == null) {
+				return;
+			}
+
+			Long compacted = stringRedisTemplate.execute(COMPACT_SCRIPT, RedisSerializer.byteArray(),
+				SCRIPT_RESULT_SERIALIZER,
+				List.of(DRAFT_PREFIX + noteId, DELTA_PREFIX + noteId, META_PREFIX + noteId),
+				bytes(draft.getVersion()), draftSerializer().serialize(draft), bytes(DRAFT_TTL.toSeconds()));
+			log.debug("Draft Delta 로그 압축 - NoteId: {}, Version: {}, 결과: {}", noteId, draft.getVersion(), compacted);
+
+		} catch (Exception e) {
+			log.warn("Draft Delta 로그 압축 실패 - NoteId: {}", noteId, e);
+		}
+	}
+
+	// 스크립트 검증용 UTF-16BE 인코딩 (Delta 위치 p = 바이트 오프셋 2p, null은 빈 값)
+	private static byte[] utf16(String text) {
+		return text != null ? text.getBytes(StandardCharsets.UTF_16BE) : new byte[0];
+	}
+
+	@SuppressWarnings("unchecked")
+	private RedisSerializer<NoteDraft> draftSerializer() {
+		return (RedisSerializer<NoteDraft>)noteDraftRedisTemplate.getValueSerializer();
+	}
+
 	/**
-	 * 새 Draft 생성
+	 * Draft 저장 스크립트 실행 (전체 저장/Delta 저장 공통)
+	 *
+	 * KEYS: 스냅샷, Delta 로그, 메타, 사용자별 SET, 수정 시각 인덱스 (스크립트에서 사용하는 모든 키 전달)
+	 *
+	 * @return 스크립트 결과 (전체 저장은 새 버전, Delta 저장은 로그 길이) 또는 음수 결과 코드
 	 */
-	private NoteDraft createNewDraft(String noteId, Long userId, NoteDraftRequest request) {
-		return NoteDraft.builder()
-			.noteId(noteId)
-			.userId(userId)
-			.title(request.getTitle())
-			.content(request.getContent())
-			.version(1L)
-			.lastModified(LocalDateTime.now())
-			.deltas(null) // 미래 확장용
-			.build();
+	private long executeDraftScript(RedisScript<Long> script, String noteId, Long userId, byte[][] args) {
+		List<String> keys = List.of(
+			DRAFT_PREFIX + noteId, DELTA_PREFIX + noteId, META_PREFIX + noteId, USER_DRAFTS_PREFIX + userId,
+			MODIFIED_INDEX_KEY);
+
+		Long result = stringRedisTemplate.execute(
+			script, RedisSerializer.byteArray(), SCRIPT_RESULT_SERIALIZER, keys, (Object[])args);
+		if (result == null) {
+			throw new IllegalStateException("Draft 저장 스크립트 결과 없음 - NoteId: " + noteId);
+		}
+		return result;
 	}
 
 	/**
-	 * 기존 Draft 업데이트
+	 * Delta 저장 스크립트 실행
+	 *
+	 * 작업별 (대상 필드, 위치, 삭제 텍스트, 삽입 텍스트)를 UTF-16BE로 전달하여 스크립트에서 현재 텍스트에 적용해 검증
+	 *
+	 * @param base 메타에 현재 텍스트가 없을 때 사용할 기준 Draft (없으면 null)
+	 * @return Delta 로그 길이 또는 음수 결과 코드
 	 */
-	private NoteDraft updateExistingDraft(NoteDraft existing, NoteDraftRequest request) {
-		existing.updateContent(request.getTitle(), request.getContent());
-		return existing;
+	private long executeDeltaScript(String noteId, Long userId, Long version, String deltaEntry,
+		List<DeltaOperation> operations, long now, NoteDraft base) {
+		List<byte[]> args = new ArrayList<>(List.of(
+			bytes(userId), bytes(version), deltaEntry.getBytes(StandardCharsets.UTF_8), bytes(DRAFT_TTL.toSeconds()),
+			bytes(now), bytes(noteId), bytes(TITLE_MAX_LENGTH),
+			bytes(base != null ? 1 : 0),
+			utf16(base != null ? base.getTitle() : null), utf16(base != null ? base.getContent() : null)));
+		for (DeltaOperation operation : operations) {
+			args.add(bytes(operation.targetField().name()));
+			args.add(bytes(operation.getPosition()));
+			args.add(utf16(operation.removedText()));
+			args.add(utf16(operation.insertedText()));
+		}
+
+		return executeDraftScript(DELTA_SCRIPT, noteId, userId, args.toArray(new byte[0][]));
+	}
+
+	/**
+	 * 스크립트 결과 코드 → 예외 변환
+	 */
+	private void checkScriptResult(long result, String noteId, Long clientVersion) {
+		if (result > 0) {
+			return;
+		}
+
+		BaseResponseStatus status = switch ((int)result) {
+			case SCRIPT_VERSION_CONFLICT, SCRIPT_LEGACY_DRAFT, SCRIPT_TEXT_MISSING ->
+				BaseResponseStatus.DRAFT_VERSION_CONFLICT;
+			case SCRIPT_INVALID_DELTA -> BaseResponseStatus.DRAFT_INVALID_DELTA;
+			case SCRIPT_INVALID_VERSION -> BaseResponseStatus.DRAFT_INVALID_VERSION;
+			case SCRIPT_ACCESS_DENIED -> BaseResponseStatus.DRAFT_ACCESS_DENIED;
+			case SCRIPT_NOT_FOUND -> BaseResponseStatus.DRAFT_NOT_FOUND;
+			default -> BaseResponseStatus.REDIS_ERROR;
+		};
+		log.warn("Draft 저장 거부 - NoteId: {}, ClientVersion: {}, Result: {}", noteId, clientVersion, status);
+		throw new BaseException(status);
+	}
+
+	/**
+	 * 이전 형식 Draft의 메타 정보 생성 (이미 있으면 유지)
+	 *
+	 * @param noteId  노트 ID
+	 * @param ownerId 소유자 ID
+	 * @param version 현재 버전
+	 */
+	private void initializeMeta(String noteId, Long ownerId, Long version) {
+		String metaKey = META_PREFIX + noteId;
+		stringRedisTemplate.opsForHash().putIfAbsent(metaKey, META_USER_ID, ownerId.toString());
+		stringRedisTemplate.opsForHash().putIfAbsent(metaKey, META_VERSION, version.toString());
+		stringRedisTemplate.expire(metaKey, DRAFT_TTL);
+		log.info("Draft 메타 정보 생성 (이전 형식) - NoteId: {}, Version: {}", noteId, version);
+	}
+
+	// 사용자별 SET 멤버 (SMEMBERS 조회와 같은 직렬화 사용)
+	@SuppressWarnings("unchecked")
+	private byte[] userDraftsMember(String noteId) {
+		return ((RedisSerializer<Object>)redisTemplate.getValueSerializer()).serialize(noteId);
+	}
+
+	private static byte[] bytes(Object value) {
+		return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
 	}
 
 	// ===== Draft 처리 상태 관리 (멱등성 보장) =====
@@ -434,6 +873,7 @@ public class NoteDraftService {
 			Boolean success = stringRedisTemplate.execute(
 				new SessionCallback<Boolean>() {
 					@Override
+					@SuppressWarnings("unchecked")
 					public Boolean execute(RedisOperations operations)
 						throws DataAccessException {
 
@@ -527,4 +967,132 @@ public class NoteDraftService {
 			log.error("Draft 처리 상태 롤백 실패 - DraftId: {}", draftId, e);
 		}
 	}
+
+	// ===== 처리 상태 일괄 관리 (자동 저장 배치용, 파이프라인 1회) =====
+
+	/**
+	 * 여러 Draft 처리 상태 일괄 확인 (MGET 1회)
+	 *
+	 * @param draftIds Draft UUID 목록
+	 * @return 입력 순서와 동일한 처리 상태 목록 (null=미처리)
+	 */
+	public List<String> getProcessingStatuses(List<String> draftIds) {
+		List<String> keys = draftIds.stream().map(id -> PROCESSED_PREFIX + id).toList();
+		List<String> statuses = stringRedisTemplate.opsForValue().multiGet(keys);
+		return statuses != null ? statuses : Collections.nCopies(draftIds.size(), null);
+	}
+
+	/**
+	 * 여러 Draft 처리 시작 일괄 표시 (SET NX 파이프라인 1회)
+	 *
+	 * 키별 SET NX는 원자적이므로 WATCH/MULTI 없이도 한 Draft는 한 요청만 선점
+	 *
+	 * @param draftIds Draft UUID 목록
+	 * @return 선점에 성공한 Draft UUID 목록 (나머지는 다른 요청이 처리 중)
+	 * @throws BaseException Redis 오류 시
+	 */
+	public List<String> markAllAsProcessing(List<String> draftIds) {
+		if (draftIds.isEmpty()) {
+			return List.of();
+		}
+
+		try {
+			List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations ops) throws DataAccessException {
+					for (String draftId : draftIds) {
+						ops.opsForValue().setIfAbsent(
+							PROCESSED_PREFIX + draftId, DraftProcessingStatus.PROCESSING, PROCESSED_TTL);
+					}
+					return null;
+				}
+			});
+
+			return IntStream.range(0, draftIds.size())
+				.filter(i -> Boolean.TRUE.equals(results.get(i)))
+				.mapToObj(draftIds::get)
+				.toList();
+
+		} catch (Exception e) {
+			log.error("Draft 처리 상태 일괄 기록 실패 - {}건", draftIds.size(), e);
+			throw new BaseException(BaseResponseStatus.REDIS_ERROR);
+		}
+	}
+
+	/**
+	 * 여러 Draft 처리 완료 일괄 기록 (파이프라인 1회)
+	 *
+	 * @param dbNoteIds Draft UUID → DB Note ID
+	 */
+	public void markAllAsCompleted(Map<String, Long> dbNoteIds) {
+		if (dbNoteIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations ops) throws DataAccessException {
+					dbNoteIds.forEach((draftId, dbNoteId) -> ops.opsForValue().set(
+						PROCESSED_PREFIX + draftId, String.valueOf(dbNoteId), PROCESSED_TTL));
+					return null;
+				}
+			});
+
+		} catch (Exception e) {
+			// 처리 완료 기록 실패해도 치명적이지 않음 (PROCESSING 상태로 TTL까지 중복 저장 방지)
+			log.error("Draft 처리 완료 일괄 기록 실패 - {}건", dbNoteIds.size(), e);
+		}
+	}
+
+	/**
+	 * 여러 Draft 처리 상태 일괄 초기화 (롤백용, DEL 1회)
+	 *
+	 * @param draftIds Draft UUID 목록
+	 */
+	public void rollbackProcessingStatuses(Collection<String> draftIds) {
+		if (draftIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			stringRedisTemplate.delete(draftIds.stream().map(id -> PROCESSED_PREFIX + id).toList());
+		} catch (Exception e) {
+			log.error("Draft 처리 상태 일괄 롤백 실패 - {}건", draftIds.size(), e);
+		}
+	}
+
+	/**
+	 * 여러 Draft 일괄 삭제 (파이프라인 1회, Best-effort)
+	 *
+	 * 저장소에서 읽은 Draft의 userId가 소유자이므로 별도 소유권 조회 없음
+	 * 실패해도 TTL로 자동 삭제되고, 처리 상태가 남아 있어 다음 주기에 정리됨
+	 *
+	 * @param drafts 삭제할 Draft 목록
+	 */
+	public void deleteDrafts(List<NoteDraft> drafts) {
+		if (drafts.isEmpty()) {
+			return;
+		}
+
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (NoteDraft draft : drafts) {
+					String noteId = draft.getNoteId();
+					connection.keyCommands().del(
+						bytes(DRAFT_PREFIX + noteId), bytes(DELTA_PREFIX + noteId), bytes(META_PREFIX + noteId));
+					connection.setCommands().sRem(bytes(USER_DRAFTS_PREFIX + draft.getUserId()), userDraftsMember(noteId));
+					connection.zSetCommands().zRem(bytes(MODIFIED_INDEX_KEY), bytes(noteId));
+				}
+				return null;
+			});
+
+			log.info("Draft 일괄 삭제 완료 - {}건", drafts.size());
+
+		} catch (Exception e) {
+			log.error("Draft 일괄 삭제 실패 - {}건", drafts.size(), e);
+		}
+	}
 }
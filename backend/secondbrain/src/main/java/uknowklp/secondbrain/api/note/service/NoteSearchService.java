@@ -1,18 +1,32 @@
 package uknowklp.secondbrain.api.note.service;
 
-import java.util.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.RefreshPolicy;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.convert.MappingConversionException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
@@ -20,9 +34,15 @@ import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.MultiMatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.TermQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uknowklp.secondbrain.api.note.domain.NoteDocument;
+import uknowklp.secondbrain.api.note.dto.NoteSearchSlice;
+import uknowklp.secondbrain.api.note.dto.SearchRanking;
 import uknowklp.secondbrain.api.note.dto.VectorSearchResult;
 import uknowklp.secondbrain.api.note.repository.NoteSearchRepository;
 import uknowklp.secondbrain.global.exception.BaseException;
@@ -33,58 +53,174 @@ import uknowklp.secondbrain.global.response.BaseResponseStatus;
 @RequiredArgsConstructor
 public class NoteSearchService {
 
+	private static final int RRF_K = 60; // RRF 상수
+	private static final double ELASTIC_WEIGHT = 0.3; // Elasticsearch 결과 가중치
+	private static final double VECTOR_WEIGHT = 0.7; // Vector 결과 가중치
+	private static final double MIN_SCORE_THRESHOLD = 0.007; // 최소 점수 임계값 (70% 기준)
+
 	private final NoteSearchRepository noteSearchRepository;
 	private final ElasticsearchOperations elasticsearchOperations;
 	private final VectorSearchService vectorSearchService;
-	private final EmbeddingService embeddingService;
+	private final QueryEmbeddingCache queryEmbeddingCache;
+	private final MeterRegistry meterRegistry;
+	private final ThreadPoolTaskExecutor searchExecutor;
+	private final SearchRankingCache searchRankingCache;
+
+	// ES / 벡터 검색 각각의 최대 조회 건수 (커서로 도달 가능한 최대 깊이)
+	@Value("${secondbrain.search.ranking-depth:200}")
+	private int rankingDepth;
+
+	// Elasticsearch 조회 제한 시간 (초과 시 빈 결과로 처리)
+	@Value("${secondbrain.search.elastic-timeout:3s}")
+	private Duration elasticTimeout;
+
+	// 임베딩 + Neo4j 조회 제한 시간 (초과 시 Elasticsearch 결과만 사용)
+	@Value("${secondbrain.search.vector-timeout:1500ms}")
+	private Duration vectorTimeout;
 
 	// 하이브리드 검색: Elasticsearch BM25 (70%) + Neo4j 벡터 유사도 (30%)
-	public Page<NoteDocument> searchByKeyword(String keyword, Long userId, Pageable pageable) {
+	// 병합 결과는 SearchRankingCache에 저장되어 같은 검색어의 다른 페이지는 재검색 없이 응답
+	public NoteSearchSlice searchByKeyword(String keyword, Long userId, Pageable pageable) {
 		// 키워드 검증
 		if (keyword == null || keyword.trim().isEmpty()) {
 			throw new BaseException(BaseResponseStatus.INVALID_SEARCH_KEYWORD);
 		}
 
+		return searchWithRanking(keyword, userId, (int) pageable.getOffset(), pageable.getPageSize());
+	}
+
+	/**
+	 * 커서 기반 다음 조각 조회
+	 *
+	 * 첫 검색에서 저장한 병합 순위를 잘라 해당 조각 문서만 multi-get으로 조회 (검색 쿼리, 임베딩 API, Neo4j 재조회 없음)
+	 * 커서 발급 후 노트가 변경되었으면 같은 검색어로 결과를 다시 만들어 같은 위치부터 반환
+	 *
+	 * @param cursor 이전 응답의 nextCursor
+	 * @param userId 요청 사용자 ID
+	 * @param size   조각 크기
+	 * @return 검색 결과 조각
+	 * @throws BaseException INVALID_SEARCH_CURSOR - 커서가 잘못되었거나 만료된 경우
+	 */
+	public NoteSearchSlice searchByCursor(String cursor, Long userId, int size) {
+		SearchRankingCache.Cursor decoded = SearchRankingCache.decodeCursor(cursor);
+
+		SearchRanking ranking = searchRankingCache.get(decoded.rankingId(), userId)
+			.orElseThrow(() -> new BaseException(BaseResponseStatus.INVALID_SEARCH_CURSOR));
+
+		OptionalLong generation = searchRankingCache.currentGeneration(userId);
+		if (generation.isEmpty() || generation.getAsLong() != ranking.generation()) {
+			return searchWithRanking(ranking.keyword(), userId, decoded.offset(), size);
+		}
+
+		return slice(ranking, decoded.rankingId(), decoded.offset(), size, null);
+	}
+
+	// 현재 세대의 병합 결과 조회 (없으면 검색 후 저장), 세대 번호를 알 수 없으면 캐시 없이 검색
+	private NoteSearchSlice searchWithRanking(String keyword, Long userId, int offset, int size) {
+		OptionalLong generation = searchRankingCache.currentGeneration(userId);
+		if (generation.isEmpty()) {
+			BuiltRanking built = buildRanking(keyword, userId);
+			return slice(new SearchRanking(userId, -1L, keyword, built.notes()), null, offset, size,
+				built.documents());
+		}
+
+		String rankingId = searchRankingCache.rankingId(
+			userId, generation.getAsLong(), QueryEmbeddingCache.normalize(keyword));
+		Optional<SearchRanking> cached = searchRankingCache.get(rankingId, userId);
+		if (cached.isPresent()) {
+			return slice(cached.get(), rankingId, offset, size, null);
+		}
+
+		// 병합 직후에는 이미 조회한 문서로 첫 조각을 만들고, 캐시에는 ID와 점수만 저장
+		BuiltRanking built = buildRanking(keyword, userId);
+		SearchRanking ranking = new SearchRanking(userId, generation.getAsLong(), keyword, built.notes());
+		searchRankingCache.put(rankingId, ranking);
+		return slice(ranking, rankingId, offset, size, built.documents());
+	}
+
+	/**
+	 * 병합 결과에서 [offset, offset + size) 구간 추출 및 다음 커서 생성 (rankingId가 없으면 커서 미발급)
+	 *
+	 * loaded가 없으면(캐시된 병합 결과) 해당 구간의 문서만 multi-get 1회로 조회
+	 * 병합 이후 삭제되어 조회되지 않는 노트는 조각에서 제외 (totalCount와 커서 위치는 병합 결과 기준 유지)
+	 */
+	private NoteSearchSlice slice(SearchRanking ranking, String rankingId, int offset, int size,
+		Map<Long, NoteDocument> loaded) {
+		List<SearchRanking.RankedNote> notes = ranking.notes();
+		int start = Math.min(offset, notes.size());
+		int end = Math.min(start + size, notes.size());
+
+		List<Long> pageIds = notes.subList(start, end).stream()
+			.map(SearchRanking.RankedNote::noteId)
+			.toList();
+		Map<Long, NoteDocument> documents = loaded != null ? loaded : fetchPageDocuments(pageIds);
+		List<NoteDocument> page = pageIds.stream()
+			.map(documents::get)
+			.filter(Objects::nonNull)
+			.toList();
+
+		String nextCursor = rankingId != null && end < notes.size()
+			? SearchRankingCache.encodeCursor(rankingId, end)
+			: null;
+
+		return new NoteSearchSlice(page, notes.size(), start, nextCursor);
+	}
+
+	// 캐시된 병합 결과의 한 조각에 해당하는 문서 일괄 조회 (mget 1회)
+	private Map<Long, NoteDocument> fetchPageDocuments(List<Long> pageIds) {
+		if (pageIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
 		try {
-			// 1. Elasticsearch 검색 (항상 실행)
-			CompletableFuture<List<NoteDocument>> elasticFuture = CompletableFuture.supplyAsync(() ->
-				searchByElasticsearch(keyword, userId, 100)
-			);
+			Map<Long, NoteDocument> documents = new HashMap<>();
+			for (NoteDocument doc : noteSearchRepository.findAllById(
+				pageIds.stream().map(String::valueOf).toList())) {
+				documents.put(doc.getId(), doc);
+			}
+			return documents;
+		} catch (Exception e) {
+			log.error("검색 결과 조각 문서 조회 실패 - 요청: {}건, 오류: {}", pageIds.size(), e.getMessage(), e);
+			throw new BaseException(BaseResponseStatus.ELASTICSEARCH_ERROR);
+		}
+	}
+
+	// ES + 벡터 검색 병렬 실행 후 RRF 병합 (최대 rankingDepth건씩 조회)
+	private BuiltRanking buildRanking(String keyword, Long userId) {
+		try {
+			// 1. Elasticsearch 검색 (항상 실행, 전용 풀에서 실행)
+			CompletableFuture<List<NoteDocument>> elasticFuture = runLeg("elasticsearch", elasticTimeout,
+				() -> searchByElasticsearch(keyword, userId, rankingDepth));
 
-			// 2. 임베딩 벡터 생성 및 Neo4j 검색 (실패 시 빈 리스트 반환)
-			CompletableFuture<List<VectorSearchResult>> vectorFuture = CompletableFuture.supplyAsync(() -> {
+			// 2. 임베딩 벡터 조회(캐시 우선) 및 Neo4j 검색 (실패/시간 초과 시 빈 리스트 반환)
+			CompletableFuture<List<VectorSearchResult>> vectorFuture = runLeg("vector", vectorTimeout, () -> {
 				try {
-					List<Double> queryEmbedding = embeddingService.generateEmbedding(keyword);
-					return vectorSearchService.searchSimilarNotes(userId, queryEmbedding, 100);
+					float[] queryEmbedding = queryEmbeddingCache.getEmbedding(keyword);
+					return vectorSearchService.searchSimilarNotes(userId, queryEmbedding, rankingDepth);
 				} catch (Exception e) {
 					log.warn("벡터 검색 실패, Elasticsearch만 사용 - 키워드: {}, 오류: {}", keyword, e.getMessage());
 					return Collections.emptyList();
 				}
 			});
 
-			// 3. 두 검색 결과 대기
+			// 3. 두 검색 결과 대기 (각 단계는 제한 시간 내 완료 또는 빈 결과)
 			List<NoteDocument> elasticResults = elasticFuture.join();
 			List<VectorSearchResult> vectorResults = vectorFuture.join();
 
-			// 4. RRF로 검색 결과 병합 및 재정렬 (벡터 결과가 없으면 Elasticsearch만 반환)
-			List<NoteDocument> mergedResults = vectorResults.isEmpty()
-				? elasticResults
+			// 4. RRF로 검색 결과 병합 및 재정렬 (벡터 결과가 없으면 Elasticsearch 순위 그대로 사용)
+			BuiltRanking mergedResults = vectorResults.isEmpty()
+				? rankElasticOnly(elasticResults)
 				: mergeAndRerank(elasticResults, vectorResults);
 
-			// 5. 페이징 적용
-			int start = (int) pageable.getOffset();
-			int end = Math.min(start + pageable.getPageSize(), mergedResults.size());
-			List<NoteDocument> pagedResults = mergedResults.subList(start, end);
-
 			if (vectorResults.isEmpty()) {
 				log.info("Elasticsearch 전용 검색 완료 - 키워드: '{}', 결과: {}건",
 					keyword, elasticResults.size());
 			} else {
 				log.info("하이브리드 검색 완료 - 키워드: '{}', Elastic: {}건, Vector: {}건, 최종: {}건",
-					keyword, elasticResults.size(), vectorResults.size(), mergedResults.size());
+					keyword, elasticResults.size(), vectorResults.size(), mergedResults.notes().size());
 			}
 
-			return new PageImpl<>(pagedResults, pageable, mergedResults.size());
+			return mergedResults;
 		} catch (BaseException e) {
 			throw e;
 		} catch (Exception e) {
@@ -93,6 +229,52 @@ public class NoteSearchService {
 		}
 	}
 
+	/**
+	 * 검색 단계(leg)를 전용 풀에서 실행하고 제한 시간 적용
+	 *
+	 * - 실행 시간은 search.leg{leg} 타이머로 기록
+	 * - 제한 시간 초과 시 search.leg.timeout{leg} 카운터 증가 후 빈 결과 반환
+	 * - 초과된 작업은 백그라운드에서 마저 끝나지만 결과는 사용하지 않음
+	 * - 풀이 가득 차 거절되면 search.leg.rejected{leg} 카운터 증가 후 빈 결과 반환
+	 *   (요청 스레드에서 실행하면 제한 시간이 적용되지 않으므로 시간 초과와 같이 처리)
+	 */
+	private <T> CompletableFuture<List<T>> runLeg(String leg, Duration timeout, Supplier<List<T>> supplier) {
+		Timer timer = Timer.builder("search.leg")
+			.description("하이브리드 검색 단계별 실행 시간")
+			.tag("leg", leg)
+			.register(meterRegistry);
+
+		CompletableFuture<List<T>> future;
+		try {
+			future = CompletableFuture.supplyAsync(() -> timer.record(supplier), searchExecutor);
+		} catch (RejectedExecutionException e) {
+			Counter.builder("search.leg.rejected")
+				.description("하이브리드 검색 단계별 스레드 풀 포화로 거절된 횟수")
+				.tag("leg", leg)
+				.register(meterRegistry)
+				.increment();
+			log.warn("검색 단계 거절 (검색 스레드 풀 포화) - leg: {}", leg);
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		return future
+			.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+			.exceptionally(e -> {
+				Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+				if (cause instanceof TimeoutException) {
+					Counter.builder("search.leg.timeout")
+						.description("하이브리드 검색 단계별 시간 초과 횟수")
+						.tag("leg", leg)
+						.register(meterRegistry)
+						.increment();
+					log.warn("검색 단계 시간 초과 - leg: {}, 제한: {}ms", leg, timeout.toMillis());
+				} else {
+					log.warn("검색 단계 실패 - leg: {}, 오류: {}", leg, cause.getMessage());
+				}
+				return Collections.emptyList();
+			});
+	}
+
 	// Elasticsearch 전용 검색 (BM25 키워드 매칭)
 	private List<NoteDocument> searchByElasticsearch(String keyword, Long userId, int limit) {
 		try {
@@ -142,13 +324,25 @@ public class NoteSearchService {
 		}
 	}
 
+	// Elasticsearch 결과만 있을 때 순위 그대로 RRF 점수 부여 (병합 결과와 같은 형식)
+	private BuiltRanking rankElasticOnly(List<NoteDocument> elasticResults) {
+		List<SearchRanking.RankedNote> notes = new ArrayList<>(elasticResults.size());
+		Map<Long, NoteDocument> documentMap = new HashMap<>();
+
+		for (int i = 0; i < elasticResults.size(); i++) {
+			NoteDocument doc = elasticResults.get(i);
+			notes.add(new SearchRanking.RankedNote(doc.getId(), ELASTIC_WEIGHT / (RRF_K + i + 1)));
+			documentMap.put(doc.getId(), doc);
+		}
+
+		return new BuiltRanking(notes, documentMap);
+	}
+
 	// RRF (Reciprocal Rank Fusion) 알고리즘으로 검색 결과 병합
-	private List<NoteDocument> mergeAndRerank(
+	private BuiltRanking mergeAndRerank(
 		List<NoteDocument> elasticResults,
 		List<VectorSearchResult> vectorResults
 	) {
-		final int k = 60; // RRF 상수
-		final double MIN_SCORE_THRESHOLD = 0.007; // 최소 점수 임계값 (70% 기준)
 		Map<Long, Double> scoreMap = new HashMap<>();
 		Map<Long, NoteDocument> documentMap = new HashMap<>();
 
@@ -156,7 +350,7 @@ public class NoteSearchService {
 		for (int i = 0; i < elasticResults.size(); i++) {
 			NoteDocument doc = elasticResults.get(i);
 			Long noteId = doc.getId();
-			double rrfScore = 0.3 / (k + i + 1); // rank는 0부터 시작하므로 +1
+			double rrfScore = ELASTIC_WEIGHT / (RRF_K + i + 1); // rank는 0부터 시작하므로 +1
 			scoreMap.put(noteId, scoreMap.getOrDefault(noteId, 0.0) + rrfScore);
 			documentMap.put(noteId, doc);
 		}
@@ -165,28 +359,59 @@ public class NoteSearchService {
 		for (int i = 0; i < vectorResults.size(); i++) {
 			VectorSearchResult result = vectorResults.get(i);
 			Long noteId = result.noteId();
-			double rrfScore = 0.7 / (k + i + 1);
+			double rrfScore = VECTOR_WEIGHT / (RRF_K + i + 1);
 			scoreMap.put(noteId, scoreMap.getOrDefault(noteId, 0.0) + rrfScore);
+		}
 
-			// Vector 결과에만 있는 문서는 Elasticsearch에서 조회
-			if (!documentMap.containsKey(noteId)) {
-				noteSearchRepository.findById(noteId.toString())
-					.ifPresent(doc -> documentMap.put(noteId, doc));
-			}
+		// Vector 결과에만 있고 임계값을 넘는 문서만 골라 한 번의 multi-get으로 조회
+		List<String> missingIds = scoreMap.entrySet().stream()
+			.filter(entry -> entry.getValue() >= MIN_SCORE_THRESHOLD)
+			.map(Map.Entry::getKey)
+			.filter(noteId -> !documentMap.containsKey(noteId))
+			.map(String::valueOf)
+			.toList();
+
+		if (!missingIds.isEmpty()) {
+			fetchMissingDocuments(missingIds, documentMap);
 		}
 
-		// 최소 점수 이상만 필터링하고 점수 기준 정렬
-		List<NoteDocument> filteredResults = scoreMap.entrySet().stream()
+		// 최소 점수 이상이고 문서가 조회된 노트만 남겨 점수 기준 정렬
+		List<SearchRanking.RankedNote> filteredResults = scoreMap.entrySet().stream()
 			.filter(entry -> entry.getValue() >= MIN_SCORE_THRESHOLD)
+			.filter(entry -> documentMap.containsKey(entry.getKey()))
 			.sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
-			.map(entry -> documentMap.get(entry.getKey()))
-			.filter(Objects::nonNull)
+			.map(entry -> new SearchRanking.RankedNote(entry.getKey(), entry.getValue()))
 			.toList();
 
-		log.debug("RRF 병합 완료 - 전체: {}건, 임계값({}) 이상: {}건",
-			scoreMap.size(), MIN_SCORE_THRESHOLD, filteredResults.size());
+		log.debug("RRF 병합 완료 - 전체: {}건, 임계값({}) 이상: {}건, 추가 조회: {}건",
+			scoreMap.size(), MIN_SCORE_THRESHOLD, filteredResults.size(), missingIds.size());
+
+		return new BuiltRanking(filteredResults, documentMap);
+	}
+
+	// Vector 전용 결과 문서 일괄 조회 (mget 1회) 및 조회 건수/소요 시간 기록
+	private void fetchMissingDocuments(List<String> missingIds, Map<Long, NoteDocument> documentMap) {
+		long startNanos = System.nanoTime();
+		int fetched = 0;
 
-		return filteredResults;
+		for (NoteDocument doc : noteSearchRepository.findAllById(missingIds)) {
+			documentMap.put(doc.getId(), doc);
+			fetched++;
+		}
+
+		long elapsedNanos = System.nanoTime() - startNanos;
+
+		Timer.builder("search.merge.fetch")
+			.description("RRF 병합 시 Vector 전용 문서 일괄 조회 시간")
+			.register(meterRegistry)
+			.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		DistributionSummary.builder("search.merge.fetch.documents")
+			.description("RRF 병합 시 일괄 조회한 문서 수")
+			.register(meterRegistry)
+			.record(missingIds.size());
+
+		log.debug("Vector 전용 문서 일괄 조회 - 요청: {}건, 조회: {}건, 소요: {}ms",
+			missingIds.size(), fetched, elapsedNanos / 1_000_000);
 	}
 
 	// 특정 노트와 유사한 노트 찾기 (연관 높은 노트 추천)
@@ -275,6 +500,12 @@ public class NoteSearchService {
 		noteSearchRepository.save(noteDocument);
 	}
 
+	// 노트 일괄 인덱싱 (SearchIndexWorker에서 bulk API로 호출)
+	public void bulkIndexNotes(List<NoteDocument> noteDocuments) {
+		// 검색 가능해질 때까지 대기 (이후 검색 캐시 세대를 올리므로 반영 전 결과가 캐시되지 않음)
+		noteSearchRepository.saveAll(noteDocuments, RefreshPolicy.WAIT_UNTIL);
+	}
+
 	// 노트 삭제 (Note 삭제 시 호출)
 	public void deleteNote(Long noteId) {
 		noteSearchRepository.deleteById(noteId.toString());
@@ -282,6 +513,13 @@ public class NoteSearchService {
 
 	// 노트 일괄 삭제
 	public void bulkDeleteNotes(List<String> noteIds) {
-		noteSearchRepository.deleteAllById(noteIds);
+		noteSearchRepository.deleteAllById(noteIds, RefreshPolicy.WAIT_UNTIL);
+	}
+
+	/**
+	 * 병합 직후의 결과 (캐시에 저장할 순위 + 병합 중 이미 조회한 문서)
+	 * 문서는 첫 조각 응답에만 사용하고 캐시에는 저장하지 않음
+	 */
+	private record BuiltRanking(List<SearchRanking.RankedNote> notes, Map<Long, NoteDocument> documents) {
 	}
 }
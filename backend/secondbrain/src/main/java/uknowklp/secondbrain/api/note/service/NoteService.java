@@ -3,6 +3,7 @@ package uknowklp.secondbrain.api.note.service;
 import java.util.List;
 
 import uknowklp.secondbrain.api.note.domain.Note;
+import uknowklp.secondbrain.api.note.dto.NoteCreateCommand;
 import uknowklp.secondbrain.api.note.dto.NoteRecentResponse;
 import uknowklp.secondbrain.api.note.dto.NoteReminderResponse;
 import uknowklp.secondbrain.api.note.dto.NoteRequest;
@@ -12,6 +13,9 @@ public interface NoteService {
 	// 노트 생성
 	Note createNote(Long userId, NoteRequest request);
 
+	// 노트 일괄 생성 (JDBC batch, 하나라도 검증 실패 시 전체 롤백)
+	List<Note> createNotes(List<NoteCreateCommand> commands);
+
 	// 노트 조회 (권한 검증 포함)
 	NoteResponse getNoteById(Long noteId, Long userId);
 
@@ -1,9 +1,13 @@
 package uknowklp.secondbrain.api.note.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -12,14 +16,17 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uknowklp.secondbrain.api.note.domain.Note;
-import uknowklp.secondbrain.api.note.domain.NoteDocument;
+import uknowklp.secondbrain.api.note.domain.SearchIndexTask;
 import uknowklp.secondbrain.api.note.dto.KnowledgeGraphEvent;
+import uknowklp.secondbrain.api.note.dto.NoteCreateCommand;
 import uknowklp.secondbrain.api.note.dto.NoteRecentResponse;
 import uknowklp.secondbrain.api.note.dto.NoteReminderResponse;
 import uknowklp.secondbrain.api.note.dto.NoteReminderResult;
 import uknowklp.secondbrain.api.note.dto.NoteRequest;
 import uknowklp.secondbrain.api.note.dto.NoteResponse;
+import uknowklp.secondbrain.api.note.event.ReminderQuestionRequestedEvent;
 import uknowklp.secondbrain.api.note.repository.NoteRepository;
+import uknowklp.secondbrain.api.note.repository.SearchIndexTaskRepository;
 import uknowklp.secondbrain.api.user.domain.User;
 import uknowklp.secondbrain.api.user.service.UserService;
 import uknowklp.secondbrain.global.exception.BaseException;
@@ -33,8 +40,9 @@ public class NoteServiceImpl implements NoteService {
 
 	private final NoteRepository noteRepository;
 	private final UserService userService;
-	private final NoteSearchService noteSearchService;
+	private final SearchIndexTaskRepository searchIndexTaskRepository;
 	private final KnowledgeGraphProducerService knowledgeGraphProducerService;
+	private final ApplicationEventPublisher eventPublisher;
 
 
 	@Override
@@ -62,15 +70,8 @@ public class NoteServiceImpl implements NoteService {
 		Note savedNote = noteRepository.save(note);
 		log.info("노트 생성 완료 - 노트 ID: {}, 사용자 ID: {}", savedNote.getId(), userId);
 
-		// Elasticsearch에 인덱싱
-		try {
-			NoteDocument noteDocument = NoteDocument.from(savedNote);
-			noteSearchService.indexNote(noteDocument);
-			log.info("Elasticsearch 인덱싱 완료 - 노트 ID: {}", savedNote.getId());
-		} catch (Exception e) {
-			log.error("Elasticsearch 인덱싱 실패 - 노트 ID: {}", savedNote.getId(), e);
-			// Elasticsearch 인덱싱 실패는 메인 로직에 영향 없음
-		}
+		// Elasticsearch 인덱싱 작업 등록 (같은 트랜잭션, SearchIndexWorker가 비동기 반영)
+		searchIndexTaskRepository.save(SearchIndexTask.index(savedNote.getId(), userId));
 
 		// 지식 그래프 created 이벤트 발행
 		knowledgeGraphProducerService.publishNoteCreated(
@@ -83,6 +84,49 @@ public class NoteServiceImpl implements NoteService {
 		return savedNote;
 	}
 
+	/**
+	 * 노트 일괄 생성 (Draft 자동 저장 배치용)
+	 *
+	 * createNote와 같은 검증/후속 작업을 수행하되 INSERT는 JDBC batch 1회로 처리
+	 * - 사용자 조회는 사용자별 1회
+	 * - 검색 인덱스 작업, 지식 그래프 이벤트는 같은 트랜잭션에서 노트별 등록
+	 * - 검증 실패 시 BaseException → 전체 롤백 (호출 측에서 항목별로 재시도)
+	 *
+	 * @return 입력 순서와 동일한 생성된 노트 목록
+	 */
+	@Override
+	public List<Note> createNotes(List<NoteCreateCommand> commands) {
+		Map<Long, User> users = new HashMap<>();
+		List<Note> notes = new ArrayList<>(commands.size());
+
+		for (NoteCreateCommand command : commands) {
+			validateNoteRequest(command.request());
+			validateContentLength(command.request().getContent());
+
+			User user = users.computeIfAbsent(command.userId(), userId -> userService.findById(userId)
+				.orElseThrow(() -> new BaseException(BaseResponseStatus.USER_NOT_FOUND)));
+
+			notes.add(Note.builder()
+				.user(user)
+				.title(command.request().getTitle())
+				.content(command.request().getContent())
+				.build());
+		}
+
+		List<Note> savedNotes = noteRepository.insertAll(notes);
+
+		searchIndexTaskRepository.saveAll(savedNotes.stream()
+			.map(note -> SearchIndexTask.index(note.getId(), note.getUser().getId()))
+			.toList());
+		for (Note note : savedNotes) {
+			knowledgeGraphProducerService.publishNoteCreated(
+				note.getId(), note.getUser().getId(), note.getTitle(), note.getContent());
+		}
+
+		log.info("노트 일괄 생성 완료 - {}건, 사용자 {}명", savedNotes.size(), users.size());
+		return savedNotes;
+	}
+
 	@Override
 	public NoteResponse getNoteById(Long noteId, Long userId) {
 		log.info("Getting note ID: {} for user ID: {}",noteId, userId);
@@ -134,13 +178,13 @@ public class NoteServiceImpl implements NoteService {
 		Note updatedNote = noteRepository.save(note);
 		log.info("노트 수정 완료 - 노트 ID: {}, 사용자 ID: {}", noteId, userId);
 
-		// Elasticsearch 인덱스 업데이트
-		try {
-			NoteDocument noteDocument = NoteDocument.from(updatedNote);
-			noteSearchService.indexNote(noteDocument);
-			log.info("Elasticsearch 인덱스 업데이트 완료 - 노트 ID: {}", noteId);
-		} catch (Exception e) {
-			log.error("Elasticsearch 인덱스 업데이트 실패 - 노트 ID: {}", noteId, e);
+		// Elasticsearch 인덱스 업데이트 작업 등록 (연속 수정은 워커에서 1회로 병합)
+		searchIndexTaskRepository.save(SearchIndexTask.index(noteId, userId));
+
+		// 리마인더가 켜진 노트는 바뀐 내용으로 질문 미리 생성 (커밋 후 처리)
+		if (updatedNote.isReminderEnable()) {
+			eventPublisher.publishEvent(new ReminderQuestionRequestedEvent(
+				noteId, updatedNote.getTitle(), updatedNote.getContent()));
 		}
 
 		// 지식 그래프 updated 이벤트 발행
@@ -189,22 +233,17 @@ public class NoteServiceImpl implements NoteService {
 		noteRepository.deleteAll(notesToDelete);
 		log.info("노트 삭제 완료 - 삭제된 노트 수: {}, 사용자 ID: {}", notesToDelete.size(), userId);
 
-		// 3단계 : Elasticsearch 인덱스 삭제
-		List<String> elasticNoteIds = notesToDelete.stream()
-			.map(note -> note.getId().toString())
+		// 3단계 : Elasticsearch 인덱스 삭제 작업 등록 (워커가 bulk API로 반영)
+		List<SearchIndexTask> deleteTasks = notesToDelete.stream()
+			.map(note -> SearchIndexTask.delete(note.getId(), userId))
 			.toList();
+		searchIndexTaskRepository.saveAll(deleteTasks);
 
-		try {
-			noteSearchService.bulkDeleteNotes(elasticNoteIds);
-			log.info("Elasticsearch bulk 삭제 완료 - 삭제된 노트 수: {}", elasticNoteIds.size());
-		} catch (Exception e) {
-			log.error("Elasticsearch bulk 삭제 실패", e);
-		}
-
-		// 지식 그래프 deleted 이벤트 발행
-		for (Note note : notesToDelete) {
-			knowledgeGraphProducerService.publishNoteDeleted(note.getId(), userId);
-		}
+		// 지식 그래프 일괄 삭제 이벤트 발행 (노트별 이벤트 대신 묶어서 발행)
+		knowledgeGraphProducerService.publishNotesDeleted(
+			notesToDelete.stream().map(Note::getId).toList(),
+			userId
+		);
 	}
 
 	private void validateNoteRequest(NoteRequest request) {
@@ -258,7 +297,9 @@ public class NoteServiceImpl implements NoteService {
 		note.enableReminder(firstReminderTime);
 		Note savedNote = noteRepository.save(note);
 
-		// 스케줄러가 자동으로 처리하므로 별도 예약 불필요
+		// 스케줄러가 자동으로 처리하므로 별도 예약 불필요, 질문은 첫 발송 전에 미리 생성 (커밋 후 처리)
+		eventPublisher.publishEvent(new ReminderQuestionRequestedEvent(
+			savedNote.getId(), savedNote.getTitle(), savedNote.getContent()));
 		log.info("리마인더 활성화 완료 - noteId: {}, 첫 발송: {}", savedNote.getId(), savedNote.getRemindAt());
 
 		return savedNote;
@@ -0,0 +1,207 @@
+package uknowklp.secondbrain.api.note.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 임베딩 2단계 캐시
+ *
+ * 조회 순서:
+ * 1. 로컬 캐시 (Caffeine W-TinyLFU, 인스턴스별, 크기 제한)
+ * 2. Redis 캐시 (인스턴스 간 공유, TTL)
+ * 3. EmbeddingService 원격 호출 (GMS)
+ *
+ * 검색어 정규화:
+ * - NFC 정규화 → 앞뒤 공백 제거 → 연속 공백 1칸으로 축소 → 소문자 변환
+ * - " Spring  Boot " 와 "spring boot" 는 같은 임베딩을 재사용
+ *
+ * 저장 형식:
+ * - 로컬: float[] (1536차원 기준 약 6KB, 반환 시 복사/박싱 없음)
+ * - Redis: float[]를 little-endian 바이트 배열로 저장 (JSON 파싱 비용 없음)
+ * - Redis 키에 임베딩 모델명 포함 → 모델 변경 시 이전 벡터를 재사용하지 않음
+ *
+ * 동시성:
+ * - 같은 검색어가 동시에 요청되면 Caffeine이 로딩을 1회로 합침 (원격 호출 중복 방지)
+ * - Redis 장애 시 캐시 없이 원격 호출로 진행 (검색은 계속 동작)
+ *
+ * 지표 (Micrometer):
+ * - search.embedding.cache{tier=local|redis, result=hit|miss}
+ * - cache.gets / cache.evictions / cache.size {cache=query-embedding}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueryEmbeddingCache {
+
+	private static final String REDIS_KEY_PREFIX = "embedding:query:";
+	private static final String CACHE_NAME = "query-embedding";
+	private static final String METRIC_NAME = "search.embedding.cache";
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final EmbeddingService embeddingService;
+	private final RedisTemplate<String, byte[]> embeddingRedisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${gms.embedding-model}")
+	private String embeddingModel;
+
+	// 로컬 캐시 최대 항목 수 (1536차원 기준 10,000개 ≈ 60MB)
+	@Value("${secondbrain.search.embedding-cache.local-max-size:10000}")
+	private long localMaxSize;
+
+	// 로컬 캐시 만료 시간 (마지막 접근 기준)
+	@Value("${secondbrain.search.embedding-cache.local-ttl:30m}")
+	private Duration localTtl;
+
+	// Redis 캐시 만료 시간
+	@Value("${secondbrain.search.embedding-cache.redis-ttl:7d}")
+	private Duration redisTtl;
+
+	private Cache<String, float[]> localCache;
+	private Counter localHit;
+	private Counter localMiss;
+	private Counter redisHit;
+	private Counter redisMiss;
+
+	@PostConstruct
+	public void init() {
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(localMaxSize)
+			.expireAfterAccess(localTtl)
+			.recordStats()
+			.build();
+
+		// Caffeine 통계 (적중률, 축출 수, 크기) 등록
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+		this.localHit = counter("local", "hit");
+		this.localMiss = counter("local", "miss");
+		this.redisHit = counter("redis", "hit");
+		this.redisMiss = counter("redis", "miss");
+
+		log.debug("검색어 임베딩 캐시 초기화 - 로컬 최대: {}개, 로컬 TTL: {}, Redis TTL: {}",
+			localMaxSize, localTtl, redisTtl);
+	}
+
+	/**
+	 * 검색어 임베딩 조회 (로컬 → Redis → 원격 순)
+	 *
+	 * 반환된 배열은 캐시와 공유되므로 읽기 전용으로만 사용해야 함
+	 *
+	 * @param keyword 사용자 입력 검색어
+	 * @return 정규화된 검색어의 임베딩 벡터 (읽기 전용)
+	 */
+	public float[] getEmbedding(String keyword) {
+		String normalized = normalize(keyword);
+
+		float[] cached = localCache.getIfPresent(normalized);
+		if (cached != null) {
+			localHit.increment();
+			return cached;
+		}
+
+		localMiss.increment();
+
+		// 동일 검색어 동시 요청은 한 번만 로딩
+		return localCache.get(normalized, this::loadFromRedisOrRemote);
+	}
+
+	/**
+	 * 검색어 정규화
+	 *
+	 * 대소문자, 공백 차이만 있는 검색어를 같은 키로 취급
+	 *
+	 * @param keyword 원본 검색어
+	 * @return 정규화된 검색어
+	 */
+	static String normalize(String keyword) {
+		String nfc = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+		return WHITESPACE.matcher(nfc.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+	}
+
+	// ===== Private Helper Methods =====
+
+	private float[] loadFromRedisOrRemote(String normalized) {
+		String redisKey = redisKey(normalized);
+
+		// 1. Redis 조회 (실패해도 원격 호출로 진행)
+		try {
+			byte[] bytes = embeddingRedisTemplate.opsForValue().get(redisKey);
+			if (bytes != null) {
+				redisHit.increment();
+				return fromBytes(bytes);
+			}
+		} catch (Exception e) {
+			log.warn("임베딩 캐시 Redis 조회 실패 - 원격 호출로 진행: {}", e.getMessage());
+		}
+
+		redisMiss.increment();
+
+		// 2. 원격 임베딩 생성
+		float[] vector = embeddingService.generateEmbedding(normalized);
+
+		// 3. Redis 저장 (Best-effort)
+		try {
+			embeddingRedisTemplate.opsForValue().set(redisKey, toBytes(vector), redisTtl);
+		} catch (Exception e) {
+			log.warn("임베딩 캐시 Redis 저장 실패: {}", e.getMessage());
+		}
+
+		return vector;
+	}
+
+	private String redisKey(String normalized) {
+		return REDIS_KEY_PREFIX + embeddingModel + ":" + sha256Hex(normalized);
+	}
+
+	private Counter counter(String tier, String result) {
+		return Counter.builder(METRIC_NAME)
+			.description("검색어 임베딩 캐시 조회 결과")
+			.tag("tier", tier)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private static String sha256Hex(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+		}
+	}
+
+	static byte[] toBytes(float[] vector) {
+		ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.asFloatBuffer().put(vector);
+		return buffer.array();
+	}
+
+	static float[] fromBytes(byte[] bytes) {
+		float[] vector = new float[bytes.length / Float.BYTES];
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+		return vector;
+	}
+}
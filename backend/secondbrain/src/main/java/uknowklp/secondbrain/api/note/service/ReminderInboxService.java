@@ -0,0 +1,133 @@
+package uknowklp.secondbrain.api.note.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uknowklp.secondbrain.api.note.dto.ReminderNotification;
+
+/**
+ * 리마인더 수신함 (오프라인 사용자용)
+ *
+ * 저장:
+ * - Redis Stream reminder:inbox:{userId} (필드 data = 알림 JSON)
+ * - 사용자별 최대 maxSize건, 마지막 추가 후 ttl 동안 유지
+ *
+ * 처리 흐름:
+ * 1. 발송 시 수신함에 먼저 추가 후 스트림 ID(inboxId)를 담아 WebSocket 전송
+ * 2. 클라이언트가 /app/reminder/ack로 inboxId를 보내면 수신함에서 삭제
+ * 3. /topic/reminder/{userId} 구독 시 확인되지 않은 알림을 다시 전송 (미연결 중 발송분 포함)
+ *
+ * 전달 보장:
+ * - at-least-once (재구독 시 중복 수신 가능, 클라이언트는 inboxId로 중복 제거)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderInboxService {
+
+	private static final String KEY_PREFIX = "reminder:inbox:";
+	private static final String DATA_FIELD = "data";
+
+	private static final RedisScript<String> APPEND_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/reminder-inbox-append.lua"), String.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final SimpMessagingTemplate messagingTemplate;
+
+	// 사용자별 최대 보관 알림 수
+	@Value("${secondbrain.reminder.inbox.max-size:50}")
+	private int maxSize;
+
+	// 수신함 유지 시간 (마지막 알림 추가 기준)
+	@Value("${secondbrain.reminder.inbox.ttl:7d}")
+	private Duration ttl;
+
+	/**
+	 * 수신함에 알림 추가
+	 *
+	 * @return inboxId가 부여된 알림 (저장 실패 시 원본 그대로 반환, 실시간 전송은 계속 진행)
+	 */
+	public ReminderNotification append(Long userId, ReminderNotification notification) {
+		try {
+			String inboxId = stringRedisTemplate.execute(APPEND_SCRIPT, List.of(key(userId)),
+				String.valueOf(maxSize), String.valueOf(ttl.toMillis()), objectMapper.writeValueAsString(notification));
+			return notification.withInboxId(inboxId);
+		} catch (Exception e) {
+			log.warn("리마인더 수신함 저장 실패 - userId: {}, noteId: {}, error: {}",
+				userId, notification.noteId(), e.getMessage());
+			return notification;
+		}
+	}
+
+	/**
+	 * 확인되지 않은 알림 조회 (오래된 순)
+	 */
+	public List<ReminderNotification> getPending(Long userId) {
+		List<MapRecord<String, Object, Object>> records =
+			stringRedisTemplate.opsForStream().range(key(userId), Range.unbounded());
+		if (records == null || records.isEmpty()) {
+			return List.of();
+		}
+
+		List<ReminderNotification> notifications = new ArrayList<>(records.size());
+		for (MapRecord<String, Object, Object> record : records) {
+			try {
+				ReminderNotification notification = objectMapper.readValue(
+					(String) record.getValue().get(DATA_FIELD), ReminderNotification.class);
+				notifications.add(notification.withInboxId(record.getId().getValue()));
+			} catch (Exception e) {
+				log.warn("리마인더 수신함 항목 읽기 실패 - userId: {}, inboxId: {}", userId, record.getId());
+			}
+		}
+		return notifications;
+	}
+
+	/**
+	 * 구독 직후 확인되지 않은 알림 재전송
+	 *
+	 * 구독한 세션이 이 인스턴스에 있으므로 중계 없이 로컬 브로커로 전송
+	 */
+	public void replay(Long userId) {
+		try {
+			List<ReminderNotification> pending = getPending(userId);
+			String destination = "/topic/reminder/" + userId;
+			for (ReminderNotification notification : pending) {
+				messagingTemplate.convertAndSend(destination, notification);
+			}
+			if (!pending.isEmpty()) {
+				log.info("리마인더 수신함 재전송 - userId: {}, count: {}", userId, pending.size());
+			}
+		} catch (Exception e) {
+			log.warn("리마인더 수신함 재전송 실패 - userId: {}, error: {}", userId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 수신 확인된 알림 삭제
+	 */
+	public void acknowledge(Long userId, List<String> inboxIds) {
+		if (inboxIds == null || inboxIds.isEmpty()) {
+			return;
+		}
+		stringRedisTemplate.opsForStream().delete(key(userId), inboxIds.toArray(String[]::new));
+	}
+
+	private static String key(Long userId) {
+		return KEY_PREFIX + userId;
+	}
+}
@@ -2,20 +2,21 @@ package uknowklp.secondbrain.api.note.service;
 
 import java.time.LocalDateTime;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import uknowklp.secondbrain.api.note.domain.Note;
 import uknowklp.secondbrain.api.note.dto.ReminderNotification;
+import uknowklp.secondbrain.global.websocket.StompMessageRelay;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReminderNotificationService {
 
-	private final SimpMessagingTemplate messagingTemplate;
+	private final StompMessageRelay stompMessageRelay;
+	private final ReminderInboxService reminderInboxService;
 
 	// 리마인더 알림 전송
 	public void sendReminder(Note note, String question, int currentRemindCount) {
@@ -30,9 +31,12 @@ public class ReminderNotificationService {
 			.timestamp(LocalDateTime.now())
 			.build();
 
-		// WebSocket으로 전송 (/topic/reminder/{userId})
+		// 미연결 사용자를 위해 수신함에 먼저 저장 (재구독 시 재전송, 클라이언트 수신 확인 시 삭제)
+		notification = reminderInboxService.append(userId, notification);
+
+		// WebSocket으로 전송 (/topic/reminder/{userId}, 브로커 모드에 따라 모든 인스턴스로 중계)
 		String destination = "/topic/reminder/" + userId;
-		messagingTemplate.convertAndSend(destination, notification);
+		stompMessageRelay.convertAndSend(destination, notification);
 
 		log.info("WebSocket 알림 전송 완료 - userId: {}, noteId: {}, remindCount: {}/3, destination: {}",
 			userId, note.getId(), currentRemindCount + 1, destination);
@@ -0,0 +1,214 @@
+package uknowklp.secondbrain.api.note.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import uknowklp.secondbrain.api.gms.service.GmsQuestionService;
+import uknowklp.secondbrain.api.note.domain.Note;
+
+/**
+ * 리마인더 질문 사전 생성/캐시
+ *
+ * 저장:
+ * - Redis reminder:question:{noteId}:{contentHash} (TTL)
+ * - contentHash = SHA-256(제목 + 내용) → 노트 내용이 바뀌면 키가 달라져 자동으로 재생성 대상
+ * - GMS 실패 시의 비상용 질문은 저장하지 않음
+ *
+ * 생성 시점:
+ * - 리마인더 활성화 / 리마인더가 켜진 노트 수정 커밋 후 백그라운드 생성 (pregenerate)
+ * - 발송 시 캐시가 없으면 그 자리에서 생성 후 저장 (다음 발송부터 재사용)
+ *
+ * 백그라운드 생성:
+ * - 전용 스레드 풀 (GMS 동시 요청 수 = concurrency), 대기열 크기 제한
+ * - 대기열이 가득 차면 요청을 버림 (발송 시 생성으로 대체되므로 유실 없음)
+ *
+ * 지표 (Micrometer):
+ * - reminder.question.cache{result=hit|miss}: 발송 시 캐시 조회 결과
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderQuestionService {
+
+	private static final String KEY_PREFIX = "reminder:question:";
+
+	private final GmsQuestionService gmsQuestionService;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MeterRegistry meterRegistry;
+
+	// 질문 캐시 유지 시간
+	@Value("${secondbrain.reminder.question.ttl:30d}")
+	private Duration ttl;
+
+	// 백그라운드 생성 동시 GMS 요청 수
+	@Value("${secondbrain.reminder.question.concurrency:2}")
+	private int concurrency;
+
+	// 백그라운드 생성 대기열 크기
+	@Value("${secondbrain.reminder.question.queue-capacity:1000}")
+	private int queueCapacity;
+
+	// 백그라운드 생성 1건 제한 시간 (GMS 재시도 포함)
+	@Value("${secondbrain.reminder.question.timeout:60s}")
+	private Duration timeout;
+
+	private ThreadPoolExecutor pregenerateExecutor;
+	private Counter cacheHit;
+	private Counter cacheMiss;
+
+	@PostConstruct
+	public void init() {
+		// 사전 생성 전용 스레드 풀 (가득 차면 버림, 요청 스레드는 대기하지 않음)
+		AtomicInteger threadCount = new AtomicInteger();
+		this.pregenerateExecutor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "reminder-question-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			(runnable, executor) -> log.warn("리마인더 질문 사전 생성 대기열 가득 참 - 발송 시 생성으로 대체"));
+
+		this.cacheHit = counter("hit");
+		this.cacheMiss = counter("miss");
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		pregenerateExecutor.shutdownNow();
+	}
+
+	/**
+	 * 질문 사전 생성 요청 (비동기, 이미 같은 내용의 질문이 있으면 생략)
+	 *
+	 * @param noteId  노트 ID
+	 * @param title   노트 제목
+	 * @param content 노트 내용
+	 */
+	public void pregenerate(Long noteId, String title, String content) {
+		pregenerateExecutor.execute(() -> {
+			try {
+				String key = key(noteId, title, content);
+				if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+					return;
+				}
+
+				String question = gmsQuestionService.generateReminderQuestion(noteId, title, content)
+					.block(timeout);
+				if (question != null) {
+					stringRedisTemplate.opsForValue().set(key, question, ttl);
+					log.debug("리마인더 질문 사전 생성 완료 - noteId: {}", noteId);
+				}
+			} catch (Exception e) {
+				// 발송 시 다시 생성하므로 실패해도 무시
+				log.warn("리마인더 질문 사전 생성 실패 - noteId: {}, 오류: {}", noteId, e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * 발송 대상 노트들의 저장된 질문 일괄 조회 (MGET 1회)
+	 *
+	 * @param notes 발송 대상 노트
+	 * @return noteId → 질문 (현재 내용 기준 질문이 있는 노트만)
+	 */
+	public Map<Long, String> getCachedQuestions(List<Note> notes) {
+		Map<Long, String> questions = new HashMap<>();
+		if (notes.isEmpty()) {
+			return questions;
+		}
+
+		try {
+			List<String> values = stringRedisTemplate.opsForValue().multiGet(notes.stream()
+				.map(note -> key(note.getId(), note.getTitle(), note.getContent()))
+				.toList());
+
+			for (int i = 0; i < notes.size(); i++) {
+				String question = values != null ? values.get(i) : null;
+				if (question != null) {
+					questions.put(notes.get(i).getId(), question);
+				}
+			}
+		} catch (Exception e) {
+			log.warn("리마인더 질문 캐시 조회 실패 - GMS 생성으로 진행: {}", e.getMessage());
+		}
+
+		cacheHit.increment(questions.size());
+		cacheMiss.increment(notes.size() - questions.size());
+		return questions;
+	}
+
+	/**
+	 * 발송 시점 질문 생성 (캐시 없을 때)
+	 *
+	 * GMS 성공 시 저장하여 다음 발송부터 재사용, 실패 시 비상용 질문 (저장 안 함)
+	 *
+	 * @param note 발송 대상 노트
+	 * @return 리마인더 질문
+	 */
+	public Mono<String> generateAndCache(Note note) {
+		String key = key(note.getId(), note.getTitle(), note.getContent());
+
+		return gmsQuestionService.generateReminderQuestion(note.getId(), note.getTitle(), note.getContent())
+			.publishOn(Schedulers.boundedElastic())
+			.doOnNext(question -> {
+				try {
+					stringRedisTemplate.opsForValue().set(key, question, ttl);
+				} catch (Exception e) {
+					log.warn("리마인더 질문 캐시 저장 실패 - noteId: {}, 오류: {}", note.getId(), e.getMessage());
+				}
+			})
+			.onErrorResume(e -> {
+				log.error("GMS API 실패 (비상용 질문 사용) - noteId: {}", note.getId(), e);
+				return Mono.just(gmsQuestionService.createFallbackQuestion(note.getTitle()));
+			});
+	}
+
+	// ===== Private Helper Methods =====
+
+	private static String key(Long noteId, String title, String content) {
+		return KEY_PREFIX + noteId + ":" + contentHash(title, content);
+	}
+
+	// 제목과 내용 경계가 섞이지 않도록 구분자(\0) 사용
+	static String contentHash(String title, String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(String.valueOf(title).getBytes(StandardCharsets.UTF_8));
+			digest.update((byte)0);
+			digest.update(String.valueOf(content).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+		}
+	}
+
+	private Counter counter(String result) {
+		return Counter.builder("reminder.question.cache")
+			.description("리마인더 발송 시 질문 캐시 조회 결과")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -1,103 +1,214 @@
 package uknowklp.secondbrain.api.note.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import jakarta.persistence.OptimisticLockException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import uknowklp.secondbrain.api.gms.service.GmsQuestionService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import uknowklp.secondbrain.api.note.domain.Note;
+import uknowklp.secondbrain.api.note.dto.DueReminder;
 import uknowklp.secondbrain.api.note.repository.NoteRepository;
-
+import uknowklp.secondbrain.global.support.SchedulerLease;
+
+/**
+ * 리마인더 발송 스케줄러
+ *
+ * 처리 흐름 (10초마다, 선점 배치가 가득 차면 연속 처리):
+ * 1. 발송 시각이 지난 노트를 remind_at 부분 인덱스로 최대 claimBatchSize건 선점 (FOR UPDATE SKIP LOCKED)
+ *    - 선점한 노트는 remind_at을 claimTimeout 뒤로 미뤄 중복 발송 방지
+ * 2. 노트별 질문 준비 → WebSocket 알림 전송 (최대 dispatchConcurrency개 동시, 노트별 itemTimeout)
+ *    - 미리 생성된 질문(노트 내용 해시 기준)이 있으면 재사용, 없으면 GMS로 생성 후 저장
+ * 3. 성공한 노트는 완료 즉시 다음 발송 시각 기록 (노트별 트랜잭션)
+ *    - 실패한 노트는 claimTimeout 이후 다시 발송 대상
+ *
+ * 지표 (Micrometer):
+ * - reminder.dispatch.lag: 발송 지연 (전송 시각 - 발송 예정 시각)
+ * - reminder.dispatch{result=success|conflict|failure}: 발송 결과
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ReminderSchedulerService {
 
 	private final NoteRepository noteRepository;
-	private final GmsQuestionService gmsQuestionService;
+	private final ReminderQuestionService reminderQuestionService;
 	private final ReminderNotificationService reminderNotificationService;
+	private final SchedulerLease schedulerLease;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
 
 	private static final int MAX_REMINDER_COUNT = 3;
+	private static final String LEASE_JOB = "reminder";
+
+	// 리더 리스 유지 시간 (한 인스턴스만 발송 대상 조회/GMS 호출)
+	@Value("${secondbrain.reminder.lease-time:30s}")
+	private Duration leaseTime;
+
+	// 한 번에 선점할 최대 리마인더 수
+	@Value("${secondbrain.reminder.claim-batch-size:50}")
+	private int claimBatchSize;
+
+	// 선점 유지 시간 (발송 결과가 기록되지 않으면 이후 재발송)
+	@Value("${secondbrain.reminder.claim-timeout:5m}")
+	private Duration claimTimeout;
 
-	// 10초마다 실행 (이전 실행 완료 후 10초 대기)
+	// GMS 동시 요청 수
+	@Value("${secondbrain.reminder.dispatch.concurrency:8}")
+	private int dispatchConcurrency;
+
+	// 노트 1건 GMS 질문 생성 제한 시간 (재시도 포함)
+	@Value("${secondbrain.reminder.dispatch.item-timeout:20s}")
+	private Duration itemTimeout;
+
+	// 10초마다 실행 (이전 실행 완료 후 10초 대기), 리더 인스턴스만 실행
 	@Scheduled(fixedDelay = 10000)
 	public void checkAndSendReminders() {
+		if (!schedulerLease.tryAcquire(LEASE_JOB, leaseTime)) {
+			return;
+		}
+
+		// 배치가 가득 찼으면 남은 대상이 있으므로 바로 이어서 처리
+		// 배치마다 리스를 연장하고, 그 사이 리더를 잃었으면 새 리더에게 넘기고 중단
+		int claimed;
+		do {
+			claimed = sendDueReminders();
+		} while (claimed >= claimBatchSize && schedulerLease.tryAcquire(LEASE_JOB, leaseTime));
+	}
+
+	/**
+	 * 리마인더 1배치 선점 및 발송
+	 *
+	 * GMS 호출은 최대 dispatchConcurrency개 동시에 진행하고, 완료된 노트부터 바로 알림 전송/기록
+	 * 배치 전체가 끝날 때까지만 스케줄러 스레드가 대기
+	 *
+	 * @return 선점한 리마인더 수
+	 */
+	private int sendDueReminders() {
 		LocalDateTime now = LocalDateTime.now();
 
-		// 발송 대상 조회
-		List<Note> pendingNotes = noteRepository.findPendingReminders(now, MAX_REMINDER_COUNT);
+		// 발송 대상 선점
+		List<DueReminder> claimed = noteRepository.claimDueReminders(
+			now, MAX_REMINDER_COUNT, now.plus(claimTimeout), claimBatchSize);
 
-		if (pendingNotes.isEmpty()) {
-			return;
+		if (claimed.isEmpty()) {
+			return 0;
 		}
 
-		log.info("리마인더 발송 대상 {}개 발견", pendingNotes.size());
+		log.info("리마인더 발송 대상 {}개 선점", claimed.size());
 
-		// 각 노트 처리 (각각 독립적인 트랜잭션)
-		for (Note note : pendingNotes) {
-			try {
-				processReminder(note);
-			} catch (Exception e) {
-				log.error("리마인더 발송 실패 - noteId: {}", note.getId(), e);
-			}
-		}
+		Map<Long, LocalDateTime> dueAt = claimed.stream()
+			.collect(Collectors.toMap(DueReminder::noteId, DueReminder::dueAt));
+		List<Note> notes = noteRepository.findAllByIdWithUser(claimed.stream().map(DueReminder::noteId).toList());
+
+		// 미리 생성된 질문 일괄 조회 (내용이 바뀐 노트는 없음 → GMS 생성)
+		Map<Long, String> questions = reminderQuestionService.getCachedQuestions(notes);
+
+		Flux.fromIterable(notes)
+			.flatMap(note -> dispatch(note, questions.get(note.getId()), dueAt.get(note.getId())), dispatchConcurrency)
+			.then()
+			.block();
+
+		return claimed.size();
 	}
 
-	// 개별 노트 리마인더 처리
-	private void processReminder(Note note) {
-		// User 알림 설정 확인
-		if (!note.getUser().isSetAlarm()) {
-			log.warn("사용자 알림 OFF - noteId: {}, userId: {}", note.getId(), note.getUser().getId());
-			return;
-		}
+	/**
+	 * 개별 노트 리마인더 발송 (질문 준비 → 알림 전송 → 다음 발송 시각 기록)
+	 *
+	 * - 미리 생성된 질문이 있으면 GMS 호출 없이 바로 전송
+	 * - GMS 응답이 itemTimeout 안에 오지 않으면 기록 없이 종료 (선점 만료 후 재시도)
+	 * - 알림 전송/DB 기록은 블로킹이므로 boundedElastic에서 실행
+	 * - 실패해도 다른 노트 발송에 영향 없음 (항상 정상 종료)
+	 */
+	private Mono<Void> dispatch(Note note, String cachedQuestion, LocalDateTime dueAt) {
+		Mono<String> prepared = cachedQuestion != null
+			? Mono.just(cachedQuestion)
+			: reminderQuestionService.generateAndCache(note);
+
+		return prepared
+			.timeout(itemTimeout)
+			.publishOn(Schedulers.boundedElastic())
+			.doOnNext(question -> completeReminder(note, question, dueAt))
+			.then()
+			.onErrorResume(e -> {
+				// GMS 질문 생성/알림 전송 실패 시 DB 업데이트하지 않음 (선점 만료 후 재시도)
+				log.error("리마인더 발송 실패 - noteId: {}, 선점 만료 후 재시도", note.getId(), e);
+				recordResult("failure");
+				return Mono.empty();
+			});
+	}
 
+	// 알림 전송 후 다음 발송 시각 기록 (노트별 트랜잭션)
+	private void completeReminder(Note note, String question, LocalDateTime dueAt) {
 		int currentCount = note.getRemindCount();
 
+		log.info("리마인더 질문 준비 완료 - noteId: {}, question: \"{}\"", note.getId(), question);
+
+		// WebSocket 알림 전송
+		reminderNotificationService.sendReminder(note, question, currentCount);
+		recordLag(dueAt);
+
+		// 알림 전송 후에만 DB 업데이트
+		if (currentCount >= 2) {
+			// 3회 완료
+			note.completeReminder();
+			log.info("리마인더 완료 (3회) - noteId: {}", note.getId());
+		} else {
+			// 다음 발송 시간 설정
+			// todo: 실제 서비스에서는 1일, 3일 ,7일로 설정 예정
+			int nextDelaySeconds = switch (currentCount) {
+				case 0 -> 30;  // 1차 → 2차: 30초 후
+				case 1 -> 70;  // 2차 → 3차: 70초 후
+				default -> 0;
+			};
+
+			LocalDateTime nextTime = LocalDateTime.now().plusSeconds(nextDelaySeconds);
+			note.scheduleNextReminder(nextTime);
+			log.info("다음 리마인더 예약 - noteId: {}, 시간: {}", note.getId(), nextTime);
+		}
+
 		try {
-			// GMS 질문 생성 (동기 처리 - 응답 대기)
-			String question = gmsQuestionService.makeReminderQuestion(note)
-				.block(); // 응답 대기 (최대 30초 타임아웃)
-
-			log.info("GMS 질문 생성 완료 - noteId: {}, question: \"{}\"", note.getId(), question);
-
-			// WebSocket 알림 전송
-			reminderNotificationService.sendReminder(note, question, currentCount);
-
-			// GMS 성공 후에만 DB 업데이트
-			if (currentCount >= 2) {
-				// 3회 완료
-				note.completeReminder();
-				log.info("리마인더 완료 (3회) - noteId: {}", note.getId());
-			} else {
-				// 다음 발송 시간 설정
-				// todo: 실제 서비스에서는 1일, 3일 ,7일로 설정 예정
-				int nextDelaySeconds = switch (currentCount) {
-					case 0 -> 30;  // 1차 → 2차: 30초 후
-					case 1 -> 70;  // 2차 → 3차: 70초 후
-					default -> 0;
-				};
-
-				LocalDateTime nextTime = LocalDateTime.now().plusSeconds(nextDelaySeconds);
-				note.scheduleNextReminder(nextTime);
-				log.info("다음 리마인더 예약 - noteId: {}, 시간: {}", note.getId(), nextTime);
-			}
-
-			noteRepository.save(note);
+			// 선점 이후 사용자가 리마인더를 끄거나 수정했으면 낙관적 락으로 실패
+			transactionTemplate.executeWithoutResult(status -> noteRepository.save(note));
+			recordResult("success");
 			log.info("리마인더 발송 완료 - noteId: {}, 횟수: {}/3", note.getId(), currentCount + 1);
 
-		} catch (OptimisticLockException e) {
-			// 다른 스케줄러 인스턴스가 먼저 처리함 (정상 상황)
-			log.info("동시성 충돌 감지 - noteId: {} (다른 인스턴스가 이미 처리함)", note.getId());
-		} catch (Exception e) {
-			// GMS 질문 생성 실패 시 DB 업데이트하지 않음 (다음 스케줄러 실행 시 재시도)
-			log.error("GMS 질문 생성 실패 - noteId: {}, 다음 스케줄러 실행 시 재시도", note.getId(), e);
+		} catch (OptimisticLockingFailureException e) {
+			// 선점 이후 노트가 변경됨 (리마인더 해제/수정 등, 정상 상황)
+			recordResult("conflict");
+			log.info("동시성 충돌 감지 - noteId: {} (선점 이후 노트가 변경됨)", note.getId());
 		}
 	}
+
+	// 발송 지연 (실제 전송 시각 - 원래 발송 예정 시각)
+	private void recordLag(LocalDateTime dueAt) {
+		Duration lag = Duration.between(dueAt, LocalDateTime.now());
+		Timer.builder("reminder.dispatch.lag")
+			.description("리마인더 발송 지연 (전송 시각 - 발송 예정 시각)")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry)
+			.record(lag.isNegative() ? Duration.ZERO : lag);
+	}
+
+	private void recordResult(String result) {
+		Counter.builder("reminder.dispatch")
+			.description("리마인더 발송 결과")
+			.tag("result", result)
+			.register(meterRegistry)
+			.increment();
+	}
 }
@@ -0,0 +1,241 @@
+package uknowklp.secondbrain.api.note.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uknowklp.secondbrain.api.note.constant.SearchIndexOperation;
+import uknowklp.secondbrain.api.note.domain.NoteDocument;
+import uknowklp.secondbrain.api.note.domain.SearchIndexTask;
+import uknowklp.secondbrain.api.note.repository.NoteRepository;
+import uknowklp.secondbrain.api.note.repository.SearchIndexTaskRepository;
+
+/**
+ * 검색 인덱스 Outbox 처리 워커
+ *
+ * 처리 흐름 (flushInterval마다, 작업이 batchSize만큼 쌓여 있으면 연속 처리):
+ * 1. 짧은 트랜잭션에서 처리 가능한 작업을 FOR UPDATE SKIP LOCKED로 최대 batchSize건 확보하고
+ *    다음 시도 시각을 claimTimeout만큼 연기 (커밋 후 잠금이 풀려도 다른 인스턴스가 가져가지 않음)
+ * 2. 같은 노트의 작업은 마지막 작업 하나로 병합 (연속 수정은 1회 인덱싱)
+ * 3. 트랜잭션 밖에서 INDEX 작업은 DB에서 노트 최신 상태를 읽어 bulk 저장, DELETE 작업은 bulk 삭제 (refresh=wait_for)
+ * 4. 성공 시 별도 트랜잭션에서 작업 삭제 후 해당 사용자들의 검색 캐시 세대 번호 증가
+ * 5. bulk 실패 시 노트별로 나눠 재시도, 실패한 노트의 작업만 지수 백오프로 연기
+ * 6. maxAttempts에 도달한 작업은 격리(dead_lettered_at)하여 더 이상 재시도하지 않음
+ *
+ * 트랜잭션 범위:
+ * - Elasticsearch 호출(refresh 대기 포함) 동안 DB 트랜잭션/행 잠금을 잡지 않음
+ * - 성공/실패 기록은 노트 단위로 각자 트랜잭션에서 수행 (한 노트의 기록 실패가 다른 노트의 시도 횟수를 되돌리지 않음)
+ * - 기록에 실패하거나 처리 중 중단된 작업은 claimTimeout 이후 다시 처리 (Elasticsearch 반영은 멱등)
+ *
+ * 다중 인스턴스:
+ * - SKIP LOCKED + 점유 시각 연기로 인스턴스마다 서로 다른 작업을 처리
+ *
+ * 지표 (Micrometer):
+ * - search.indexer.flush{result=success|failure}: 배치 처리 시간
+ * - search.indexer.dead_letter: 격리된 작업 수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexWorker {
+
+	private final SearchIndexTaskRepository searchIndexTaskRepository;
+	private final NoteRepository noteRepository;
+	private final NoteSearchService noteSearchService;
+	private final SearchRankingCache searchRankingCache;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	// 한 번에 처리할 최대 작업 수
+	@Value("${secondbrain.search.indexer.batch-size:500}")
+	private int batchSize;
+
+	// 첫 재시도 대기 시간 (실패할 때마다 2배)
+	@Value("${secondbrain.search.indexer.backoff-base:1s}")
+	private Duration backoffBase;
+
+	// 최대 재시도 대기 시간
+	@Value("${secondbrain.search.indexer.backoff-max:5m}")
+	private Duration backoffMax;
+
+	// 최대 시도 횟수 (도달하면 작업을 격리하고 더 이상 재시도하지 않음)
+	@Value("${secondbrain.search.indexer.max-attempts:20}")
+	private int maxAttempts;
+
+	// 확보한 작업의 점유 시간 (처리 중 중단되면 이 시간이 지난 뒤 다시 처리)
+	@Value("${secondbrain.search.indexer.claim-timeout:1m}")
+	private Duration claimTimeout;
+
+	@Scheduled(fixedDelayString = "${secondbrain.search.indexer.flush-interval:1000}")
+	public void flush() {
+		// 배치가 가득 찼으면 남은 작업이 있으므로 바로 이어서 처리
+		int processed;
+		do {
+			processed = flushBatch();
+		} while (processed >= batchSize);
+	}
+
+	/**
+	 * 작업 1배치 처리 (확보/기록만 트랜잭션 내, Elasticsearch 반영은 트랜잭션 밖)
+	 *
+	 * @return 성공 처리한 작업 수
+	 */
+	private int flushBatch() {
+		List<SearchIndexTask> tasks = transactionTemplate.execute(status -> claim());
+		if (tasks == null || tasks.isEmpty()) {
+			return 0;
+		}
+
+		// 노트별 작업 묶음 (id 오름차순으로 조회했으므로 묶음의 마지막 작업이 최신)
+		Map<Long, List<SearchIndexTask>> tasksByNote = tasks.stream()
+			.collect(Collectors.groupingBy(SearchIndexTask::getNoteId, LinkedHashMap::new, Collectors.toList()));
+
+		long startNanos = System.nanoTime();
+		try {
+			apply(tasksByNote);
+			record("success", startNanos);
+		} catch (Exception e) {
+			record("failure", startNanos);
+
+			if (tasksByNote.size() == 1) {
+				fail(tasks, e);
+				return 0;
+			}
+
+			// 일부 노트 때문에 배치 전체가 계속 실패하지 않도록 노트별로 나눠 재시도
+			log.warn("검색 인덱스 bulk 반영 실패 - 노트별 재시도: 작업 {}건, 오류: {}", tasks.size(), e.getMessage());
+			int processed = 0;
+			for (Map.Entry<Long, List<SearchIndexTask>> entry : tasksByNote.entrySet()) {
+				try {
+					apply(Map.of(entry.getKey(), entry.getValue()));
+				} catch (Exception noteError) {
+					fail(entry.getValue(), noteError);
+					continue;
+				}
+				if (complete(entry.getValue())) {
+					processed += entry.getValue().size();
+				}
+			}
+			return processed;
+		}
+
+		if (!complete(tasks)) {
+			return 0;
+		}
+		log.debug("검색 인덱스 반영 완료 - 작업: {}건, 노트: {}건", tasks.size(), tasksByNote.size());
+		return tasks.size();
+	}
+
+	// 처리 가능한 작업 확보 후 점유 시간만큼 다음 시도 시각 연기 (트랜잭션 내)
+	private List<SearchIndexTask> claim() {
+		List<SearchIndexTask> tasks = searchIndexTaskRepository.claimBatch(LocalDateTime.now(), batchSize);
+		tasks.forEach(task -> task.claim(claimTimeout));
+		return tasks;
+	}
+
+	// 노트별 최신 작업을 Elasticsearch에 반영 (INDEX는 bulk 저장, DELETE는 bulk 삭제)
+	private void apply(Map<Long, List<SearchIndexTask>> tasksByNote) {
+		List<Long> indexIds = new ArrayList<>();
+		List<String> deleteIds = new ArrayList<>();
+		tasksByNote.forEach((noteId, noteTasks) -> {
+			if (noteTasks.get(noteTasks.size() - 1).getOperation() == SearchIndexOperation.INDEX) {
+				indexIds.add(noteId);
+			} else {
+				deleteIds.add(noteId.toString());
+			}
+		});
+
+		if (!indexIds.isEmpty()) {
+			// 인덱싱 시점의 최신 상태 사용 (대기 중 삭제된 노트는 조회되지 않음)
+			List<NoteDocument> documents = noteRepository.findAllById(indexIds).stream()
+				.map(NoteDocument::from)
+				.toList();
+			noteSearchService.bulkIndexNotes(documents);
+		}
+		if (!deleteIds.isEmpty()) {
+			noteSearchService.bulkDeleteNotes(deleteIds);
+		}
+	}
+
+	/**
+	 * 반영 완료된 작업 삭제 (별도 트랜잭션) 후 사용자 검색 캐시 무효화
+	 * 무효화는 검색 가능해진 뒤이므로 이전 결과가 다시 캐시되지 않음
+	 *
+	 * @return 삭제 성공 여부 (실패한 작업은 점유 시간 이후 다시 반영)
+	 */
+	private boolean complete(List<SearchIndexTask> tasks) {
+		try {
+			transactionTemplate.execute(status -> {
+				searchIndexTaskRepository.deleteAllInBatch(tasks);
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("검색 인덱스 작업 완료 기록 실패 - 점유 만료 후 재처리: 작업 {}건, 오류: {}", tasks.size(), e.getMessage());
+			return false;
+		}
+
+		tasks.stream()
+			.map(SearchIndexTask::getUserId)
+			.distinct()
+			.forEach(searchRankingCache::bumpGeneration);
+		return true;
+	}
+
+	// 실패 작업 재시도 예약 (최대 시도 횟수에 도달하면 격리), 노트 단위 별도 트랜잭션
+	private void fail(List<SearchIndexTask> tasks, Exception e) {
+		Integer deadLettered;
+		try {
+			deadLettered = transactionTemplate.execute(status -> {
+				int count = 0;
+				for (SearchIndexTask task : tasks) {
+					if (task.getAttempts() + 1 >= maxAttempts) {
+						task.markDeadLettered();
+						count++;
+						log.error("검색 인덱스 작업 격리 - 최대 시도 횟수 초과: taskId={}, noteId={}, 시도: {}회, 오류: {}",
+							task.getId(), task.getNoteId(), task.getAttempts(), e.getMessage());
+					} else {
+						task.markFailed(backoff(task.getAttempts()));
+					}
+				}
+				searchIndexTaskRepository.saveAll(tasks);
+				return count;
+			});
+		} catch (Exception recordError) {
+			log.error("검색 인덱스 실패 기록 실패 - 점유 만료 후 재처리: 작업 {}건, 오류: {}",
+				tasks.size(), recordError.getMessage());
+			return;
+		}
+
+		if (deadLettered != null && deadLettered > 0) {
+			meterRegistry.counter("search.indexer.dead_letter").increment(deadLettered);
+		}
+		log.warn("검색 인덱스 반영 실패 - 재시도 예정: 작업 {}건, 오류: {}", tasks.size(), e.getMessage());
+	}
+
+	// 지수 백오프 (backoffBase * 2^attempts, 최대 backoffMax)
+	private Duration backoff(int attempts) {
+		Duration delay = backoffBase.multipliedBy(1L << Math.min(attempts, 20));
+		return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+	}
+
+	private void record(String result, long startNanos) {
+		Timer.builder("search.indexer.flush")
+			.description("검색 인덱스 Outbox 배치 처리 시간")
+			.tag("result", result)
+			.register(meterRegistry)
+			.record(Duration.ofNanos(System.nanoTime() - startNanos));
+	}
+}
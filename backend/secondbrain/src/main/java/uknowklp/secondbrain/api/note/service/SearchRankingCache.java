@@ -0,0 +1,196 @@
+package uknowklp.secondbrain.api.note.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import uknowklp.secondbrain.api.note.dto.SearchRanking;
+import uknowklp.secondbrain.global.exception.BaseException;
+import uknowklp.secondbrain.global.response.BaseResponseStatus;
+
+/**
+ * 하이브리드 검색 병합 결과 캐시 및 커서 관리
+ *
+ * 동작:
+ * - (userId, 세대 번호, 정규화된 검색어) 단위로 RRF 병합 순위(노트 ID + 점수)를 Redis에 짧은 TTL로 저장
+ * - 문서 본문은 저장하지 않음 (rankingDepth건의 content를 검색어마다 보관하지 않도록)
+ * - 같은 검색어의 다른 페이지/커서 요청은 저장된 순위를 잘라 해당 조각의 문서만 multi-get으로 조회
+ *   (검색 쿼리, 임베딩 API, Neo4j 재조회 없음)
+ *
+ * 무효화 (사용자별 세대 번호):
+ * - 노트 변경이 Elasticsearch에 반영된 뒤(SearchIndexWorker) search:generation:{userId}를 INCR
+ * - 커밋 시점이 아닌 반영 시점에 올려야 반영 전 결과가 새 세대로 캐시되지 않음
+ * - 세대 번호가 키에 포함되므로 이전 결과는 더 이상 조회되지 않음 (TTL로 자연 만료)
+ * - 세대 번호를 읽을 수 없으면 캐시를 사용하지 않음 (변경 직후 노트 누락 방지)
+ *
+ * 커서 형식:
+ * - Base64URL("{rankingId}:{offset}") → 클라이언트에는 불투명한 문자열
+ * - rankingId는 (userId, 세대 번호, 검색어)의 SHA-256이므로 커서에 검색어가 노출되지 않음
+ * - 조회 시 저장된 userId와 요청자 userId를 비교하여 다른 사용자 커서 사용 차단
+ *
+ * Redis 장애 시:
+ * - 조회 실패는 캐시 미스로 처리 (검색 재실행)
+ * - 저장 실패는 무시 (커서 요청 시 만료 응답)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchRankingCache {
+
+	private static final String KEY_PREFIX = "search:ranking:";
+	private static final String GENERATION_KEY_PREFIX = "search:generation:";
+	private static final Pattern RANKING_ID = Pattern.compile("[0-9a-f]{64}");
+
+	private final RedisTemplate<String, SearchRanking> searchRankingRedisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	// 병합 결과 유지 시간 (커서 유효 시간)
+	@Value("${secondbrain.search.ranking-ttl:5m}")
+	private Duration rankingTtl;
+
+	/**
+	 * 커서 디코딩 결과
+	 *
+	 * @param rankingId 병합 결과 식별자
+	 * @param offset    다음 조각 시작 위치
+	 */
+	public record Cursor(String rankingId, int offset) {
+	}
+
+	/**
+	 * 병합 결과 식별자 생성
+	 *
+	 * @param userId             사용자 ID
+	 * @param generation         사용자 검색 세대 번호
+	 * @param normalizedKeyword  정규화된 검색어
+	 * @return SHA-256 hex 문자열
+	 */
+	public String rankingId(Long userId, long generation, String normalizedKeyword) {
+		return sha256Hex(userId + ":" + generation + ":" + normalizedKeyword);
+	}
+
+	/**
+	 * 사용자 검색 세대 번호 조회
+	 *
+	 * @param userId 사용자 ID
+	 * @return 현재 세대 번호 (키가 없으면 0, Redis 장애 시 empty)
+	 */
+	public OptionalLong currentGeneration(Long userId) {
+		try {
+			String value = stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + userId);
+			return OptionalLong.of(value != null ? Long.parseLong(value) : 0L);
+		} catch (Exception e) {
+			log.warn("검색 세대 번호 조회 실패 - 캐시 미사용: userId={}, error={}", userId, e.getMessage());
+			return OptionalLong.empty();
+		}
+	}
+
+	/**
+	 * 사용자 검색 세대 번호 증가 (해당 사용자의 모든 검색 캐시 무효화)
+	 *
+	 * @param userId 사용자 ID
+	 */
+	public void bumpGeneration(Long userId) {
+		try {
+			Long generation = stringRedisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + userId);
+			log.debug("검색 캐시 무효화 - userId: {}, generation: {}", userId, generation);
+		} catch (Exception e) {
+			log.error("검색 세대 번호 증가 실패 - userId: {}", userId, e);
+		}
+	}
+
+	/**
+	 * 병합 결과 조회 (소유자 검증 포함)
+	 *
+	 * @param rankingId 병합 결과 식별자
+	 * @param userId    요청 사용자 ID
+	 * @return 병합 결과 (없거나 다른 사용자 소유면 empty)
+	 */
+	public Optional<SearchRanking> get(String rankingId, Long userId) {
+		try {
+			SearchRanking ranking = searchRankingRedisTemplate.opsForValue().get(KEY_PREFIX + rankingId);
+			if (ranking == null || !userId.equals(ranking.userId())) {
+				return Optional.empty();
+			}
+			return Optional.of(ranking);
+		} catch (Exception e) {
+			log.warn("검색 결과 캐시 조회 실패 - 검색 재실행: {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 병합 결과 저장 (Best-effort)
+	 *
+	 * @param rankingId 병합 결과 식별자
+	 * @param ranking   병합 결과
+	 */
+	public void put(String rankingId, SearchRanking ranking) {
+		try {
+			searchRankingRedisTemplate.opsForValue().set(KEY_PREFIX + rankingId, ranking, rankingTtl);
+		} catch (Exception e) {
+			log.warn("검색 결과 캐시 저장 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 커서 인코딩
+	 *
+	 * @param rankingId 병합 결과 식별자
+	 * @param offset    다음 조각 시작 위치
+	 * @return 불투명 커서 문자열
+	 */
+	public static String encodeCursor(String rankingId, int offset) {
+		String raw = rankingId + ":" + offset;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 디코딩
+	 *
+	 * @param cursor 클라이언트가 전달한 커서
+	 * @return 디코딩된 커서
+	 * @throws BaseException INVALID_SEARCH_CURSOR - 형식이 올바르지 않은 경우
+	 */
+	public static Cursor decodeCursor(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(':');
+			String rankingId = raw.substring(0, separator);
+			int offset = Integer.parseInt(raw.substring(separator + 1));
+
+			if (!RANKING_ID.matcher(rankingId).matches() || offset < 0) {
+				throw new BaseException(BaseResponseStatus.INVALID_SEARCH_CURSOR);
+			}
+			return new Cursor(rankingId, offset);
+		} catch (BaseException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new BaseException(BaseResponseStatus.INVALID_SEARCH_CURSOR);
+		}
+	}
+
+	// ===== Private Helper Methods =====
+
+	private static String sha256Hex(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+		}
+	}
+}
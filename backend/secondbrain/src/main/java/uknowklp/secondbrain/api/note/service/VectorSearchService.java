@@ -28,9 +28,10 @@ public class VectorSearchService {
 	private static final double SIMILARITY_THRESHOLD = 0.7;
 
 	// 검색어 임베딩 벡터로 유사 노트 찾기
+	// float[]는 드라이버가 직접 FloatValue 리스트로 바인딩 (List<Double> 박싱 단계 없음)
 	public List<VectorSearchResult> searchSimilarNotes(
 		Long userId,
-		List<Double> queryEmbedding,
+		float[] queryEmbedding,
 		int limit
 	) {
 		// Neo4j의 벡터 인덱스 검색 프로시저 호출
@@ -50,7 +51,7 @@ public class VectorSearchService {
 			// 파라미터 바인딩 및 쿼리 실행
 			var result = session.run(query, Values.parameters(
 				"indexName", VECTOR_INDEX_NAME,
-				"vectorLimit", VECTOR_SEARCH_LIMIT,
+				"vectorLimit", Math.max(VECTOR_SEARCH_LIMIT, limit), // 요청 건수가 더 크면 후보도 확장
 				"embedding", queryEmbedding,
 				"userId", userId,
 				"threshold", SIMILARITY_THRESHOLD,
@@ -38,9 +38,9 @@ public class User {
 	@Column(nullable = false)
 	private boolean setAlarm;
 
-	// MCP 연동을 위한 API Key (UUID 형식)
-	@Column(unique = true)
-	private String apiKey;
+	// MCP 연동을 위한 API Key의 SHA-256 다이제스트 (hex, 원문은 발급 시에만 반환하고 저장하지 않음)
+	@Column(name = "api_key", unique = true)
+	private String apiKeyHash;
 
 	public User update(String name, String picture) {
 		this.name = name;
@@ -52,13 +52,13 @@ public class User {
 		this.setAlarm = !this.setAlarm;
 	}
 
-	// API Key 설정 (생성 또는 재발급)
-	public void setApiKey(String apiKey) {
-		this.apiKey = apiKey;
+	// API Key 다이제스트 설정 (생성 또는 재발급)
+	public void setApiKeyHash(String apiKeyHash) {
+		this.apiKeyHash = apiKeyHash;
 	}
 
 	// API Key 삭제
 	public void clearApiKey() {
-		this.apiKey = null;
+		this.apiKeyHash = null;
 	}
 }
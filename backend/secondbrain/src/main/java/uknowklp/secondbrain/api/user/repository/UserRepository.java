@@ -9,6 +9,6 @@ import uknowklp.secondbrain.api.user.domain.User;
 public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByEmail(String email);
 
-	// API Key로 사용자 조회 (MCP 연동용)
-	Optional<User> findByApiKey(String apiKey);
+	// API Key 다이제스트로 사용자 조회 (MCP 연동용)
+	Optional<User> findByApiKeyHash(String apiKeyHash);
 }
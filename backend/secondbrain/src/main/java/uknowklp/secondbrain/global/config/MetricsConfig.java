@@ -0,0 +1,23 @@
+package uknowklp.secondbrain.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Micrometer 지표 설정
+ *
+ * actuator 없이 micrometer-core만 사용하므로 MeterRegistry를 직접 등록
+ * - 캐시/스레드 풀/워커 지표를 메모리에 집계 (SimpleMeterRegistry)
+ * - 외부 모니터링 연동 시 해당 레지스트리 구현으로 교체
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public MeterRegistry meterRegistry() {
+		return new SimpleMeterRegistry();
+	}
+}
@@ -59,4 +59,13 @@ public class RabbitMQConfig {
 			.to(knowledgeGraphExchange)
 			.with("note.*");
 	}
+
+	// note.deleted.batch 바인딩 (note.*는 한 단어만 매칭하므로 별도 바인딩)
+	@Bean
+	public Binding noteDeletedBatchBinding(Queue noteCreationQueue, TopicExchange knowledgeGraphExchange){
+		return BindingBuilder
+			.bind(noteCreationQueue)
+			.to(knowledgeGraphExchange)
+			.with("note.deleted.batch");
+	}
 }
@@ -1,16 +1,20 @@
 package uknowklp.secondbrain.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import uknowklp.secondbrain.api.note.domain.NoteDraft;
+import uknowklp.secondbrain.api.note.dto.SearchRanking;
+import uknowklp.secondbrain.global.support.CompactRedisSerializer;
 
 /**
  * Redis 설정
@@ -72,7 +76,7 @@ public class RedisConfig {
 	 *
 	 * 성능 최적화 및 타입 안정성을 위한 전용 템플릿:
 	 * - NoteDraft 객체를 직접 반환하여 불필요한 타입 변환 제거
-	 * - Jackson2JsonRedisSerializer로 NoteDraft 타입에 최적화된 직렬화
+	 * - NoteDraft 타입을 지정한 직렬화 (타입 정보 없이 저장)
 	 * - GenericJackson2JsonRedisSerializer보다 성능 우수
 	 * - ObjectMapper.convertValue() 변환 과정 불필요
 	 *
@@ -86,19 +90,28 @@ public class RedisConfig {
 	 *   - 이유: JacksonConfig의 공통 Bean 사용
 	 *   - 효과: 코드 중복 제거, 일관성 보장
 	 *
+	 * 압축 직렬화 (v4):
+	 * - CompactRedisSerializer로 교체 (기본: Smile 바이너리 + 임계값 이상 LZ4 압축)
+	 * - 기존 JSON 값은 형식 자동 판별로 그대로 읽음 (다음 저장 시 새 형식으로 전환)
+	 * - codec=json, compression-threshold=0 설정 시 기존과 동일한 JSON 저장
+	 *
 	 * 사용처:
 	 * - NoteDraftService의 모든 Draft 저장/조회 작업
 	 * - NoteDraftAutoSaveService의 자동 저장 스케줄러
 	 *
 	 * @param connectionFactory Spring Boot가 자동 생성한 RedisConnectionFactory
 	 * @param objectMapper      JacksonConfig에서 생성한 공통 ObjectMapper Bean
+	 * @param codec             Draft 쓰기 코덱 (json | smile)
+	 * @param compressionThreshold 이 크기(바이트) 이상이면 LZ4 압축 (0이면 압축 안 함)
 	 * @return NoteDraft 타입 특화 RedisTemplate 인스턴스
 	 * @see <a href="https://docs.spring.io/spring-data/redis/docs/current/reference/html/#redis:serializer">Redis Serializers</a>
 	 */
 	@Bean
 	public RedisTemplate<String, NoteDraft> noteDraftRedisTemplate(
 		RedisConnectionFactory connectionFactory,
-		ObjectMapper objectMapper) { // 공통 ObjectMapper Bean 주입
+		ObjectMapper objectMapper, // 공통 ObjectMapper Bean 주입
+		@Value("${secondbrain.draft.codec.format:smile}") CompactRedisSerializer.Codec codec,
+		@Value("${secondbrain.draft.codec.compression-threshold:2048}") int compressionThreshold) {
 
 		RedisTemplate<String, NoteDraft> template = new RedisTemplate<>();
 		template.setConnectionFactory(connectionFactory);
@@ -108,11 +121,83 @@ public class RedisConfig {
 		template.setKeySerializer(stringSerializer);
 		template.setHashKeySerializer(stringSerializer);
 
-		// Value Serializer: NoteDraft 타입 특화 Jackson 직렬화
-		// 주입받은 ObjectMapper 사용 (코드 중복 제거)
+		// Value Serializer: NoteDraft 타입 특화 압축 직렬화
+		// 주입받은 ObjectMapper 설정 기반 (코드 중복 제거)
 		// @class 타입 정보 없이 직렬화 (프론트엔드 호환성)
-		Jackson2JsonRedisSerializer<NoteDraft> jsonSerializer =
-			new Jackson2JsonRedisSerializer<>(objectMapper, NoteDraft.class);
+		CompactRedisSerializer<NoteDraft> draftSerializer =
+			new CompactRedisSerializer<>(objectMapper, NoteDraft.class, codec, compressionThreshold);
+
+		template.setValueSerializer(draftSerializer);
+		template.setHashValueSerializer(draftSerializer);
+
+		// 템플릿 초기화
+		template.afterPropertiesSet();
+
+		return template;
+	}
+
+	/**
+	 * 바이트 배열 전용 RedisTemplate 빈 생성
+	 *
+	 * 검색어 임베딩 벡터(float[])를 little-endian 바이트로 그대로 저장:
+	 * - JSON 직렬화 대비 크기 약 1/3 (1536차원 기준 6KB)
+	 * - 역직렬화 시 숫자 파싱 비용 없음
+	 *
+	 * 사용처:
+	 * - QueryEmbeddingCache의 Redis 2차 캐시
+	 *
+	 * @param connectionFactory Spring Boot가 자동 생성한 RedisConnectionFactory
+	 * @return byte[] 값 전용 RedisTemplate 인스턴스
+	 */
+	@Bean
+	public RedisTemplate<String, byte[]> embeddingRedisTemplate(RedisConnectionFactory connectionFactory) {
+		RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+
+		// Key Serializer: String으로 직렬화
+		StringRedisSerializer stringSerializer = new StringRedisSerializer();
+		template.setKeySerializer(stringSerializer);
+		template.setHashKeySerializer(stringSerializer);
+
+		// Value Serializer: 바이트 배열 그대로 저장 (변환 없음)
+		template.setValueSerializer(RedisSerializer.byteArray());
+		template.setHashValueSerializer(RedisSerializer.byteArray());
+
+		// 템플릿 초기화
+		template.afterPropertiesSet();
+
+		return template;
+	}
+
+	/**
+	 * 검색 병합 결과(SearchRanking) 전용 타입 특화 RedisTemplate 빈 생성
+	 *
+	 * 하이브리드 검색 순위(노트 ID + 점수)를 짧은 TTL로 저장하여
+	 * 다음 페이지/커서 요청 시 검색 쿼리, 임베딩 API, Neo4j 재조회 없이 해당 조각 문서만 조회
+	 *
+	 * 사용처:
+	 * - SearchRankingCache의 병합 결과 캐시
+	 *
+	 * @param connectionFactory Spring Boot가 자동 생성한 RedisConnectionFactory
+	 * @param objectMapper      JacksonConfig에서 생성한 공통 ObjectMapper Bean
+	 * @return SearchRanking 타입 특화 RedisTemplate 인스턴스
+	 */
+	@Bean
+	public RedisTemplate<String, SearchRanking> searchRankingRedisTemplate(
+		RedisConnectionFactory connectionFactory,
+		ObjectMapper objectMapper) {
+
+		RedisTemplate<String, SearchRanking> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+
+		// Key Serializer: String으로 직렬화
+		StringRedisSerializer stringSerializer = new StringRedisSerializer();
+		template.setKeySerializer(stringSerializer);
+		template.setHashKeySerializer(stringSerializer);
+
+		// Value Serializer: SearchRanking 타입 특화 Jackson 직렬화
+		Jackson2JsonRedisSerializer<SearchRanking> jsonSerializer =
+			new Jackson2JsonRedisSerializer<>(objectMapper, SearchRanking.class);
 
 		template.setValueSerializer(jsonSerializer);
 		template.setHashValueSerializer(jsonSerializer);
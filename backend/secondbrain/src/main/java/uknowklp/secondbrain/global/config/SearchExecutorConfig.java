@@ -0,0 +1,59 @@
+package uknowklp.secondbrain.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 하이브리드 검색 전용 스레드 풀 설정
+ *
+ * 검색 요청의 Elasticsearch / 임베딩+Neo4j 조회는 블로킹 I/O이므로
+ * 공용 ForkJoinPool 대신 크기가 제한된 전용 풀에서 실행
+ *
+ * 동작:
+ * - core/max 스레드 수와 대기 큐 크기 제한
+ * - 큐가 가득 차면 거절 (AbortPolicy) → 검색 단계는 시간 초과와 같이 빈 결과로 처리
+ *   (요청 스레드에서 실행하면 단계별 제한 시간이 적용되지 않음)
+ *
+ * 지표 (Micrometer):
+ * - search.executor.queue: 대기 중인 작업 수
+ * - search.executor.active: 실행 중인 스레드 수
+ */
+@Configuration
+public class SearchExecutorConfig {
+
+	@Value("${secondbrain.search.executor.core-size:16}")
+	private int coreSize;
+
+	@Value("${secondbrain.search.executor.max-size:64}")
+	private int maxSize;
+
+	@Value("${secondbrain.search.executor.queue-capacity:200}")
+	private int queueCapacity;
+
+	@Bean
+	public ThreadPoolTaskExecutor searchExecutor(MeterRegistry meterRegistry) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(coreSize);
+		executor.setMaxPoolSize(maxSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("search-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+
+		Gauge.builder("search.executor.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+			.description("검색 스레드 풀 대기 작업 수")
+			.register(meterRegistry);
+		Gauge.builder("search.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+			.description("검색 스레드 풀 실행 중 스레드 수")
+			.register(meterRegistry);
+
+		return executor;
+	}
+}
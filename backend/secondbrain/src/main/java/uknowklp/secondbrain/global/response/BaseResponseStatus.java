@@ -79,6 +79,8 @@ public enum BaseResponseStatus {
 	ELASTICSEARCH_CONNECTION_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR, -10602, "검색 서버 연결에 실패했습니다."),
 	ELASTICSEARCH_INDEX_NOT_FOUND(false, HttpStatus.INTERNAL_SERVER_ERROR, -10603, "검색 인덱스를 찾을 수 없습니다."),
 	ELASTICSEARCH_MAPPING_ERROR(false, HttpStatus.INTERNAL_SERVER_ERROR, -10604, "검색 데이터 형식 오류가 발생했습니다."),
+	INVALID_SEARCH_CURSOR(false, HttpStatus.BAD_REQUEST, -10605, "검색 커서가 만료되었거나 유효하지 않습니다."),
+	INVALID_SEARCH_PAGE(false, HttpStatus.BAD_REQUEST, -10606, "검색 페이지 번호 또는 페이지 크기가 유효하지 않습니다."),
 
 	/**
 	 * -10700 : 리마인더 관련 에러
@@ -89,7 +91,7 @@ public enum BaseResponseStatus {
 	REMINDER_SCHEDULE_FAILED(false, HttpStatus.INTERNAL_SERVER_ERROR, -10703, "리마인더 예약에 실패했습니다."),
 
 	/**
-	 * -10800 ~ -10809 : Draft 관련 에러
+	 * -10800 ~ -10819 : Draft 관련 에러
 	 */
 	DRAFT_NOT_FOUND(false, HttpStatus.NOT_FOUND, -10800, "Draft를 찾을 수 없습니다."),
 	DRAFT_ACCESS_DENIED(false, HttpStatus.FORBIDDEN, -10801, "Draft 접근 권한이 없습니다."),
@@ -101,6 +103,7 @@ public enum BaseResponseStatus {
 	DRAFT_ALREADY_PROCESSING(false, HttpStatus.CONFLICT, -10807, "Draft가 이미 처리 중입니다. 잠시 후 다시 시도해주세요."),
 	DRAFT_ALREADY_COMPLETED(true, HttpStatus.OK, -10808, "Draft가 이미 DB에 저장되었습니다."),
 	NOTE_CREATE_FAILED(false, HttpStatus.INTERNAL_SERVER_ERROR, -10809, "노트 생성에 실패했습니다."),
+	DRAFT_INVALID_DELTA(false, HttpStatus.UNPROCESSABLE_ENTITY, -10810, "Delta를 적용할 수 없습니다. 전체 내용을 다시 저장해주세요."),
 
 	/**
 	 * -10900 ~ -10909 : TTS 관련 에러
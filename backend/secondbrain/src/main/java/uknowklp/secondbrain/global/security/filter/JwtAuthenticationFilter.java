@@ -10,6 +10,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import uknowklp.secondbrain.global.response.BaseResponseStatus;
 import uknowklp.secondbrain.global.security.jwt.JwtProvider;
+import uknowklp.secondbrain.global.security.jwt.dto.VerifiedToken;
+import uknowklp.secondbrain.global.security.jwt.service.TokenRevocationService;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -37,6 +39,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtProvider jwtProvider;
+	private final TokenRevocationService tokenRevocationService;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -48,17 +51,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 			// 2. 토큰이 존재하면 검증 및 인증 처리
 			if (token != null) {
-				// 3. JWT 토큰 유효성 검증 (서명, 만료 시간 등)
-				if (jwtProvider.validateToken(token)) {
-					// 4. 검증된 토큰으로 Authentication 객체 생성 및 SecurityContext에 설정
-					Authentication authentication = jwtProvider.getAuthentication(token);
-					if (authentication != null) {
-						SecurityContextHolder.getContext().setAuthentication(authentication);
-
-						if (log.isDebugEnabled()) {
-							log.debug("Authentication set for user: {}, URI: {}",
-								authentication.getName(), request.getRequestURI());
-						}
+				// 3. 토큰 검증(서명, 만료 시간 등)과 Authentication 생성을 한 번의 파싱으로 처리 (최근 검증 토큰은 캐시 사용)
+				//    로그아웃 등으로 무효화된 토큰은 제외 (블룸 필터 적중 시에만 Redis 확인)
+				Authentication authentication = jwtProvider.verify(token)
+					.filter(verified -> !tokenRevocationService.isRevoked(verified.jti()))
+					.map(VerifiedToken::authentication)
+					.orElse(null);
+				if (authentication != null) {
+					// 4. SecurityContext에 설정
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+
+					if (log.isDebugEnabled()) {
+						log.debug("Authentication set for user: {}, URI: {}",
+							authentication.getName(), request.getRequestURI());
 					}
 				}
 			}
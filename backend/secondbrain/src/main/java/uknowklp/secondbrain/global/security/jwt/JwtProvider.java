@@ -1,7 +1,10 @@
 package uknowklp.secondbrain.global.security.jwt;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Optional;
@@ -20,34 +23,67 @@ import org.springframework.stereotype.Component;
 
 import uknowklp.secondbrain.api.user.domain.User;
 import uknowklp.secondbrain.global.security.jwt.dto.CustomUserDetails;
+import uknowklp.secondbrain.global.security.jwt.dto.VerifiedToken;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * JWT 생성/검증
+ *
+ * 검증 비용 최적화:
+ * - JwtParser는 thread-safe이므로 초기화 시 한 번만 생성해 재사용
+ * - 인증 캐시: 검증을 통과한 토큰의 SHA-256 다이제스트 → Authentication (Caffeine, 크기 제한)
+ *   - 만료 시간 = min(auth-cache.ttl, 토큰 exp까지 남은 시간) → 만료된 토큰은 캐시로도 통과하지 않음
+ *   - 토큰 원문은 키로 보관하지 않음 (힙 덤프 노출 방지)
+ *
+ * 지표 (Micrometer):
+ * - cache.gets / cache.evictions / cache.size {cache=jwt-authentication}
+ */
 @Slf4j
 @Component
 public class JwtProvider {
 
+	private static final String CACHE_NAME = "jwt-authentication";
+
 	private final String secret;
 	private final long accessExpireTime;
 	private final long refreshExpireTime;
+	private final long authCacheMaxSize;
+	private final Duration authCacheTtl;
+	private final MeterRegistry meterRegistry;
 	private SecretKey secretKey;
+	private JwtParser jwtParser;
+	private Cache<String, VerifiedToken> authenticationCache;
 
 	public JwtProvider(
 		@Value("${jwt.secret}") String secret,
 		@Value("${jwt.expire-time.access}") Duration accessExpireTime,
-		@Value("${jwt.expire-time.refresh}") Duration refreshExpireTime
+		@Value("${jwt.expire-time.refresh}") Duration refreshExpireTime,
+		@Value("${jwt.auth-cache.max-size:10000}") long authCacheMaxSize,
+		@Value("${jwt.auth-cache.ttl:5m}") Duration authCacheTtl,
+		MeterRegistry meterRegistry
 	) {
 		this.secret = secret;
 		this.accessExpireTime = accessExpireTime.toMillis();
 		this.refreshExpireTime = refreshExpireTime.toMillis();
+		this.authCacheMaxSize = authCacheMaxSize;
+		this.authCacheTtl = authCacheTtl;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@PostConstruct
-	private void init() {
+	public void init() {
 		// JWT Secret 키 길이 검증 (HS256은 최소 256비트/32바이트 필요)
 		byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
 		if (keyBytes.length < 32) {
@@ -63,6 +99,16 @@ public class JwtProvider {
 		// SecretKey 객체 생성
 		this.secretKey = Keys.hmacShaKeyFor(keyBytes);
 		log.info("JWT SecretKey initialized successfully (length: {} bytes)", keyBytes.length);
+
+		// thread-safe 파서 (요청마다 생성하지 않음)
+		this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+
+		this.authenticationCache = Caffeine.newBuilder()
+			.maximumSize(authCacheMaxSize)
+			.expireAfter(Expiry.creating((String digest, VerifiedToken verified) -> remainingTtl(verified)))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, authenticationCache, CACHE_NAME);
 	}
 
 	/**
@@ -77,6 +123,7 @@ public class JwtProvider {
 		Date expiryDate = new Date(now.getTime() + expireTime);
 
 		return Jwts.builder()
+			.id(UUID.randomUUID().toString()) // jti (토큰 무효화 식별자)
 			.subject(user.getEmail())
 			.claim("userId", user.getId())
 			.claim("role", "ROLE_USER")
@@ -109,7 +156,7 @@ public class JwtProvider {
 	// 토큰 유효성 검증
 	public boolean validateToken(String token) {
 		try {
-			Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+			jwtParser.parseSignedClaims(token);
 			return true;
 		} catch (Exception e) {
 			log.warn("Invalid JWT token: {}", e.getMessage());
@@ -130,11 +177,7 @@ public class JwtProvider {
 	 *         (서명 오류, 만료, 형식 오류 등)
 	 */
 	public Claims getClaims(String token) {
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(token)
-			.getPayload();
+		return jwtParser.parseSignedClaims(token).getPayload();
 	}
 
 	/**
@@ -161,38 +204,51 @@ public class JwtProvider {
 	 * <p>
 	 * 성능 최적화: DB 조회 없이 JWT claims만으로 User 객체 생성
 	 * 인증에는 userId, email, role만 필요하며 모두 JWT에 포함되어 있음
-	 * 토큰 파싱 최적화: getClaimsIfValid()를 사용하여 한 번만 파싱
+	 * 토큰 파싱 최적화: 캐시에 없을 때만 한 번 파싱 (검증 + Claims 추출)
 	 * </p>
 	 * <p>
 	 * ⚠️ 중요: 생성된 User 객체는 인증(Authentication) 전용입니다.
 	 * - User 엔티티의 필수 필드(name, setAlarm)가 null입니다.
 	 * - 비즈니스 로직에서 이 User 객체를 직접 사용하지 마세요.
 	 * - 필요 시 UserService.findById()로 완전한 User 엔티티를 조회하세요.
+	 * - 캐시된 객체는 같은 토큰의 요청끼리 공유되므로 수정하지 마세요.
 	 * </p>
 	 *
 	 * @param token JWT 토큰
-	 * @return Authentication 객체 또는 null
+	 * @return Authentication 객체 또는 null (토큰이 유효하지 않은 경우)
 	 */
 	public Authentication getAuthentication(String token) {
+		return verify(token)
+			.map(VerifiedToken::authentication)
+			.orElse(null);
+	}
+
+	/**
+	 * 토큰 검증 후 Authentication과 jti/만료 시각 반환
+	 * <p>
+	 * 최근 검증한 토큰은 캐시에서 반환하고, 캐시에 없을 때만 한 번 파싱합니다.
+	 * 무효화(jti) 여부는 확인하지 않으므로 호출자가 TokenRevocationService로 확인해야 합니다.
+	 * </p>
+	 *
+	 * @param token JWT 토큰
+	 * @return 유효한 경우 검증 결과, 무효한 경우 empty Optional
+	 */
+	public Optional<VerifiedToken> verify(String token) {
+		String digest = digest(token);
+
+		VerifiedToken cached = authenticationCache.getIfPresent(digest);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
 		return getClaimsIfValid(token)
 			.map(claims -> {
-				// JWT claims로부터 직접 User 객체 생성 (DB 조회 불필요)
-				// ⚠️ 주의: 이 User 객체는 인증 전용이며 name, setAlarm 필드가 null입니다.
-				User user = User.builder()
-					.id(claims.get("userId", Long.class))
-					.email(claims.getSubject())
-					.build();
-
-				UserDetails userDetails = new CustomUserDetails(user);
-				String role = claims.get("role", String.class);
-				Set<GrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority(role));
-				UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-					userDetails, "", authorities);
-
-				log.debug("Authenticated user from JWT: {}", user.getEmail());
-				return auth;
-			})
-			.orElse(null);
+				Date expiration = claims.getExpiration();
+				VerifiedToken verified = new VerifiedToken(createAuthentication(claims), claims.getId(),
+					expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+				authenticationCache.put(digest, verified);
+				return verified;
+			});
 	}
 
 	/**
@@ -238,4 +294,38 @@ public class JwtProvider {
 	public long getRefreshExpireTime() {
 		return refreshExpireTime;
 	}
-}
\ No newline at end of file
+
+	// ===== Private Helper Methods =====
+
+	private Authentication createAuthentication(Claims claims) {
+		// JWT claims로부터 직접 User 객체 생성 (DB 조회 불필요)
+		// ⚠️ 주의: 이 User 객체는 인증 전용이며 name, setAlarm 필드가 null입니다.
+		User user = User.builder()
+			.id(claims.get("userId", Long.class))
+			.email(claims.getSubject())
+			.build();
+
+		UserDetails userDetails = new CustomUserDetails(user);
+		String role = claims.get("role", String.class);
+		Set<GrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority(role));
+
+		log.debug("Authenticated user from JWT: {}", user.getEmail());
+		return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+	}
+
+	// 캐시 만료 시간 = min(authCacheTtl, 토큰 만료까지 남은 시간)
+	private Duration remainingTtl(VerifiedToken verified) {
+		long remainingMillis = Math.max(0L, verified.expiresAt() - System.currentTimeMillis());
+		return remainingMillis < authCacheTtl.toMillis() ? Duration.ofMillis(remainingMillis) : authCacheTtl;
+	}
+
+	// 캐시 키 (토큰 원문 대신 SHA-256 다이제스트)
+	private static String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not supported", e);
+		}
+	}
+}
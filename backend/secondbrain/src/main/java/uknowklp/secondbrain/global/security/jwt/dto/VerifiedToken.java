@@ -0,0 +1,17 @@
+package uknowklp.secondbrain.global.security.jwt.dto;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 서명/만료 검증을 통과한 토큰 정보
+ *
+ * @param authentication 토큰으로 생성한 Authentication (캐시에서 공유되므로 읽기 전용)
+ * @param jti            토큰 ID (무효화 확인용, jti 도입 이전 발급 토큰은 null)
+ * @param expiresAt      토큰 만료 시각 (epoch ms)
+ */
+public record VerifiedToken(
+	Authentication authentication,
+	String jti,
+	long expiresAt
+) {
+}
@@ -0,0 +1,187 @@
+package uknowklp.secondbrain.global.security.jwt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import uknowklp.secondbrain.global.support.ConcurrentBloomFilter;
+
+/**
+ * Access Token 무효화 (jti 기준)
+ *
+ * 저장:
+ * - Redis jwt:revoked:{jti} (TTL = 토큰 만료까지 남은 시간, 만료 후에는 서명 검증에서 거부되므로 불필요)
+ * - 인스턴스별 블룸 필터 (무효화된 jti 목록의 로컬 사본)
+ *
+ * 확인 (요청마다):
+ * - 블룸 필터 미적중 → 무효화되지 않음 (Redis 접근 없음, 대부분의 요청)
+ * - 블룸 필터 적중 → Redis에서 확정 (오탐이면 통과)
+ *
+ * 인스턴스 간 동기화:
+ * - 무효화 시 Redis 저장 후 채널로 jti 발행 → 모든 인스턴스가 블룸 필터에 추가
+ * - Pub/Sub 유실(재연결 등)과 만료된 항목 정리를 위해 rebuildInterval마다 Redis SCAN으로 필터 재생성
+ *
+ * Redis 장애 시:
+ * - 블룸 필터 적중 토큰은 무효화된 것으로 처리 (fail-closed, 적중 비율은 오탐률 수준)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+	private static final String KEY_PREFIX = "jwt:revoked:";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisConnectionFactory redisConnectionFactory;
+	private final long expectedInsertions;
+	private final double falsePositiveRate;
+	private final String channel;
+
+	private volatile ConcurrentBloomFilter bloomFilter;
+
+	// 재생성 중인 필터 (재생성 도중 들어온 무효화도 반영)
+	private volatile ConcurrentBloomFilter rebuilding;
+
+	private RedisMessageListenerContainer listenerContainer;
+
+	public TokenRevocationService(
+		StringRedisTemplate stringRedisTemplate,
+		RedisConnectionFactory redisConnectionFactory,
+		@Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+		@Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+		@Value("${jwt.revocation.channel:jwt:revoked}") String channel
+	) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisConnectionFactory = redisConnectionFactory;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.channel = channel;
+		this.bloomFilter = new ConcurrentBloomFilter(expectedInsertions, falsePositiveRate);
+	}
+
+	@PostConstruct
+	public void init() {
+		listenerContainer = new RedisMessageListenerContainer();
+		listenerContainer.setConnectionFactory(redisConnectionFactory);
+		listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+		listenerContainer.afterPropertiesSet();
+		listenerContainer.start();
+
+		// 구독 시작 후 기존 무효화 목록 적재 (그 사이 발행분은 구독으로 반영)
+		rebuild();
+	}
+
+	@PreDestroy
+	public void shutdown() throws Exception {
+		if (listenerContainer != null) {
+			listenerContainer.destroy();
+		}
+	}
+
+	/**
+	 * 토큰 무효화 여부
+	 *
+	 * @param jti 토큰 ID (null이면 무효화 불가 토큰으로 보고 false)
+	 */
+	public boolean isRevoked(String jti) {
+		if (jti == null || !bloomFilter.mightContain(jti)) {
+			return false;
+		}
+
+		try {
+			return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + jti));
+		} catch (Exception e) {
+			log.warn("토큰 무효화 확인 실패 - 무효화된 것으로 처리: {}", e.getMessage());
+			return true;
+		}
+	}
+
+	/**
+	 * 토큰 무효화
+	 *
+	 * @param jti       토큰 ID
+	 * @param expiresAt 토큰 만료 시각 (epoch ms)
+	 */
+	public void revoke(String jti, long expiresAt) {
+		long remainingMillis = expiresAt - System.currentTimeMillis();
+		if (jti == null || remainingMillis <= 0) {
+			return;
+		}
+
+		stringRedisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", Duration.ofMillis(remainingMillis));
+		addLocal(jti);
+
+		try {
+			stringRedisTemplate.convertAndSend(channel, jti);
+		} catch (Exception e) {
+			// 다른 인스턴스는 다음 재생성 때 반영
+			log.warn("토큰 무효화 전파 실패 - jti: {}, error: {}", jti, e.getMessage());
+		}
+	}
+
+	// 다른 인스턴스(자신 포함)의 무효화 반영
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Redis의 무효화 목록으로 블룸 필터 재생성 (만료된 jti 제거, 유실된 전파 복구)
+	 *
+	 * 모든 인스턴스에서 각자 실행 (필터가 인스턴스별이므로 리더 선출 없음)
+	 */
+	@Scheduled(initialDelayString = "${jwt.revocation.rebuild-interval:3600000}",
+		fixedDelayString = "${jwt.revocation.rebuild-interval:3600000}")
+	public void rebuild() {
+		ConcurrentBloomFilter next = new ConcurrentBloomFilter(expectedInsertions, falsePositiveRate);
+		rebuilding = next;
+
+		try {
+			ScanOptions options = ScanOptions.scanOptions()
+				.match(KEY_PREFIX + "*")
+				.count(1000)
+				.build();
+
+			int loaded = 0;
+			try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+				while (cursor.hasNext()) {
+					next.put(cursor.next().substring(KEY_PREFIX.length()));
+					loaded++;
+				}
+			}
+
+			bloomFilter = next;
+			log.info("토큰 무효화 필터 재생성 완료 - {}건", loaded);
+
+		} catch (Exception e) {
+			// 기존 필터 유지 (무효화 항목이 빠지지 않도록)
+			log.warn("토큰 무효화 필터 재생성 실패 - 기존 필터 유지: {}", e.getMessage());
+		} finally {
+			rebuilding = null;
+		}
+	}
+
+	// ===== Private Helper Methods =====
+
+	private void addLocal(String jti) {
+		// 재생성 필터를 먼저 읽음: 이 시점에 재생성 전이었다면 이후 SCAN이 Redis에 저장된 jti를 포함
+		ConcurrentBloomFilter next = rebuilding;
+		bloomFilter.put(jti);
+		if (next != null) {
+			next.put(jti);
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package uknowklp.secondbrain.global.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * Redis 값 압축 직렬화기 (코덱 교체 가능)
+ *
+ * 저장 형식 (첫 바이트로 구분):
+ * - 0x00 + 원본 길이(4바이트) + LZ4 블록: 압축된 값 (압축 해제 후 아래 형식 중 하나)
+ * - ":)\n" (Smile 헤더): Smile 바이너리
+ * - 그 외: JSON 텍스트 (기존 Jackson2JsonRedisSerializer로 저장된 값)
+ *
+ * 읽기는 형식을 자동 판별하므로 코덱/압축 설정을 바꿔도 기존 값을 그대로 읽을 수 있음
+ *
+ * 압축 해제:
+ * - 입력 경계를 검사하는 safeDecompressor 사용 (fastDecompressor는 손상된 입력에서 범위 밖을 읽을 수 있음)
+ * - 헤더의 원본 길이는 LZ4 최대 압축률(255배)로 상한을 두고, 해제 결과 길이가 다르면 손상된 값으로 처리
+ *
+ * Smile 설정:
+ * - JSON용 ObjectMapper 설정(모듈 등)을 그대로 복사
+ * - 날짜는 ISO 문자열 대신 숫자 배열로 저장 (Smile 정수 인코딩으로 크기 감소)
+ *
+ * @param <T> 직렬화 대상 타입
+ * @see <a href="https://github.com/FasterXML/smile-format-specification">Smile Format</a>
+ */
+public class CompactRedisSerializer<T> implements RedisSerializer<T> {
+
+	/**
+	 * 쓰기 코덱
+	 */
+	public enum Codec {
+		/** JSON 텍스트 (기존 형식) */
+		JSON,
+		/** Smile 바이너리 */
+		SMILE
+	}
+
+	private static final byte COMPRESSED_MARKER = 0x00;
+	private static final int COMPRESSED_HEADER_LENGTH = 5;
+	// LZ4 블록 최대 압축률 (원본 길이 상한 = 압축 블록 길이 * 255)
+	private static final int MAX_COMPRESSION_RATIO = 255;
+	private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+	private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+	private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+	private final ObjectMapper jsonMapper;
+	private final ObjectMapper smileMapper;
+	private final Class<T> type;
+	private final Codec codec;
+	private final int compressionThreshold;
+
+	/**
+	 * @param jsonMapper           JSON ObjectMapper (Smile 설정의 기준, 기존 JSON 값 읽기용)
+	 * @param type                 직렬화 대상 타입
+	 * @param codec                쓰기 코덱
+	 * @param compressionThreshold 이 크기(바이트) 이상이면 LZ4 압축 (0 이하면 압축 안 함)
+	 */
+	public CompactRedisSerializer(ObjectMapper jsonMapper, Class<T> type, Codec codec, int compressionThreshold) {
+		this.jsonMapper = jsonMapper;
+		this.smileMapper = jsonMapper.copyWith(new SmileFactory())
+			.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		this.type = type;
+		this.codec = codec;
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	@Override
+	public byte[] serialize(T value) throws SerializationException {
+		if (value == null) {
+			return new byte[0];
+		}
+
+		try {
+			byte[] encoded = codec == Codec.SMILE
+				? smileMapper.writeValueAsBytes(value)
+				: jsonMapper.writeValueAsBytes(value);
+
+			if (compressionThreshold <= 0 || encoded.length < compressionThreshold) {
+				return encoded;
+			}
+			return compress(encoded);
+
+		} catch (IOException e) {
+			throw new SerializationException("Redis 값 직렬화 실패: " + type.getSimpleName(), e);
+		}
+	}
+
+	@Override
+	public T deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		try {
+			byte[] payload = bytes[0] == COMPRESSED_MARKER ? decompress(bytes) : bytes;
+			return isSmile(payload)
+				? smileMapper.readValue(payload, type)
+				: jsonMapper.readValue(payload, type);
+
+		} catch (IOException | RuntimeException e) {
+			throw new SerializationException("Redis 값 역직렬화 실패: " + type.getSimpleName(), e);
+		}
+	}
+
+	@Override
+	public Class<?> getTargetType() {
+		return type;
+	}
+
+	// ===== Private Helper Methods =====
+
+	// 압축 효과가 없으면 원본 그대로 저장
+	private static byte[] compress(byte[] encoded) {
+		int maxLength = COMPRESSOR.maxCompressedLength(encoded.length);
+		byte[] buffer = new byte[COMPRESSED_HEADER_LENGTH + maxLength];
+
+		int compressedLength = COMPRESSOR.compress(
+			encoded, 0, encoded.length, buffer, COMPRESSED_HEADER_LENGTH, maxLength);
+		if (COMPRESSED_HEADER_LENGTH + compressedLength >= encoded.length) {
+			return encoded;
+		}
+
+		buffer[0] = COMPRESSED_MARKER;
+		ByteBuffer.wrap(buffer, 1, 4).putInt(encoded.length);
+		return Arrays.copyOf(buffer, COMPRESSED_HEADER_LENGTH + compressedLength);
+	}
+
+	private static byte[] decompress(byte[] bytes) {
+		if (bytes.length < COMPRESSED_HEADER_LENGTH) {
+			throw new IllegalArgumentException("압축 헤더 손상 - 길이: " + bytes.length);
+		}
+
+		int compressedLength = bytes.length - COMPRESSED_HEADER_LENGTH;
+		int originalLength = ByteBuffer.wrap(bytes, 1, 4).getInt();
+		if (originalLength < 0 || (long)originalLength > (long)compressedLength * MAX_COMPRESSION_RATIO) {
+			throw new IllegalArgumentException("잘못된 원본 길이: " + originalLength);
+		}
+
+		byte[] restored = new byte[originalLength];
+		int restoredLength = DECOMPRESSOR.decompress(
+			bytes, COMPRESSED_HEADER_LENGTH, compressedLength, restored, 0, originalLength);
+		if (restoredLength != originalLength) {
+			throw new IllegalArgumentException("압축 해제 길이 불일치: " + restoredLength + " != " + originalLength);
+		}
+		return restored;
+	}
+
+	private static boolean isSmile(byte[] payload) {
+		return payload.length >= SMILE_HEADER.length
+			&& payload[0] == SMILE_HEADER[0]
+			&& payload[1] == SMILE_HEADER[1]
+			&& payload[2] == SMILE_HEADER[2];
+	}
+}
@@ -0,0 +1,85 @@
+package uknowklp.secondbrain.global.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터 (thread-safe, 락 없음)
+ *
+ * - mightContain이 false면 추가된 적 없음이 확실 (오탐만 있고 미탐 없음)
+ * - 삭제를 지원하지 않으므로 만료된 항목은 새 필터를 만들어 교체해야 함
+ *
+ * 구현:
+ * - 비트 배열은 AtomicLongArray (동시 추가 시 비트 유실 없음)
+ * - 해시 2개를 조합해 k개의 위치 생성 (Kirsch-Mitzenmacher, h1 + i * h2)
+ *
+ * @see <a href="https://www.eecs.harvard.edu/~michaelm/postscripts/rsa2008.pdf">Less Hashing, Same Performance</a>
+ */
+public class ConcurrentBloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	/**
+	 * @param expectedInsertions 예상 항목 수 (초과하면 오탐률 증가)
+	 * @param falsePositiveRate  목표 오탐률 (0 ~ 1)
+	 */
+	public ConcurrentBloomFilter(long expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1 이어야 합니다.");
+		}
+
+		// 최적 비트 수 m = -n * ln(p) / (ln 2)^2, 해시 수 k = m / n * ln 2
+		long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.max(1, (optimalBits + 63) >>> 6);
+
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long) words << 6;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long h1 = fnv1a(value);
+		long h2 = mix(h1);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+			long mask = 1L << index;
+			int word = (int) (index >>> 6);
+			if ((bits.get(word) & mask) == 0) {
+				bits.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+			}
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long h1 = fnv1a(value);
+		long h2 = mix(h1);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Long.remainderUnsigned(h1 + i * h2, bitSize);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// ===== Private Helper Methods =====
+
+	// FNV-1a 64bit (문자 단위)
+	private static long fnv1a(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	// 두 번째 해시 (SplitMix64 finalizer, 홀수로 만들어 모든 위치를 순회)
+	private static long mix(long hash) {
+		long z = hash + 0x9e3779b97f4a7c15L;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return (z ^ (z >>> 31)) | 1L;
+	}
+}
@@ -0,0 +1,96 @@
+package uknowklp.secondbrain.global.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @Scheduled 작업 리더 선출 (Redis 리스)
+ *
+ * 모든 인스턴스에서 실행되는 스케줄러 작업을 한 인스턴스(리더)만 수행하도록 제한
+ *
+ * 동작:
+ * - 작업별 키(scheduler:lease:{job})에 인스턴스 ID를 TTL과 함께 저장
+ * - 매 주기 시작 시 tryAcquire 호출 → 리더면 TTL 연장 후 실행, 아니면 건너뜀
+ * - 리더가 종료되면 리스 반납, 비정상 종료 시 TTL 만료 후 다른 인스턴스가 획득
+ *
+ * 리스 시간:
+ * - 작업 주기 + 최대 실행 시간보다 길게 설정 (짧으면 실행 중 만료되어 중복 실행 가능)
+ *
+ * Redis 장애 시:
+ * - 리스 확인 실패면 작업 실행 (기존 중복 방지 장치에 맡김, 작업이 멈추지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLease {
+
+	private static final String KEY_PREFIX = "scheduler:lease:";
+
+	private static final RedisScript<Long> ACQUIRE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/scheduler-lease-acquire.lua"), Long.class);
+	private static final RedisScript<Long> RELEASE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/scheduler-lease-release.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	// 리스 소유자 식별용 인스턴스 ID
+	private final String instanceId = UUID.randomUUID().toString();
+
+	// 현재 이 인스턴스가 리더인 작업 (종료 시 반납용)
+	private final Set<String> heldJobs = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * 리스 획득 또는 연장
+	 *
+	 * @param job       작업 이름
+	 * @param leaseTime 리스 유지 시간
+	 * @return 이 인스턴스가 리더면 true
+	 */
+	public boolean tryAcquire(String job, Duration leaseTime) {
+		try {
+			Long result = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + job),
+				instanceId, String.valueOf(leaseTime.toMillis()));
+
+			if (Long.valueOf(1L).equals(result)) {
+				if (heldJobs.add(job)) {
+					log.info("스케줄러 리더 획득 - Job: {}, Instance: {}", job, instanceId);
+				}
+				return true;
+			}
+
+			if (heldJobs.remove(job)) {
+				log.warn("스케줄러 리더 상실 - Job: {}, Instance: {}", job, instanceId);
+			}
+			return false;
+
+		} catch (Exception e) {
+			log.warn("스케줄러 리스 확인 실패 - Job: {}, 리스 없이 실행: {}", job, e.getMessage());
+			return true;
+		}
+	}
+
+	@PreDestroy
+	public void releaseAll() {
+		for (String job : heldJobs) {
+			try {
+				stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + job), instanceId);
+				log.info("스케줄러 리스 반납 - Job: {}", job);
+			} catch (Exception e) {
+				log.warn("스케줄러 리스 반납 실패 - Job: {}, TTL 만료 후 해제: {}", job, e.getMessage());
+			}
+		}
+		heldJobs.clear();
+	}
+}
@@ -0,0 +1,25 @@
+package uknowklp.secondbrain.global.websocket;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로컬 STOMP 전달 (simple 모드, 기본값)
+ *
+ * 현재 인스턴스에 연결된 클라이언트에게만 전달되므로 단일 인스턴스 환경에서만 사용
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "secondbrain.websocket.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class LocalStompMessageRelay implements StompMessageRelay {
+
+	private final SimpMessagingTemplate messagingTemplate;
+
+	@Override
+	public void convertAndSend(String destination, Object payload) {
+		messagingTemplate.convertAndSend(destination, payload);
+	}
+}
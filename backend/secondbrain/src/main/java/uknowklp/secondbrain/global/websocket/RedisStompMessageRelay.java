@@ -0,0 +1,110 @@
+package uknowklp.secondbrain.global.websocket;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Pub/Sub 기반 STOMP 전달 (redis 모드)
+ *
+ * 소켓이 어느 인스턴스에 연결되어 있어도 메시지가 도달하도록 모든 인스턴스로 중계
+ *
+ * 처리 흐름:
+ * 1. 발신 인스턴스: {destination, payload}를 JSON으로 채널에 PUBLISH
+ * 2. 모든 인스턴스: 채널 메시지를 받아 자신의 SimpleBroker로 전달
+ * 3. SimpleBroker: 해당 destination 구독자가 이 인스턴스에 있을 때만 전송 (없으면 버림)
+ *
+ * Redis 장애 시:
+ * - PUBLISH 실패면 현재 인스턴스 구독자에게만 전달 (simple 모드와 동일하게 동작)
+ *
+ * 전달 보장:
+ * - at-most-once (Pub/Sub은 저장하지 않으므로 수신 시점에 연결이 없으면 유실)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "secondbrain.websocket.broker.mode", havingValue = "redis")
+public class RedisStompMessageRelay implements StompMessageRelay, MessageListener {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisConnectionFactory redisConnectionFactory;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ObjectMapper objectMapper;
+
+	// 인스턴스 간 중계 채널
+	@Value("${secondbrain.websocket.broker.channel:stomp:relay}")
+	private String channel;
+
+	private RedisMessageListenerContainer listenerContainer;
+
+	/**
+	 * 인스턴스 간 전달 메시지
+	 *
+	 * @param destination 구독 경로
+	 * @param payload     메시지 본문 (JSON 트리 그대로 전달하여 재변환 시 형식 유지)
+	 */
+	record RelayMessage(String destination, JsonNode payload) {
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		listenerContainer = new RedisMessageListenerContainer();
+		listenerContainer.setConnectionFactory(redisConnectionFactory);
+		listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+		listenerContainer.afterPropertiesSet();
+		listenerContainer.start();
+		log.info("STOMP Redis 중계 구독 시작 - channel: {}", channel);
+	}
+
+	@PreDestroy
+	public void unsubscribe() throws Exception {
+		if (listenerContainer != null) {
+			listenerContainer.destroy();
+		}
+	}
+
+	@Override
+	public void convertAndSend(String destination, Object payload) {
+		RelayMessage message = new RelayMessage(destination, objectMapper.valueToTree(payload));
+
+		try {
+			stringRedisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("STOMP 중계 메시지 직렬화 실패", e);
+		} catch (Exception e) {
+			log.warn("STOMP Redis 중계 실패 - 현재 인스턴스에만 전달: destination={}, error={}",
+				destination, e.getMessage());
+			messagingTemplate.convertAndSend(destination, message.payload());
+		}
+	}
+
+	// 다른 인스턴스(자신 포함)에서 발행한 메시지를 로컬 구독자에게 전달
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			RelayMessage relayed = objectMapper.readValue(
+				new String(message.getBody(), StandardCharsets.UTF_8), RelayMessage.class);
+			messagingTemplate.convertAndSend(relayed.destination(), relayed.payload());
+		} catch (Exception e) {
+			log.warn("STOMP 중계 메시지 처리 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -2,29 +2,41 @@ package uknowklp.secondbrain.global.websocket;
 
 import java.security.Principal;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
-import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import uknowklp.secondbrain.api.note.service.ReminderInboxService;
 import uknowklp.secondbrain.global.exception.BaseException;
 import uknowklp.secondbrain.global.response.BaseResponseStatus;
 import uknowklp.secondbrain.global.security.jwt.JwtProvider;
 import uknowklp.secondbrain.global.security.jwt.dto.CustomUserDetails;
+import uknowklp.secondbrain.global.security.jwt.dto.VerifiedToken;
+import uknowklp.secondbrain.global.security.jwt.service.TokenRevocationService;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class StompHandler implements ChannelInterceptor {
+public class StompHandler implements ExecutorChannelInterceptor {
+
+	private static final String REMINDER_TOPIC_PREFIX = "/topic/reminder/";
 
 	private final JwtProvider jwtProvider;
+	private final TokenRevocationService tokenRevocationService;
+
+	// WebSocket 설정 → StompHandler → 수신함(SimpMessagingTemplate) → WebSocket 설정 순환 방지를 위해 지연 조회
+	private final ObjectProvider<ReminderInboxService> reminderInboxServiceProvider;
 
 	// 메시지 전송 전 인터셉트
 	@Override
@@ -43,8 +55,14 @@ public class StompHandler implements ChannelInterceptor {
 
 				String token = authHeader.substring(7);
 
-				// JWT 검증 및 인증 정보 추출
-				Authentication authentication = jwtProvider.getAuthentication(token);
+				// JWT 검증 및 인증 정보 추출 (무효화된 토큰 제외)
+				Authentication authentication = jwtProvider.verify(token)
+					.filter(verified -> !tokenRevocationService.isRevoked(verified.jti()))
+					.map(VerifiedToken::authentication)
+					.orElseThrow(() -> {
+						log.warn("WebSocket 연결 실패: 유효하지 않거나 무효화된 토큰");
+						return new BaseException(BaseResponseStatus.UNAUTHORIZED);
+					});
 
 				// CustomUserDetails에서 User 정보 추출
 				CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
@@ -71,8 +89,8 @@ public class StompHandler implements ChannelInterceptor {
 				}
 
 				// /topic/reminder/{userId} 형식 검증
-				if (destination != null && destination.startsWith("/topic/reminder/")) {
-					String topicUserId = destination.substring("/topic/reminder/".length());
+				if (destination != null && destination.startsWith(REMINDER_TOPIC_PREFIX)) {
+					String topicUserId = destination.substring(REMINDER_TOPIC_PREFIX.length());
 
 					if (!userId.equals(topicUserId)) {
 						log.warn("구독 권한 없음 - userId: {}, destination: {}", userId, destination);
@@ -93,4 +111,25 @@ public class StompHandler implements ChannelInterceptor {
 
 		return message;
 	}
+
+	// 브로커가 구독을 등록한 뒤 수신함의 미확인 알림 재전송 (preSend 시점에는 구독 전이라 전달되지 않음)
+	@Override
+	public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+		Exception ex) {
+		if (ex != null || !(handler instanceof AbstractBrokerMessageHandler)) {
+			return;
+		}
+
+		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+		if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+			return;
+		}
+
+		String destination = accessor.getDestination();
+		if (destination != null && destination.startsWith(REMINDER_TOPIC_PREFIX)) {
+			// preSend에서 본인 topic인지 검증 완료
+			Long userId = Long.valueOf(destination.substring(REMINDER_TOPIC_PREFIX.length()));
+			reminderInboxServiceProvider.getObject().replay(userId);
+		}
+	}
 }
@@ -0,0 +1,21 @@
+package uknowklp.secondbrain.global.websocket;
+
+/**
+ * STOMP 메시지 전달 경로 (브로커 모드별 구현)
+ *
+ * 구현:
+ * - LocalStompMessageRelay (simple): 현재 인스턴스의 SimpleBroker로 바로 전달 (단일 인스턴스, 로컬/테스트용)
+ * - RedisStompMessageRelay (redis): Redis Pub/Sub으로 모든 인스턴스에 전달 후 각 인스턴스가 자신의 SimpleBroker로 전달
+ *
+ * 설정: secondbrain.websocket.broker.mode (simple | redis)
+ */
+public interface StompMessageRelay {
+
+	/**
+	 * 구독자에게 메시지 전달
+	 *
+	 * @param destination 구독 경로 (예: /topic/reminder/{userId})
+	 * @param payload     메시지 본문 (JSON으로 변환)
+	 */
+	void convertAndSend(String destination, Object payload);
+}
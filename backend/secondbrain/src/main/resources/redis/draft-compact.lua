@@ -0,0 +1,20 @@
+-- Draft Delta 로그 압축 (압축 기준 버전이 현재 버전과 같을 때만 스냅샷 교체 + 로그 삭제)
+--
+-- KEYS[1] draft:note:{noteId}   스냅샷
+-- KEYS[2] draft:delta:{noteId}  Delta 로그
+-- KEYS[3] draft:meta:{noteId}   소유자/현재 버전/현재 텍스트 HASH (userId, version, title, content)
+--
+-- ARGV[1] 압축 기준 버전 (스냅샷 + 로그를 적용한 버전)
+-- ARGV[2] 새 스냅샷
+-- ARGV[3] TTL (초)
+--
+-- 반환: 1 압축 완료 | 0 그 사이 다른 저장이 있어 건너뜀 (다음 Delta 저장 시 다시 시도)
+
+if redis.call('HGET', KEYS[3], 'version') ~= ARGV[1] then
+	return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'EX', tonumber(ARGV[3]))
+redis.call('DEL', KEYS[2])
+
+return 1
@@ -0,0 +1,77 @@
+-- Draft Delta 저장 (버전 비교 + 현재 텍스트 기준 Delta 검증/적용 + Delta 추가 + TTL 갱신을 원자적으로 수행)
+--
+-- 메타 HASH의 현재 제목/내용(UTF-16BE)에 Delta를 적용해 검증 (스냅샷/Delta 로그는 읽지 않음)
+-- UTF-16BE이므로 Delta 위치(UTF-16 인덱스) p는 바이트 오프셋 2p와 같음
+-- oldValue가 해당 위치의 현재 텍스트와 다르면 아무것도 쓰지 않고 거부
+--
+-- KEYS[1] draft:note:{noteId}   스냅샷
+-- KEYS[2] draft:delta:{noteId}  Delta 로그
+-- KEYS[3] draft:meta:{noteId}   소유자/현재 버전/현재 텍스트 HASH (userId, version, title, content)
+-- KEYS[4] user:drafts:{userId}  사용자별 Draft SET
+-- KEYS[5] drafts:by-modified     수정 시각 인덱스 ZSET (score = epoch millis)
+--
+-- ARGV[1] userId
+-- ARGV[2] 클라이언트 버전
+-- ARGV[3] Delta 로그 항목 (JSON 배열)
+-- ARGV[4] TTL (초)
+-- ARGV[5] 수정 시각 (epoch millis)
+-- ARGV[6] noteId
+-- ARGV[7] 제목 최대 길이 (UTF-16 단위)
+-- ARGV[8] 기준 텍스트 전달 여부 (1이면 메타에 텍스트가 없을 때 ARGV[9], ARGV[10] 사용)
+-- ARGV[9] 기준 제목 (UTF-16BE)
+-- ARGV[10] 기준 내용 (UTF-16BE)
+-- ARGV[11..] 작업별 4개씩: 대상 필드(TITLE|CONTENT), 위치, 삭제 텍스트(UTF-16BE), 삽입 텍스트(UTF-16BE)
+--
+-- 반환: Delta 로그 길이 | -1 버전 충돌 | -3 메타 없음 (이전 형식 Draft) | -4 권한 없음
+--       | -5 Draft 없음 | -6 현재 텍스트 없음 | -7 적용 불가능한 Delta
+
+local meta = redis.call('HMGET', KEYS[3], 'userId', 'version', 'title', 'content')
+local owner, version = meta[1], meta[2]
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	return -5
+end
+if not version then
+	return -3
+end
+if owner ~= ARGV[1] then
+	return -4
+end
+if version ~= ARGV[2] then
+	return -1
+end
+
+local text = { TITLE = meta[3], CONTENT = meta[4] }
+if not text.TITLE or not text.CONTENT then
+	if ARGV[8] ~= '1' then
+		return -6
+	end
+	text.TITLE, text.CONTENT = ARGV[9], ARGV[10]
+end
+
+-- 같은 요청의 작업은 앞선 작업이 적용된 텍스트를 기준으로 검증
+for i = 11, #ARGV, 4 do
+	local current = text[ARGV[i]]
+	local offset = tonumber(ARGV[i + 1]) * 2
+	local removed, inserted = ARGV[i + 2], ARGV[i + 3]
+	if offset + #removed > #current or string.sub(current, offset + 1, offset + #removed) ~= removed then
+		return -7
+	end
+	text[ARGV[i]] = string.sub(current, 1, offset) .. inserted .. string.sub(current, offset + #removed + 1)
+end
+if #text.TITLE > tonumber(ARGV[7]) * 2 then
+	return -7
+end
+
+local newVersion = tonumber(ARGV[2]) + 1
+local ttl = tonumber(ARGV[4])
+
+local logLength = redis.call('RPUSH', KEYS[2], ARGV[3])
+redis.call('EXPIRE', KEYS[2], ttl)
+redis.call('EXPIRE', KEYS[1], ttl)
+redis.call('HSET', KEYS[3], 'version', newVersion, 'title', text.TITLE, 'content', text.CONTENT)
+redis.call('EXPIRE', KEYS[3], ttl)
+redis.call('EXPIRE', KEYS[4], ttl)
+redis.call('ZADD', KEYS[5], ARGV[5], ARGV[6])
+
+return logLength
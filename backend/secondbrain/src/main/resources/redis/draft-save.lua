@@ -0,0 +1,51 @@
+-- Draft 전체 저장 (버전 비교 + 스냅샷 저장 + 사용자 SET 등록 + TTL 갱신을 원자적으로 수행)
+--
+-- KEYS[1] draft:note:{noteId}   스냅샷
+-- KEYS[2] draft:delta:{noteId}  Delta 로그
+-- KEYS[3] draft:meta:{noteId}   소유자/현재 버전/현재 텍스트 HASH (userId, version, title, content)
+-- KEYS[4] user:drafts:{userId}  사용자별 Draft SET
+-- KEYS[5] drafts:by-modified     수정 시각 인덱스 ZSET (score = epoch millis)
+--
+-- ARGV[1] userId
+-- ARGV[2] 클라이언트 버전
+-- ARGV[3] 새 스냅샷 (버전 = ARGV[2] + 1)
+-- ARGV[4] TTL (초)
+-- ARGV[5] 사용자 SET 멤버 (직렬화된 noteId)
+-- ARGV[6] 수정 시각 (epoch millis)
+-- ARGV[7] noteId
+-- ARGV[8] 제목 (UTF-16BE, Delta 검증용)
+-- ARGV[9] 내용 (UTF-16BE, Delta 검증용)
+--
+-- 반환: 새 버전 | -1 버전 충돌 | -2 잘못된 초기 버전 | -3 메타 없음 (이전 형식 Draft) | -4 권한 없음
+
+local meta = redis.call('HMGET', KEYS[3], 'userId', 'version')
+local owner, version = meta[1], meta[2]
+
+if not version then
+	if redis.call('EXISTS', KEYS[1]) == 1 then
+		return -3
+	end
+	if ARGV[2] ~= '1' then
+		return -2
+	end
+else
+	if owner ~= ARGV[1] then
+		return -4
+	end
+	if version ~= ARGV[2] then
+		return -1
+	end
+end
+
+local newVersion = tonumber(ARGV[2]) + 1
+local ttl = tonumber(ARGV[4])
+
+redis.call('SET', KEYS[1], ARGV[3], 'EX', ttl)
+redis.call('DEL', KEYS[2])
+redis.call('HSET', KEYS[3], 'userId', ARGV[1], 'version', newVersion, 'title', ARGV[8], 'content', ARGV[9])
+redis.call('EXPIRE', KEYS[3], ttl)
+redis.call('SADD', KEYS[4], ARGV[5])
+redis.call('EXPIRE', KEYS[4], ttl)
+redis.call('ZADD', KEYS[5], ARGV[6], ARGV[7])
+
+return newVersion
@@ -0,0 +1,14 @@
+-- 리마인더 수신함 추가 (최대 개수 유지 + 만료 시간 갱신)
+--
+-- KEYS[1] reminder:inbox:{userId}
+--
+-- ARGV[1] 최대 보관 개수 (초과 시 오래된 알림부터 삭제)
+-- ARGV[2] 만료 시간 (ms, 마지막 추가 기준)
+-- ARGV[3] 알림 JSON
+--
+-- 반환: 스트림 ID (수신함 ID)
+
+local id = redis.call('XADD', KEYS[1], 'MAXLEN', ARGV[1], '*', 'data', ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+
+return id
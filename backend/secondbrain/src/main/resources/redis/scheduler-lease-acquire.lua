@@ -0,0 +1,22 @@
+-- 스케줄러 리스 획득/연장 (현재 소유자면 연장, 비어 있으면 획득)
+--
+-- KEYS[1] scheduler:lease:{job}
+--
+-- ARGV[1] 인스턴스 ID
+-- ARGV[2] 리스 시간 (ms)
+--
+-- 반환: 1 획득/연장 | 0 다른 인스턴스가 소유
+
+local owner = redis.call('GET', KEYS[1])
+
+if owner == ARGV[1] then
+	redis.call('PEXPIRE', KEYS[1], ARGV[2])
+	return 1
+end
+
+if not owner then
+	redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+	return 1
+end
+
+return 0
@@ -0,0 +1,13 @@
+-- 스케줄러 리스 반납 (소유자일 때만 삭제)
+--
+-- KEYS[1] scheduler:lease:{job}
+--
+-- ARGV[1] 인스턴스 ID
+--
+-- 반환: 1 반납 | 0 소유자 아님
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	return redis.call('DEL', KEYS[1])
+end
+
+return 0
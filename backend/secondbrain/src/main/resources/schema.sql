@@ -0,0 +1,8 @@
+-- JPA 매핑으로 표현할 수 없는 인덱스 (ddl-auto로 테이블 생성 후 실행, 재실행 안전)
+
+-- 리마인더 발송 대기열: remind_at이 있는 노트만 인덱싱 (전체 노트 수와 무관한 조회 비용)
+CREATE INDEX IF NOT EXISTS idx_notes_remind_due ON notes (remind_at) WHERE remind_at IS NOT NULL;
+
+-- API Key 평문 저장분을 SHA-256 다이제스트(hex)로 변환 (UUID 형식 값만 대상이므로 재실행 안전)
+UPDATE users SET api_key = encode(sha256(convert_to(api_key, 'UTF8')), 'hex')
+WHERE api_key ~ '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$';
@@ -0,0 +1,80 @@
+package uknowklp.secondbrain.api.apikey.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import uknowklp.secondbrain.api.apikey.dto.ApiKeyResponse;
+import uknowklp.secondbrain.api.apikey.event.ApiKeyRevokedEvent;
+import uknowklp.secondbrain.api.user.domain.User;
+import uknowklp.secondbrain.api.user.repository.UserRepository;
+import uknowklp.secondbrain.global.exception.BaseException;
+import uknowklp.secondbrain.global.response.BaseResponseStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiKeyService 단위 테스트")
+class ApiKeyServiceImplTest {
+
+	private static final String API_KEY = "123e4567-e89b-12d3-a456-426614174000";
+
+	// SELECT encode(sha256(convert_to('123e4567-e89b-12d3-a456-426614174000', 'UTF8')), 'hex')
+	private static final String API_KEY_HASH = "986c0dc956dc822b5d8f698661b9eb1ef880786ff9043c16744d2a420e99e9bb";
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private ApiKeyCache apiKeyCache;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private ApiKeyServiceImpl apiKeyService;
+
+	@Test
+	@DisplayName("API Key 검증 - 다이제스트로 캐시 조회, 미적중 시 DB 조회")
+	@SuppressWarnings("unchecked")
+	void validateApiKey_LooksUpByDigest() {
+		// given
+		given(apiKeyCache.getUserId(anyString(), any(Function.class)))
+			.willAnswer(invocation -> ((Function<String, Long>) invocation.getArgument(1))
+				.apply(invocation.getArgument(0)));
+		given(userRepository.findByApiKeyHash(anyString())).willReturn(Optional.empty());
+		given(userRepository.findByApiKeyHash(API_KEY_HASH))
+			.willReturn(Optional.of(User.builder().id(1L).apiKeyHash(API_KEY_HASH).build()));
+
+		// when & then
+		assertEquals(1L, apiKeyService.validateApiKey(API_KEY).userId());
+
+		BaseException exception = assertThrows(BaseException.class,
+			() -> apiKeyService.validateApiKey("unknown-key"));
+		assertEquals(BaseResponseStatus.INVALID_API_KEY, exception.getStatus());
+	}
+
+	@Test
+	@DisplayName("API Key 재발급 - 새 키는 다이제스트로 저장, 기존 키는 무효화 이벤트 발행")
+	void generateApiKey_Reissue_RevokesPreviousKey() {
+		// given
+		User user = User.builder().id(1L).apiKeyHash(API_KEY_HASH).build();
+		given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+		// when
+		ApiKeyResponse response = apiKeyService.generateApiKey(1L);
+
+		// then
+		assertNotEquals(response.apiKey(), user.getApiKeyHash());
+		assertEquals(64, user.getApiKeyHash().length());
+		verify(eventPublisher).publishEvent(new ApiKeyRevokedEvent(API_KEY_HASH));
+	}
+}
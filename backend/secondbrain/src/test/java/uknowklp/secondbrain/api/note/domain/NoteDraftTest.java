@@ -0,0 +1,73 @@
+package uknowklp.secondbrain.api.note.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import uknowklp.secondbrain.api.note.dto.DeltaOperation;
+import uknowklp.secondbrain.api.note.dto.DeltaOperation.DeltaField;
+import uknowklp.secondbrain.api.note.dto.DeltaOperation.DeltaType;
+
+@DisplayName("NoteDraft Delta 적용 테스트")
+class NoteDraftTest {
+
+	private NoteDraft draft() {
+		return NoteDraft.builder()
+			.noteId("note-1")
+			.userId(1L)
+			.title("제목")
+			.content("Hello World")
+			.version(3L)
+			.build();
+	}
+
+	@Test
+	@DisplayName("INSERT/DELETE/REPLACE 순서대로 적용 후 버전 1 증가")
+	void applyDeltas_AllTypes_AppliedInOrder() {
+		// given
+		NoteDraft draft = draft();
+		List<DeltaOperation> operations = List.of(
+			DeltaOperation.builder().type(DeltaType.INSERT).position(5).newValue(",").build(),
+			DeltaOperation.builder().type(DeltaType.REPLACE).position(7).oldValue("World").newValue("Delta").build(),
+			DeltaOperation.builder().type(DeltaType.DELETE).position(0).oldValue("Hello").build(),
+			DeltaOperation.builder().type(DeltaType.INSERT).field(DeltaField.TITLE).position(2).newValue(" 수정").build()
+		);
+
+		// when
+		draft.applyDeltas(operations);
+
+		// then
+		assertEquals(", Delta", draft.getContent());
+		assertEquals("제목 수정", draft.getTitle());
+		assertEquals(4L, draft.getVersion());
+	}
+
+	@Test
+	@DisplayName("oldValue 불일치 시 적용 실패")
+	void applyDeltas_OldValueMismatch_ThrowsException() {
+		// given
+		NoteDraft draft = draft();
+		List<DeltaOperation> operations = List.of(
+			DeltaOperation.builder().type(DeltaType.DELETE).position(0).oldValue("World").build()
+		);
+
+		// when & then
+		assertThrows(IllegalArgumentException.class, () -> draft.applyDeltas(operations));
+	}
+
+	@Test
+	@DisplayName("위치가 텍스트 길이를 벗어나면 적용 실패")
+	void applyDeltas_PositionOutOfRange_ThrowsException() {
+		// given
+		NoteDraft draft = draft();
+		List<DeltaOperation> operations = List.of(
+			DeltaOperation.builder().type(DeltaType.INSERT).position(100).newValue("!").build()
+		);
+
+		// when & then
+		assertThrows(IllegalArgumentException.class, () -> draft.applyDeltas(operations));
+	}
+}
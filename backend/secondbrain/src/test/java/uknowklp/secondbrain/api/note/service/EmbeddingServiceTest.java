@@ -0,0 +1,106 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.openai.client.OpenAIClient;
+import com.openai.models.CreateEmbeddingResponse;
+import com.openai.models.Embedding;
+
+import uknowklp.secondbrain.api.note.dto.EmbeddingBatchResult;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmbeddingService 배치 임베딩 단위 테스트")
+class EmbeddingServiceTest {
+
+	@Mock
+	private OpenAIClient client;
+
+	@Mock
+	private com.openai.services.blocking.EmbeddingService embeddingApi;
+
+	private EmbeddingService embeddingService;
+	private ExecutorService batchExecutor;
+
+	@BeforeEach
+	void setUp() {
+		// 단일 스레드로 배치를 순서대로 처리 (응답 스텁 순서 고정)
+		batchExecutor = Executors.newSingleThreadExecutor();
+		embeddingService = new EmbeddingService();
+		ReflectionTestUtils.setField(embeddingService, "client", client);
+		ReflectionTestUtils.setField(embeddingService, "batchExecutor", batchExecutor);
+		ReflectionTestUtils.setField(embeddingService, "embeddingModel", "text-embedding-3-small");
+		given(client.embeddings()).willReturn(embeddingApi);
+	}
+
+	@AfterEach
+	void tearDown() {
+		batchExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("배치 임베딩 - index 기준으로 입력 순서 복원, 응답에서 빠진 항목은 단건 재시도")
+	void generateEmbeddings_ReordersByIndex_AndRetriesMissing() {
+		// given
+		ReflectionTestUtils.setField(embeddingService, "batchSize", 3);
+		CreateEmbeddingResponse batch = response(embedding(1, 1.0), embedding(0, 0.0)); // index 2 누락
+		CreateEmbeddingResponse single = response(embedding(0, 2.0));
+		given(embeddingApi.create(any())).willReturn(batch, single);
+
+		// when
+		EmbeddingBatchResult result = embeddingService.generateEmbeddings(List.of("a", "b", "c"));
+
+		// then
+		assertFalse(result.hasFailures());
+		assertEquals(0.0f, result.embeddings().get(0)[0]);
+		assertEquals(1.0f, result.embeddings().get(1)[0]);
+		assertEquals(2.0f, result.embeddings().get(2)[0]);
+		verify(embeddingApi, times(2)).create(any());
+	}
+
+	@Test
+	@DisplayName("배치 임베딩 - 배치 실패 시 단건 재시도, 재시도도 실패한 항목은 failedIndexes에 기록")
+	void generateEmbeddings_ChunkFailure_FallsBackAndRecordsFailures() {
+		// given
+		ReflectionTestUtils.setField(embeddingService, "batchSize", 2);
+		given(embeddingApi.create(any()))
+			.willThrow(new RuntimeException("batch failed"))
+			.willReturn(response(embedding(0, 5.0)))
+			.willThrow(new RuntimeException("single failed"));
+
+		// when
+		EmbeddingBatchResult result = embeddingService.generateEmbeddings(List.of("a", "b"));
+
+		// then
+		assertEquals(5.0f, result.embeddings().get(0)[0]);
+		assertNull(result.embeddings().get(1));
+		assertEquals(List.of(1), result.failedIndexes());
+		assertEquals(1, result.successCount());
+	}
+
+	private static CreateEmbeddingResponse response(Embedding... embeddings) {
+		CreateEmbeddingResponse response = mock(CreateEmbeddingResponse.class);
+		given(response.data()).willReturn(List.of(embeddings));
+		return response;
+	}
+
+	private static Embedding embedding(long index, double value) {
+		Embedding embedding = mock(Embedding.class);
+		lenient().when(embedding.index()).thenReturn(index); // 단건 응답은 index를 읽지 않음
+		given(embedding.embedding()).willReturn(List.of(value));
+		return embedding;
+	}
+}
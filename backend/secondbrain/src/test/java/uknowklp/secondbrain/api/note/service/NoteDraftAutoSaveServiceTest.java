@@ -0,0 +1,73 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import uknowklp.secondbrain.api.note.constant.DraftAutoSaveResult;
+import uknowklp.secondbrain.api.note.domain.NoteDraft;
+import uknowklp.secondbrain.api.note.dto.StaleDraftPage;
+import uknowklp.secondbrain.global.support.SchedulerLease;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NoteDraftAutoSaveService 단위 테스트")
+class NoteDraftAutoSaveServiceTest {
+
+	@Mock
+	private NoteDraftService draftService;
+
+	@Mock
+	private NoteDraftPromotionWorker promotionWorker;
+
+	@Mock
+	private SchedulerLease schedulerLease;
+
+	private NoteDraftAutoSaveService autoSaveService;
+
+	@BeforeEach
+	void setUp() {
+		autoSaveService = new NoteDraftAutoSaveService(draftService, promotionWorker, schedulerLease);
+		ReflectionTestUtils.setField(autoSaveService, "pageSize", 400);
+		ReflectionTestUtils.setField(autoSaveService, "batchSize", 100);
+		ReflectionTestUtils.setField(autoSaveService, "concurrency", 4);
+		ReflectionTestUtils.setField(autoSaveService, "leaseTime", Duration.ofMinutes(6));
+		autoSaveService.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		autoSaveService.shutdown();
+	}
+
+	@Test
+	@DisplayName("페이지 처리 중 리더를 잃으면 다음 페이지를 조회하지 않고 중단")
+	void autoSaveStaleDrafts_LeaseLostBetweenPages_StopsBeforeNextPage() {
+		// given
+		NoteDraft draft = NoteDraft.builder().noteId("draft-1").userId(1L).title("제목").content("내용").build();
+		given(schedulerLease.tryAcquire(eq("draft-autosave"), any())).willReturn(true, false);
+		given(draftService.getStaleDrafts(any(), isNull(), eq(400)))
+			.willReturn(new StaleDraftPage(List.of(draft), 1000L, true));
+		given(draftService.getProcessingStatuses(List.of("draft-1"))).willReturn(Arrays.asList((String)null));
+		given(draftService.markAllAsProcessing(List.of("draft-1"))).willReturn(List.of("draft-1"));
+		given(promotionWorker.promote(List.of(draft))).willReturn(List.of(DraftAutoSaveResult.SAVED));
+
+		// when
+		autoSaveService.autoSaveStaleDrafts();
+
+		// then
+		then(promotionWorker).should().promote(List.of(draft));
+		then(schedulerLease).should(times(2)).tryAcquire(eq("draft-autosave"), any());
+		then(draftService).should(never()).getStaleDrafts(any(), eq(1000L), anyInt());
+	}
+}
@@ -0,0 +1,98 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uknowklp.secondbrain.api.note.constant.DraftAutoSaveResult;
+import uknowklp.secondbrain.api.note.domain.Note;
+import uknowklp.secondbrain.api.note.domain.NoteDraft;
+import uknowklp.secondbrain.api.note.dto.NoteRequest;
+import uknowklp.secondbrain.global.exception.BaseException;
+import uknowklp.secondbrain.global.response.BaseResponseStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NoteDraftPromotionWorker 단위 테스트")
+class NoteDraftPromotionWorkerTest {
+
+	@Mock
+	private NoteService noteService;
+
+	@Mock
+	private NoteDraftService draftService;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private NoteDraftPromotionWorker promotionWorker;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		promotionWorker = new NoteDraftPromotionWorker(noteService, draftService, transactionTemplate, meterRegistry);
+		ReflectionTestUtils.setField(promotionWorker, "commitInterval", 2);
+
+		// 콜백을 그대로 실행 (커밋/롤백은 검증 대상 아님)
+		given(transactionTemplate.execute(any())).willAnswer(invocation ->
+			invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	private NoteDraft draft(String noteId) {
+		return NoteDraft.builder().noteId(noteId).userId(1L).title("제목").content("내용").build();
+	}
+
+	@Test
+	@DisplayName("청크 단위 저장 - commitInterval개마다 트랜잭션 1회")
+	void promote_SplitsIntoChunks() {
+		// given
+		given(noteService.createNotes(anyList())).willAnswer(invocation -> {
+			List<?> commands = invocation.getArgument(0);
+			return commands.stream().map(command -> Note.builder().id(10L).build()).toList();
+		});
+
+		// when
+		List<DraftAutoSaveResult> results = promotionWorker.promote(
+			List.of(draft("a"), draft("b"), draft("c")));
+
+		// then
+		assertEquals(List.of(DraftAutoSaveResult.SAVED, DraftAutoSaveResult.SAVED, DraftAutoSaveResult.SAVED), results);
+		then(transactionTemplate).should(times(2)).execute(any());
+		then(draftService).should(times(2)).markAllAsCompleted(anyMap());
+		assertEquals(2, meterRegistry.get("draft.promotion.chunk").tag("result", "success").timer().count());
+	}
+
+	@Test
+	@DisplayName("청크 저장 실패 - Draft별 독립 트랜잭션으로 재시도, 검증 실패 Draft만 SKIPPED")
+	void promote_ChunkFailure_FallsBackPerDraft() {
+		// given
+		given(noteService.createNotes(anyList()))
+			.willThrow(new BaseException(BaseResponseStatus.NOTE_CONTENT_EMPTY));
+		given(noteService.createNote(eq(1L), any(NoteRequest.class)))
+			.willReturn(Note.builder().id(10L).build())
+			.willThrow(new BaseException(BaseResponseStatus.NOTE_CONTENT_EMPTY));
+
+		// when
+		List<DraftAutoSaveResult> results = promotionWorker.promote(List.of(draft("a"), draft("b")));
+
+		// then
+		assertEquals(List.of(DraftAutoSaveResult.SAVED, DraftAutoSaveResult.SKIPPED), results);
+		then(draftService).should().markAsCompleted("a", 10L);
+		then(draftService).should().rollbackProcessingStatuses(List.of("b"));
+		then(draftService).should(never()).markAllAsCompleted(anyMap());
+		assertEquals(1.0, meterRegistry.get("draft.promotion.drafts").tag("result", "skipped").counter().count());
+	}
+}
@@ -0,0 +1,240 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import uknowklp.secondbrain.api.note.domain.NoteDraft;
+import uknowklp.secondbrain.api.note.dto.DeltaOperation;
+import uknowklp.secondbrain.api.note.dto.NoteDraftDeltaRequest;
+import uknowklp.secondbrain.api.note.dto.NoteDraftRequest;
+import uknowklp.secondbrain.api.note.dto.StaleDraftPage;
+import uknowklp.secondbrain.global.config.JacksonConfig;
+import uknowklp.secondbrain.global.exception.BaseException;
+import uknowklp.secondbrain.global.response.BaseResponseStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NoteDraftService 단위 테스트")
+class NoteDraftServiceTest {
+
+	@Mock
+	private RedisTemplate<String, NoteDraft> noteDraftRedisTemplate;
+
+	@Mock
+	private RedisTemplate<String, Object> redisTemplate;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ObjectMapper objectMapper;
+
+	private NoteDraftService noteDraftService;
+
+	@BeforeEach
+	void setUp() {
+		// 같은 타입(RedisTemplate)의 Mock이 둘이므로 생성자로 직접 주입
+		// 직렬화기는 스크립트 인자 생성 시에만 사용되므로 lenient
+		noteDraftService = new NoteDraftService(noteDraftRedisTemplate, redisTemplate, stringRedisTemplate, objectMapper);
+		lenient().doReturn(new Jackson2JsonRedisSerializer<>(new JacksonConfig().objectMapper(), NoteDraft.class))
+			.when(noteDraftRedisTemplate).getValueSerializer();
+		lenient().doReturn(new GenericJackson2JsonRedisSerializer()).when(redisTemplate).getValueSerializer();
+	}
+
+	private NoteDraftRequest request(Long version) {
+		return NoteDraftRequest.builder()
+			.noteId("note-1")
+			.title("제목")
+			.content("내용")
+			.version(version)
+			.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenScriptResult(Long result) {
+		given(stringRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class),
+			any(RedisSerializer.class), anyList(), any(Object[].class))).willReturn(result);
+	}
+
+	private NoteDraftDeltaRequest deltaRequest(Long version) {
+		return NoteDraftDeltaRequest.builder()
+			.version(version)
+			.operations(List.of(DeltaOperation.builder()
+				.type(DeltaOperation.DeltaType.INSERT)
+				.position(2)
+				.newValue("추가")
+				.build()))
+			.build();
+	}
+
+	@Test
+	@DisplayName("Draft 저장 성공 - 스크립트 1회 실행, 버전 1 증가")
+	@SuppressWarnings("unchecked")
+	void saveDraft_Success() {
+		// given
+		givenScriptResult(4L);
+
+		// when
+		NoteDraft draft = noteDraftService.saveDraft(1L, request(3L));
+
+		// then
+		assertEquals("note-1", draft.getNoteId());
+		assertEquals(4L, draft.getVersion());
+		then(stringRedisTemplate).should(times(1)).execute(any(RedisScript.class), any(RedisSerializer.class),
+			any(RedisSerializer.class),
+			eq(List.of("draft:note:note-1", "draft:delta:note-1", "draft:meta:note-1", "user:drafts:1",
+				"drafts:by-modified")),
+			any(Object[].class));
+		then(noteDraftRedisTemplate).should(never()).opsForValue();
+	}
+
+	@Test
+	@DisplayName("Draft 저장 실패 - 스크립트 버전 불일치는 DRAFT_VERSION_CONFLICT")
+	void saveDraft_VersionConflict_ThrowsException() {
+		// given
+		givenScriptResult(-1L);
+
+		// when & then
+		BaseException exception = assertThrows(BaseException.class,
+			() -> noteDraftService.saveDraft(1L, request(3L)));
+		assertEquals(BaseResponseStatus.DRAFT_VERSION_CONFLICT, exception.getStatus());
+	}
+
+	@Test
+	@DisplayName("Draft 저장 실패 - 다른 사용자의 Draft는 DRAFT_ACCESS_DENIED")
+	void saveDraft_OtherUsersDraft_ThrowsException() {
+		// given
+		givenScriptResult(-4L);
+
+		// when & then
+		BaseException exception = assertThrows(BaseException.class,
+			() -> noteDraftService.saveDraft(2L, request(3L)));
+		assertEquals(BaseResponseStatus.DRAFT_ACCESS_DENIED, exception.getStatus());
+	}
+
+	@Test
+	@DisplayName("Delta 저장 성공 - 스냅샷/로그 조회 없이 현재 텍스트 기준 검증 스크립트 1회")
+	@SuppressWarnings("unchecked")
+	void saveDraftDelta_Success_SingleScriptCall() throws Exception {
+		// given
+		ReflectionTestUtils.setField(noteDraftService, "compactionThreshold", 50);
+		given(objectMapper.writeValueAsString(any())).willReturn("[]");
+		givenScriptResult(1L);
+
+		// when
+		NoteDraft draft = noteDraftService.saveDraftDelta("note-1", 1L, deltaRequest(3L));
+
+		// then
+		assertEquals(4L, draft.getVersion());
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		then(stringRedisTemplate).should(times(1)).execute(any(RedisScript.class), any(RedisSerializer.class),
+			any(RedisSerializer.class), anyList(), args.capture());
+		// 작업 인자: 대상 필드, 위치, 삭제 텍스트, 삽입 텍스트 (UTF-16BE)
+		Object[] operationArgs = Arrays.copyOfRange(args.getValue(), 10, 14);
+		assertArrayEquals("CONTENT".getBytes(StandardCharsets.UTF_8), (byte[])operationArgs[0]);
+		assertArrayEquals("2".getBytes(StandardCharsets.UTF_8), (byte[])operationArgs[1]);
+		assertArrayEquals(new byte[0], (byte[])operationArgs[2]);
+		assertArrayEquals("추가".getBytes(StandardCharsets.UTF_16BE), (byte[])operationArgs[3]);
+		then(stringRedisTemplate).should(never()).opsForList();
+		then(noteDraftRedisTemplate).should(never()).opsForValue();
+	}
+
+	@Test
+	@DisplayName("Delta 저장 실패 - 현재 텍스트와 oldValue가 다른 Delta는 DRAFT_INVALID_DELTA")
+	void saveDraftDelta_MismatchedOldValue_ThrowsException() throws Exception {
+		// given
+		given(objectMapper.writeValueAsString(any())).willReturn("[]");
+		givenScriptResult(-7L);
+
+		// when & then
+		BaseException exception = assertThrows(BaseException.class,
+			() -> noteDraftService.saveDraftDelta("note-1", 1L, deltaRequest(3L)));
+		assertEquals(BaseResponseStatus.DRAFT_INVALID_DELTA, exception.getStatus());
+	}
+
+	@Test
+	@DisplayName("Delta 로그 복원 실패 - oldValue 불일치 항목이 있으면 뒤의 정상 항목까지 일부만 적용하지 않고 DRAFT_INVALID_DELTA")
+	@SuppressWarnings("unchecked")
+	void getDraft_MismatchedOldValueInLog_ThrowsInsteadOfPartialDraft() throws Exception {
+		// given
+		ObjectMapper mapper = new JacksonConfig().objectMapper();
+		NoteDraftService service =
+			new NoteDraftService(noteDraftRedisTemplate, redisTemplate, stringRedisTemplate, mapper);
+		ValueOperations<String, NoteDraft> valueOperations = mock(ValueOperations.class);
+		ListOperations<String, String> listOperations = mock(ListOperations.class);
+		given(noteDraftRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(stringRedisTemplate.opsForList()).willReturn(listOperations);
+
+		given(valueOperations.get("draft:note:note-1")).willReturn(NoteDraft.builder()
+			.noteId("note-1").userId(1L).title("제목").content("안녕하세요").version(3L).build());
+		given(listOperations.range("draft:delta:note-1", 0, -1)).willReturn(List.of(
+			mapper.writeValueAsString(List.of(DeltaOperation.builder()
+				.type(DeltaOperation.DeltaType.REPLACE).position(0).oldValue("반가워요").newValue("잘가요").build())),
+			mapper.writeValueAsString(List.of(DeltaOperation.builder()
+				.type(DeltaOperation.DeltaType.INSERT).position(5).newValue("!").build()))));
+
+		// when & then
+		BaseException exception = assertThrows(BaseException.class, () -> service.getDraft("note-1", 1L));
+		assertEquals(BaseResponseStatus.DRAFT_INVALID_DELTA, exception.getStatus());
+	}
+
+	@Test
+	@DisplayName("오래된 Draft 조회 - 인덱스 범위만 조회하고 만료된 항목은 인덱스에서 제거")
+	@SuppressWarnings("unchecked")
+	void getStaleDrafts_RemovesExpiredIndexEntries() {
+		// given
+		ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+		ValueOperations<String, NoteDraft> valueOperations = mock(ValueOperations.class);
+		given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(noteDraftRedisTemplate.opsForValue()).willReturn(valueOperations);
+
+		Set<ZSetOperations.TypedTuple<String>> entries = new LinkedHashSet<>(List.of(
+			ZSetOperations.TypedTuple.of("alive", 1000.0),
+			ZSetOperations.TypedTuple.of("expired", 2000.0)));
+		given(zSetOperations.rangeByScoreWithScores(eq("drafts:by-modified"), anyDouble(), anyDouble(), eq(0L), eq(2L)))
+			.willReturn(entries);
+
+		NoteDraft alive = NoteDraft.builder().noteId("alive").userId(1L).content("내용").build();
+		given(valueOperations.multiGet(List.of("draft:note:alive", "draft:note:expired")))
+			.willReturn(Arrays.asList(alive, null));
+		given(stringRedisTemplate.executePipelined(any(SessionCallback.class))).willReturn(Arrays.asList((Object)null));
+
+		// when
+		StaleDraftPage page = noteDraftService.getStaleDrafts(LocalDateTime.now(), null, 2);
+
+		// then
+		assertEquals(List.of(alive), page.drafts());
+		assertEquals(2000L, page.lastScore());
+		assertTrue(page.hasNext());
+		then(zSetOperations).should().remove("drafts:by-modified", "expired");
+		then(noteDraftRedisTemplate).should(never()).scan(any());
+	}
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -23,11 +24,13 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import uknowklp.secondbrain.api.note.domain.Note;
+import uknowklp.secondbrain.api.note.dto.NoteCreateCommand;
 import uknowklp.secondbrain.api.note.dto.NoteRecentResponse;
 import uknowklp.secondbrain.api.note.dto.NoteReminderResponse;
 import uknowklp.secondbrain.api.note.dto.NoteRequest;
 import uknowklp.secondbrain.api.note.dto.NoteResponse;
 import uknowklp.secondbrain.api.note.repository.NoteRepository;
+import uknowklp.secondbrain.api.note.repository.SearchIndexTaskRepository;
 import uknowklp.secondbrain.api.user.domain.User;
 import uknowklp.secondbrain.api.user.service.UserService;
 import uknowklp.secondbrain.global.exception.BaseException;
@@ -47,7 +50,13 @@ class NoteServiceImplTest {
 	private UserService userService;
 
 	@Mock
-	private NoteSearchService noteSearchService;
+	private SearchIndexTaskRepository searchIndexTaskRepository;
+
+	@Mock
+	private KnowledgeGraphProducerService knowledgeGraphProducerService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	private User testUser;
 	private NoteRequest validRequest;
@@ -119,6 +128,51 @@ class NoteServiceImplTest {
 		verify(noteRepository, never()).save(any(Note.class));
 	}
 
+	@Test
+	@DisplayName("노트 일괄 생성 성공 - JDBC batch 1회, 사용자 조회는 사용자별 1회")
+	void createNotes_Success() {
+		// given: 같은 사용자의 노트 2건
+		given(userService.findById(1L)).willReturn(Optional.of(testUser));
+		given(noteRepository.insertAll(anyList())).willAnswer(invocation -> {
+			List<Note> notes = invocation.getArgument(0);
+			List<Note> saved = new ArrayList<>();
+			for (int i = 0; i < notes.size(); i++) {
+				saved.add(Note.builder().id(10L + i).user(testUser)
+					.title(notes.get(i).getTitle()).content(notes.get(i).getContent()).build());
+			}
+			return saved;
+		});
+
+		// when
+		List<Note> created = noteService.createNotes(List.of(
+			new NoteCreateCommand(1L, validRequest),
+			new NoteCreateCommand(1L, validRequest)));
+
+		// then
+		assertEquals(List.of(10L, 11L), created.stream().map(Note::getId).toList());
+		verify(userService, times(1)).findById(1L);
+		verify(noteRepository, times(1)).insertAll(anyList());
+		verify(noteRepository, never()).save(any(Note.class));
+		verify(searchIndexTaskRepository, times(1)).saveAll(anyList());
+		verify(knowledgeGraphProducerService, times(2))
+			.publishNoteCreated(anyLong(), eq(1L), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("노트 일괄 생성 실패 - 하나라도 검증 실패하면 저장하지 않음")
+	void createNotes_InvalidItem_ShouldThrowException() {
+		// given: 두 번째 노트의 내용이 비어 있음
+		given(userService.findById(1L)).willReturn(Optional.of(testUser));
+		NoteRequest emptyContent = NoteRequest.builder().title("제목").content(" ").build();
+
+		// when & then
+		BaseException exception = assertThrows(BaseException.class, () -> noteService.createNotes(List.of(
+			new NoteCreateCommand(1L, validRequest),
+			new NoteCreateCommand(1L, emptyContent))));
+		assertEquals(BaseResponseStatus.NOTE_CONTENT_EMPTY, exception.getStatus());
+		verify(noteRepository, never()).insertAll(anyList());
+	}
+
 	@Test
 	@DisplayName("노트 생성 성공 - 제목과 내용이 정확히 저장됨")
 	void createNote_TitleAndContentSavedCorrectly() {
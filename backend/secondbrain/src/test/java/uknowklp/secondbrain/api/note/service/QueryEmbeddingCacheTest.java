@@ -0,0 +1,111 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueryEmbeddingCache 단위 테스트")
+class QueryEmbeddingCacheTest {
+
+	@Mock
+	private EmbeddingService embeddingService;
+
+	@Mock
+	private RedisTemplate<String, byte[]> embeddingRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, byte[]> valueOperations;
+
+	private SimpleMeterRegistry meterRegistry;
+	private QueryEmbeddingCache queryEmbeddingCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		queryEmbeddingCache = new QueryEmbeddingCache(embeddingService, embeddingRedisTemplate, meterRegistry);
+		ReflectionTestUtils.setField(queryEmbeddingCache, "embeddingModel", "text-embedding-3-small");
+		ReflectionTestUtils.setField(queryEmbeddingCache, "localMaxSize", 100L);
+		ReflectionTestUtils.setField(queryEmbeddingCache, "localTtl", Duration.ofMinutes(30));
+		ReflectionTestUtils.setField(queryEmbeddingCache, "redisTtl", Duration.ofDays(7));
+		queryEmbeddingCache.init();
+	}
+
+	@Test
+	@DisplayName("검색어 정규화 - 공백과 대소문자 차이는 같은 키로 취급")
+	void normalize_IgnoresWhitespaceAndCase() {
+		assertEquals("spring boot", QueryEmbeddingCache.normalize("  Spring \t Boot "));
+		assertEquals("스프링 부트", QueryEmbeddingCache.normalize("스프링   부트"));
+	}
+
+	@Test
+	@DisplayName("캐시 적중 - 정규화된 같은 검색어는 원격 호출 1회만 수행")
+	void getEmbedding_SameNormalizedQuery_CallsRemoteOnce() {
+		// given: Redis 미스, 원격 호출 결과 준비
+		given(embeddingRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get(anyString())).willReturn(null);
+		given(embeddingService.generateEmbedding("spring boot")).willReturn(new float[] {0.25f, -0.5f});
+
+		// when: 공백/대소문자만 다른 검색어로 두 번 조회
+		float[] first = queryEmbeddingCache.getEmbedding("Spring Boot");
+		float[] second = queryEmbeddingCache.getEmbedding("  spring   BOOT ");
+
+		// then: 같은 벡터 반환, 원격 호출은 1회
+		assertArrayEquals(new float[] {0.25f, -0.5f}, first);
+		assertSame(first, second);
+		verify(embeddingService, times(1)).generateEmbedding("spring boot");
+		verify(valueOperations, times(1)).set(anyString(), any(byte[].class), eq(Duration.ofDays(7)));
+		assertEquals(1.0, meterRegistry.get("search.embedding.cache")
+			.tag("tier", "local").tag("result", "hit").counter().count());
+	}
+
+	@Test
+	@DisplayName("Redis 적중 - 원격 호출 없이 Redis 벡터 사용")
+	void getEmbedding_RedisHit_SkipsRemoteCall() {
+		// given: Redis에 little-endian float 바이트 저장됨
+		given(embeddingRedisTemplate.opsForValue()).willReturn(valueOperations);
+		byte[] bytes = ByteBuffer.allocate(2 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+			.putFloat(1.5f).putFloat(-2.0f).array();
+		given(valueOperations.get(anyString())).willReturn(bytes);
+
+		// when
+		float[] embedding = queryEmbeddingCache.getEmbedding("note");
+
+		// then
+		assertArrayEquals(new float[] {1.5f, -2.0f}, embedding);
+		verify(embeddingService, never()).generateEmbedding(anyString());
+	}
+
+	@Test
+	@DisplayName("Redis 장애 - 원격 호출로 진행하여 검색 유지")
+	void getEmbedding_RedisFailure_FallsBackToRemote() {
+		// given: Redis 조회/저장 모두 실패
+		given(embeddingRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get(anyString())).willThrow(new IllegalStateException("redis down"));
+		willThrow(new IllegalStateException("redis down"))
+			.given(valueOperations).set(anyString(), any(byte[].class), any(Duration.class));
+		given(embeddingService.generateEmbedding("note")).willReturn(new float[] {0.5f});
+
+		// when
+		float[] embedding = queryEmbeddingCache.getEmbedding("note");
+
+		// then
+		assertArrayEquals(new float[] {0.5f}, embedding);
+		verify(embeddingService, times(1)).generateEmbedding("note");
+	}
+}
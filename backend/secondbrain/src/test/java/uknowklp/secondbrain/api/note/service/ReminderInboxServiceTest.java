@@ -0,0 +1,106 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import uknowklp.secondbrain.api.note.dto.ReminderNotification;
+import uknowklp.secondbrain.global.config.JacksonConfig;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderInboxService 단위 테스트")
+class ReminderInboxServiceTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private StreamOperations<String, Object, Object> streamOperations;
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+	private ReminderInboxService reminderInboxService;
+
+	private final ReminderNotification notification = ReminderNotification.builder()
+		.noteId(10L)
+		.title("제목")
+		.question("질문")
+		.remindCount(1)
+		.timestamp(LocalDateTime.of(2025, 11, 6, 14, 30))
+		.build();
+
+	@BeforeEach
+	void setUp() {
+		reminderInboxService = new ReminderInboxService(stringRedisTemplate, objectMapper, messagingTemplate);
+		ReflectionTestUtils.setField(reminderInboxService, "maxSize", 50);
+		ReflectionTestUtils.setField(reminderInboxService, "ttl", Duration.ofDays(7));
+	}
+
+	@Test
+	@DisplayName("수신함 추가 - 스트림 ID를 inboxId로 부여")
+	@SuppressWarnings("unchecked")
+	void append_AssignsInboxId() {
+		// given
+		given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+			.willReturn("1730871000000-0");
+
+		// when
+		ReminderNotification appended = reminderInboxService.append(1L, notification);
+
+		// then
+		assertEquals("1730871000000-0", appended.inboxId());
+		assertEquals(10L, appended.noteId());
+	}
+
+	@Test
+	@DisplayName("재구독 - 미확인 알림을 inboxId와 함께 오래된 순으로 재전송")
+	@SuppressWarnings("unchecked")
+	void replay_SendsPendingNotifications() throws Exception {
+		// given
+		MapRecord<String, Object, Object> first = StreamRecords.newRecord()
+			.in("reminder:inbox:1")
+			.withId(RecordId.of("1-0"))
+			.ofMap(Map.<Object, Object>of("data", objectMapper.writeValueAsString(notification)));
+		MapRecord<String, Object, Object> second = StreamRecords.newRecord()
+			.in("reminder:inbox:1")
+			.withId(RecordId.of("2-0"))
+			.ofMap(Map.<Object, Object>of("data", objectMapper.writeValueAsString(notification)));
+		given(stringRedisTemplate.opsForStream()).willReturn(streamOperations);
+		given(streamOperations.range(eq("reminder:inbox:1"), any(Range.class))).willReturn(List.of(first, second));
+
+		// when
+		reminderInboxService.replay(1L);
+
+		// then
+		ArgumentCaptor<ReminderNotification> sent = ArgumentCaptor.forClass(ReminderNotification.class);
+		verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/reminder/1"), sent.capture());
+		assertEquals(List.of("1-0", "2-0"), sent.getAllValues().stream().map(ReminderNotification::inboxId).toList());
+		assertEquals(LocalDateTime.of(2025, 11, 6, 14, 30), sent.getAllValues().get(0).timestamp());
+	}
+}
@@ -0,0 +1,76 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uknowklp.secondbrain.api.gms.service.GmsQuestionService;
+import uknowklp.secondbrain.api.note.domain.Note;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderQuestionService 단위 테스트")
+class ReminderQuestionServiceTest {
+
+	@Mock
+	private GmsQuestionService gmsQuestionService;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private ReminderQuestionService reminderQuestionService;
+
+	@BeforeEach
+	void setUp() {
+		reminderQuestionService = new ReminderQuestionService(
+			gmsQuestionService, stringRedisTemplate, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(reminderQuestionService, "concurrency", 1);
+		ReflectionTestUtils.setField(reminderQuestionService, "queueCapacity", 10);
+		reminderQuestionService.init();
+	}
+
+	@Test
+	@DisplayName("내용 해시 - 제목/내용이 같으면 같은 키, 경계가 달라지면 다른 키")
+	void contentHash_DependsOnTitleAndContent() {
+		assertEquals(ReminderQuestionService.contentHash("제목", "내용"),
+			ReminderQuestionService.contentHash("제목", "내용"));
+		assertNotEquals(ReminderQuestionService.contentHash("제목", "내용"),
+			ReminderQuestionService.contentHash("제목내", "용"));
+	}
+
+	@Test
+	@DisplayName("저장된 질문 일괄 조회 - 현재 내용 해시 키로 MGET 1회, 없는 노트는 제외")
+	void getCachedQuestions_UsesContentHashKeys() {
+		// given
+		Note unchanged = Note.builder().id(1L).title("제목").content("내용").build();
+		Note edited = Note.builder().id(2L).title("제목").content("수정된 내용").build();
+		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.multiGet(List.of(
+			"reminder:question:1:" + ReminderQuestionService.contentHash("제목", "내용"),
+			"reminder:question:2:" + ReminderQuestionService.contentHash("제목", "수정된 내용"))))
+			.willReturn(Arrays.asList("질문", null));
+
+		// when
+		Map<Long, String> questions = reminderQuestionService.getCachedQuestions(List.of(unchanged, edited));
+
+		// then
+		assertEquals(Map.of(1L, "질문"), questions);
+		then(gmsQuestionService).shouldHaveNoInteractions();
+	}
+}
@@ -0,0 +1,133 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import uknowklp.secondbrain.api.note.domain.Note;
+import uknowklp.secondbrain.api.note.dto.DueReminder;
+import uknowklp.secondbrain.api.note.repository.NoteRepository;
+import uknowklp.secondbrain.api.user.domain.User;
+import uknowklp.secondbrain.global.support.SchedulerLease;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderSchedulerService 단위 테스트")
+class ReminderSchedulerServiceTest {
+
+	@Mock
+	private NoteRepository noteRepository;
+
+	@Mock
+	private ReminderQuestionService reminderQuestionService;
+
+	@Mock
+	private ReminderNotificationService reminderNotificationService;
+
+	@Mock
+	private SchedulerLease schedulerLease;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ReminderSchedulerService reminderSchedulerService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		reminderSchedulerService = new ReminderSchedulerService(noteRepository, reminderQuestionService,
+			reminderNotificationService, schedulerLease, transactionTemplate, meterRegistry);
+		ReflectionTestUtils.setField(reminderSchedulerService, "leaseTime", Duration.ofSeconds(30));
+		ReflectionTestUtils.setField(reminderSchedulerService, "claimBatchSize", 50);
+		ReflectionTestUtils.setField(reminderSchedulerService, "claimTimeout", Duration.ofMinutes(5));
+		ReflectionTestUtils.setField(reminderSchedulerService, "dispatchConcurrency", 8);
+		ReflectionTestUtils.setField(reminderSchedulerService, "itemTimeout", Duration.ofMillis(200));
+	}
+
+	private Note note(Long noteId) {
+		User user = User.builder().id(1L).email("test@example.com").name("테스트").setAlarm(true).build();
+		return Note.builder().id(noteId).user(user).title("제목").content("내용")
+			.remindAt(LocalDateTime.now().minusSeconds(5)).build();
+	}
+
+	@Test
+	@DisplayName("발송 성공 - 미리 생성된 질문은 GMS 없이 전송, 느린 GMS 생성은 시간 초과로 재시도 대상")
+	@SuppressWarnings("unchecked")
+	void checkAndSendReminders_WritesBackOnlySuccessfulDispatches() {
+		// given
+		given(schedulerLease.tryAcquire(eq("reminder"), any())).willReturn(true);
+		Note fast = note(1L);
+		Note slow = note(2L);
+		LocalDateTime dueAt = LocalDateTime.now().minusSeconds(5);
+		given(noteRepository.claimDueReminders(any(), eq(3), any(), eq(50)))
+			.willReturn(List.of(new DueReminder(1L, dueAt), new DueReminder(2L, dueAt)));
+		given(noteRepository.findAllByIdWithUser(List.of(1L, 2L))).willReturn(List.of(fast, slow));
+		given(reminderQuestionService.getCachedQuestions(List.of(fast, slow))).willReturn(Map.of(1L, "질문"));
+		given(reminderQuestionService.generateAndCache(slow)).willReturn(Mono.never());
+		willAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).given(transactionTemplate).executeWithoutResult(any());
+
+		// when
+		reminderSchedulerService.checkAndSendReminders();
+
+		// then
+		then(reminderNotificationService).should().sendReminder(fast, "질문", 0);
+		then(reminderNotificationService).should(never()).sendReminder(eq(slow), any(), anyInt());
+		then(noteRepository).should().save(fast);
+		then(noteRepository).should(never()).save(slow);
+		then(reminderQuestionService).should(never()).generateAndCache(fast);
+		assertEquals(1, fast.getRemindCount());
+		assertEquals(1, meterRegistry.get("reminder.dispatch.lag").timer().count());
+		assertEquals(1.0, meterRegistry.get("reminder.dispatch").tag("result", "failure").counter().count());
+	}
+
+	@Test
+	@DisplayName("연속 처리 - 다음 배치 전에 리스를 연장하고, 리더를 잃으면 중단")
+	void checkAndSendReminders_LeaseLost_StopsDraining() {
+		// given
+		ReflectionTestUtils.setField(reminderSchedulerService, "claimBatchSize", 2);
+		given(schedulerLease.tryAcquire(eq("reminder"), any())).willReturn(true, false);
+		LocalDateTime dueAt = LocalDateTime.now().minusSeconds(5);
+		given(noteRepository.claimDueReminders(any(), eq(3), any(), eq(2)))
+			.willReturn(List.of(new DueReminder(1L, dueAt), new DueReminder(2L, dueAt)));
+
+		// when
+		reminderSchedulerService.checkAndSendReminders();
+
+		// then
+		then(schedulerLease).should(times(2)).tryAcquire(eq("reminder"), any());
+		then(noteRepository).should(times(1)).claimDueReminders(any(), anyInt(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("리더가 아니면 선점하지 않음")
+	void checkAndSendReminders_NotLeader_Skips() {
+		// given
+		given(schedulerLease.tryAcquire(eq("reminder"), any())).willReturn(false);
+
+		// when
+		reminderSchedulerService.checkAndSendReminders();
+
+		// then
+		then(noteRepository).should(never()).claimDueReminders(any(), anyInt(), any(), anyInt());
+	}
+}
@@ -0,0 +1,171 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uknowklp.secondbrain.api.note.constant.SearchIndexOperation;
+import uknowklp.secondbrain.api.note.domain.Note;
+import uknowklp.secondbrain.api.note.domain.SearchIndexTask;
+import uknowklp.secondbrain.api.note.repository.NoteRepository;
+import uknowklp.secondbrain.api.note.repository.SearchIndexTaskRepository;
+import uknowklp.secondbrain.api.user.domain.User;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchIndexWorker 단위 테스트")
+class SearchIndexWorkerTest {
+
+	@Mock
+	private SearchIndexTaskRepository searchIndexTaskRepository;
+
+	@Mock
+	private NoteRepository noteRepository;
+
+	@Mock
+	private NoteSearchService noteSearchService;
+
+	@Mock
+	private SearchRankingCache searchRankingCache;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private SearchIndexWorker searchIndexWorker;
+	private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		searchIndexWorker = new SearchIndexWorker(searchIndexTaskRepository, noteRepository, noteSearchService,
+			searchRankingCache, transactionTemplate, meterRegistry);
+		ReflectionTestUtils.setField(searchIndexWorker, "batchSize", 500);
+		ReflectionTestUtils.setField(searchIndexWorker, "backoffBase", Duration.ofSeconds(1));
+		ReflectionTestUtils.setField(searchIndexWorker, "backoffMax", Duration.ofMinutes(5));
+		ReflectionTestUtils.setField(searchIndexWorker, "maxAttempts", 3);
+		ReflectionTestUtils.setField(searchIndexWorker, "claimTimeout", Duration.ofMinutes(1));
+
+		// 콜백을 그대로 실행하고 트랜잭션 안인지 기록 (커밋/롤백은 검증 대상 아님)
+		given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+			inTransaction.set(true);
+			try {
+				return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+			} finally {
+				inTransaction.set(false);
+			}
+		});
+	}
+
+	private SearchIndexTask task(long id, long noteId, long userId, SearchIndexOperation operation, int attempts) {
+		return SearchIndexTask.builder()
+			.id(id)
+			.noteId(noteId)
+			.userId(userId)
+			.operation(operation)
+			.attempts(attempts)
+			.nextAttemptAt(LocalDateTime.now())
+			.build();
+	}
+
+	@Test
+	@DisplayName("반영 성공 - 작업 삭제 후 해당 사용자들의 검색 캐시 세대 증가")
+	void flush_Success_BumpsGenerationAfterIndexing() {
+		// given
+		SearchIndexTask indexTask = task(1L, 10L, 1L, SearchIndexOperation.INDEX, 0);
+		SearchIndexTask deleteTask = task(2L, 20L, 2L, SearchIndexOperation.DELETE, 0);
+		given(searchIndexTaskRepository.claimBatch(any(), anyInt())).willReturn(List.of(indexTask, deleteTask));
+		given(noteRepository.findAllById(List.of(10L))).willReturn(List.of(
+			Note.builder().id(10L).title("제목").content("내용").user(User.builder().id(1L).build()).build()));
+
+		// when
+		searchIndexWorker.flush();
+
+		// then
+		var inOrder = inOrder(noteSearchService, searchRankingCache);
+		inOrder.verify(noteSearchService).bulkIndexNotes(anyList());
+		inOrder.verify(noteSearchService).bulkDeleteNotes(List.of("20"));
+		inOrder.verify(searchRankingCache).bumpGeneration(1L);
+		inOrder.verify(searchRankingCache).bumpGeneration(2L);
+		then(searchIndexTaskRepository).should().deleteAllInBatch(List.of(indexTask, deleteTask));
+	}
+
+	@Test
+	@DisplayName("bulk 실패 - 노트별 재시도, 실패 노트만 연기되고 최대 시도 도달 시 격리")
+	void flush_BulkFailure_IsolatesPoisonNote() {
+		// given
+		SearchIndexTask healthy = task(1L, 20L, 1L, SearchIndexOperation.DELETE, 0);
+		SearchIndexTask poison = task(2L, 30L, 1L, SearchIndexOperation.DELETE, 2);
+		given(searchIndexTaskRepository.claimBatch(any(), anyInt())).willReturn(List.of(healthy, poison));
+		willThrow(new IllegalStateException("bulk 실패")).given(noteSearchService)
+			.bulkDeleteNotes(argThat(ids -> ids.contains("30")));
+
+		// when
+		searchIndexWorker.flush();
+
+		// then
+		then(searchIndexTaskRepository).should().deleteAllInBatch(List.of(healthy));
+		then(searchIndexTaskRepository).should().saveAll(List.of(poison));
+		then(searchRankingCache).should().bumpGeneration(1L);
+		assertNotNull(poison.getDeadLetteredAt());
+		assertEquals(3, poison.getAttempts());
+		assertNull(healthy.getDeadLetteredAt());
+		assertEquals(1.0, meterRegistry.get("search.indexer.dead_letter").counter().count());
+	}
+
+	@Test
+	@DisplayName("Elasticsearch 반영은 트랜잭션 밖에서 실행, 확보한 작업은 점유 시간만큼 연기")
+	void flush_AppliesOutsideTransaction() {
+		// given
+		SearchIndexTask deleteTask = task(1L, 20L, 1L, SearchIndexOperation.DELETE, 0);
+		given(searchIndexTaskRepository.claimBatch(any(), anyInt())).willReturn(List.of(deleteTask));
+		willAnswer(invocation -> {
+			assertFalse(inTransaction.get());
+			return null;
+		}).given(noteSearchService).bulkDeleteNotes(List.of("20"));
+
+		// when
+		searchIndexWorker.flush();
+
+		// then
+		then(noteSearchService).should().bulkDeleteNotes(List.of("20"));
+		assertTrue(deleteTask.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(30)));
+		then(searchIndexTaskRepository).should().deleteAllInBatch(List.of(deleteTask));
+	}
+
+	@Test
+	@DisplayName("실패 기록 오류 - 다른 노트의 실패/성공 기록에 영향 없음")
+	void flush_RecordFailure_DoesNotAffectOtherNotes() {
+		// given
+		SearchIndexTask failing = task(1L, 20L, 1L, SearchIndexOperation.DELETE, 0);
+		SearchIndexTask retried = task(2L, 30L, 1L, SearchIndexOperation.DELETE, 0);
+		SearchIndexTask healthy = task(3L, 40L, 2L, SearchIndexOperation.DELETE, 0);
+		given(searchIndexTaskRepository.claimBatch(any(), anyInt())).willReturn(List.of(failing, retried, healthy));
+		willThrow(new IllegalStateException("bulk 실패")).given(noteSearchService)
+			.bulkDeleteNotes(argThat(ids -> ids.contains("20") || ids.contains("30")));
+		willThrow(new IllegalStateException("DB 오류")).given(searchIndexTaskRepository).saveAll(List.of(failing));
+
+		// when
+		searchIndexWorker.flush();
+
+		// then
+		then(searchIndexTaskRepository).should().saveAll(List.of(retried));
+		assertEquals(1, retried.getAttempts());
+		then(searchIndexTaskRepository).should().deleteAllInBatch(List.of(healthy));
+		then(searchRankingCache).should().bumpGeneration(2L);
+	}
+}
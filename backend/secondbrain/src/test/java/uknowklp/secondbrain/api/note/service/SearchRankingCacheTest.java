@@ -0,0 +1,90 @@
+package uknowklp.secondbrain.api.note.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import uknowklp.secondbrain.api.note.dto.SearchRanking;
+import uknowklp.secondbrain.global.config.JacksonConfig;
+import uknowklp.secondbrain.global.exception.BaseException;
+import uknowklp.secondbrain.global.response.BaseResponseStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchRankingCache 단위 테스트")
+class SearchRankingCacheTest {
+
+	@Mock
+	private RedisTemplate<String, SearchRanking> searchRankingRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, SearchRanking> valueOperations;
+
+	@InjectMocks
+	private SearchRankingCache searchRankingCache;
+
+	@Test
+	@DisplayName("커서 인코딩/디코딩 - rankingId와 offset 복원")
+	void cursor_RoundTrip() {
+		// given
+		String rankingId = searchRankingCache.rankingId(1L, 0L, "spring boot");
+
+		// when
+		String cursor = SearchRankingCache.encodeCursor(rankingId, 20);
+		SearchRankingCache.Cursor decoded = SearchRankingCache.decodeCursor(cursor);
+
+		// then
+		assertEquals(rankingId, decoded.rankingId());
+		assertEquals(20, decoded.offset());
+	}
+
+	@Test
+	@DisplayName("커서 디코딩 실패 - 변조된 커서는 INVALID_SEARCH_CURSOR")
+	void decodeCursor_Tampered_ThrowsException() {
+		BaseException exception = assertThrows(BaseException.class,
+			() -> SearchRankingCache.decodeCursor("not-a-cursor"));
+
+		assertEquals(BaseResponseStatus.INVALID_SEARCH_CURSOR, exception.getStatus());
+	}
+
+	@Test
+	@DisplayName("다른 사용자의 병합 결과는 조회되지 않음")
+	void get_OtherUsersRanking_ReturnsEmpty() {
+		// given
+		given(searchRankingRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get(anyString())).willReturn(new SearchRanking(2L, 0L, "note", List.of()));
+
+		// when & then
+		assertTrue(searchRankingCache.get("a".repeat(64), 1L).isEmpty());
+	}
+
+	@Test
+	@DisplayName("병합 결과 직렬화 - 공통 ObjectMapper로 노트 ID와 점수 왕복 변환")
+	void searchRanking_JsonRoundTrip() {
+		// given
+		Jackson2JsonRedisSerializer<SearchRanking> serializer =
+			new Jackson2JsonRedisSerializer<>(new JacksonConfig().objectMapper(), SearchRanking.class);
+		List<SearchRanking.RankedNote> notes = List.of(
+			new SearchRanking.RankedNote(10L, 0.0115),
+			new SearchRanking.RankedNote(20L, 0.0049));
+
+		// when
+		SearchRanking restored = serializer.deserialize(
+			serializer.serialize(new SearchRanking(1L, 3L, "제목", notes)));
+
+		// then
+		assertNotNull(restored);
+		assertEquals(3L, restored.generation());
+		assertEquals(notes, restored.notes());
+	}
+}
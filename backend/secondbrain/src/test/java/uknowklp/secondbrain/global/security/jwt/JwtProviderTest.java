@@ -0,0 +1,62 @@
+package uknowklp.secondbrain.global.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import uknowklp.secondbrain.api.user.domain.User;
+import uknowklp.secondbrain.global.security.jwt.dto.CustomUserDetails;
+
+@DisplayName("JwtProvider 단위 테스트")
+class JwtProviderTest {
+
+	private static final String SECRET = "test-secret-key-test-secret-key-test";
+
+	private final User user = User.builder().id(1L).email("test@test.com").build();
+
+	private JwtProvider jwtProvider;
+
+	@BeforeEach
+	void setUp() {
+		jwtProvider = new JwtProvider(SECRET, Duration.ofHours(1), Duration.ofDays(7),
+			100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+		jwtProvider.init();
+	}
+
+	@Test
+	@DisplayName("인증 캐시 - 같은 토큰은 다시 파싱하지 않고 캐시된 Authentication 반환")
+	void getAuthentication_SameToken_ReturnsCached() {
+		// given
+		String token = jwtProvider.createAccessToken(user);
+
+		// when
+		Authentication first = jwtProvider.getAuthentication(token);
+		Authentication second = jwtProvider.getAuthentication(token);
+
+		// then
+		assertNotNull(first);
+		assertSame(first, second);
+		assertEquals(1L, ((CustomUserDetails) first.getPrincipal()).getUser().getId());
+	}
+
+	@Test
+	@DisplayName("만료/변조 토큰 - Authentication을 만들지 않음")
+	void getAuthentication_InvalidToken_ReturnsNull() {
+		// given
+		JwtProvider expiredProvider = new JwtProvider(SECRET, Duration.ofMillis(-1000), Duration.ofDays(7),
+			100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+		expiredProvider.init();
+		String expired = expiredProvider.createAccessToken(user);
+		String tampered = jwtProvider.createAccessToken(user) + "x";
+
+		// when & then
+		assertNull(jwtProvider.getAuthentication(expired));
+		assertNull(jwtProvider.getAuthentication(tampered));
+	}
+}
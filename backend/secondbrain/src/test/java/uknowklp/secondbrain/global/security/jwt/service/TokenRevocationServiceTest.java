@@ -0,0 +1,63 @@
+package uknowklp.secondbrain.global.security.jwt.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService 단위 테스트")
+class TokenRevocationServiceTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisConnectionFactory redisConnectionFactory;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private TokenRevocationService tokenRevocationService;
+
+	@BeforeEach
+	void setUp() {
+		tokenRevocationService = new TokenRevocationService(stringRedisTemplate, redisConnectionFactory,
+			1000, 0.01, "jwt:revoked");
+	}
+
+	@Test
+	@DisplayName("블룸 필터 미적중 - Redis 조회 없이 유효")
+	void isRevoked_BloomMiss_SkipsRedis() {
+		// when & then
+		assertFalse(tokenRevocationService.isRevoked("not-revoked-jti"));
+		assertFalse(tokenRevocationService.isRevoked(null));
+		verifyNoInteractions(stringRedisTemplate);
+	}
+
+	@Test
+	@DisplayName("무효화 - 만료까지 Redis에 저장, 전파 후 Redis로 확정")
+	void revoke_StoredAndConfirmedByRedis() {
+		// given
+		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(stringRedisTemplate.hasKey("jwt:revoked:jti-1")).willReturn(true);
+
+		// when
+		tokenRevocationService.revoke("jti-1", System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+
+		// then
+		verify(valueOperations).set(eq("jwt:revoked:jti-1"), eq("1"), any(Duration.class));
+		verify(stringRedisTemplate).convertAndSend("jwt:revoked", "jti-1");
+		assertTrue(tokenRevocationService.isRevoked("jti-1"));
+	}
+}
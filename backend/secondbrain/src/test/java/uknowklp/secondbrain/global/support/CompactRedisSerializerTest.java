@@ -0,0 +1,105 @@
+package uknowklp.secondbrain.global.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import uknowklp.secondbrain.api.note.domain.NoteDraft;
+import uknowklp.secondbrain.global.config.JacksonConfig;
+import uknowklp.secondbrain.global.support.CompactRedisSerializer.Codec;
+
+@DisplayName("CompactRedisSerializer 단위 테스트")
+class CompactRedisSerializerTest {
+
+	private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+	private NoteDraft draft(String content) {
+		return NoteDraft.builder()
+			.noteId("note-1")
+			.userId(1L)
+			.title("제목")
+			.content(content)
+			.version(7L)
+			.lastModified(LocalDateTime.of(2025, 11, 6, 14, 30, 15))
+			.build();
+	}
+
+	@Test
+	@DisplayName("Smile 직렬화 - 날짜 포함 왕복 변환, JSON보다 작음")
+	void smile_RoundTrip() {
+		// given
+		CompactRedisSerializer<NoteDraft> serializer =
+			new CompactRedisSerializer<>(objectMapper, NoteDraft.class, Codec.SMILE, 0);
+		NoteDraft draft = draft("내용");
+
+		// when
+		byte[] bytes = serializer.serialize(draft);
+		NoteDraft restored = serializer.deserialize(bytes);
+
+		// then
+		assertTrue(bytes.length < new Jackson2JsonRedisSerializer<>(objectMapper, NoteDraft.class).serialize(draft).length);
+		assertEquals("내용", restored.getContent());
+		assertEquals(7L, restored.getVersion());
+		assertEquals(LocalDateTime.of(2025, 11, 6, 14, 30, 15), restored.getLastModified());
+	}
+
+	@Test
+	@DisplayName("기존 JSON 값 읽기 - Jackson2JsonRedisSerializer로 저장된 Draft 호환")
+	void legacyJson_Readable() {
+		// given
+		byte[] legacy = new Jackson2JsonRedisSerializer<>(objectMapper, NoteDraft.class).serialize(draft("내용"));
+		CompactRedisSerializer<NoteDraft> serializer =
+			new CompactRedisSerializer<>(objectMapper, NoteDraft.class, Codec.SMILE, 2048);
+
+		// when
+		NoteDraft restored = serializer.deserialize(legacy);
+
+		// then
+		assertEquals("note-1", restored.getNoteId());
+		assertEquals(LocalDateTime.of(2025, 11, 6, 14, 30, 15), restored.getLastModified());
+	}
+
+	@Test
+	@DisplayName("임계값 이상 - LZ4 압축 후 왕복 변환")
+	void largeValue_Compressed() {
+		// given
+		CompactRedisSerializer<NoteDraft> serializer =
+			new CompactRedisSerializer<>(objectMapper, NoteDraft.class, Codec.SMILE, 2048);
+		String content = "반복되는 노트 본문입니다. ".repeat(500);
+
+		// when
+		byte[] bytes = serializer.serialize(draft(content));
+		NoteDraft restored = serializer.deserialize(bytes);
+
+		// then
+		assertEquals(0x00, bytes[0]);
+		assertTrue(bytes.length < content.length());
+		assertEquals(content, restored.getContent());
+	}
+
+	@Test
+	@DisplayName("손상된 압축 값 - 원본 길이 변조/블록 잘림은 SerializationException")
+	void corruptedCompressedValue_ThrowsSerializationException() {
+		// given
+		CompactRedisSerializer<NoteDraft> serializer =
+			new CompactRedisSerializer<>(objectMapper, NoteDraft.class, Codec.SMILE, 2048);
+		byte[] bytes = serializer.serialize(draft("반복되는 노트 본문입니다. ".repeat(500)));
+
+		byte[] inflatedLength = bytes.clone();
+		ByteBuffer.wrap(inflatedLength, 1, 4).putInt(Integer.MAX_VALUE);
+		byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+		// when & then
+		assertThrows(SerializationException.class, () -> serializer.deserialize(inflatedLength));
+		assertThrows(SerializationException.class, () -> serializer.deserialize(truncated));
+	}
+}
@@ -0,0 +1,78 @@
+package uknowklp.secondbrain.global.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchedulerLease 단위 테스트")
+class SchedulerLeaseTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@InjectMocks
+	private SchedulerLease schedulerLease;
+
+	@SuppressWarnings("unchecked")
+	private void givenScriptResult(Long result) {
+		given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(result);
+	}
+
+	@Test
+	@DisplayName("리스 획득 - 리더만 실행, 종료 시 반납")
+	@SuppressWarnings("unchecked")
+	void tryAcquire_Leader_ReleasedOnShutdown() {
+		// given
+		givenScriptResult(1L);
+
+		// when
+		boolean acquired = schedulerLease.tryAcquire("reminder", Duration.ofSeconds(30));
+		schedulerLease.releaseAll();
+
+		// then
+		assertTrue(acquired);
+		then(stringRedisTemplate).should().execute(any(RedisScript.class),
+			eq(List.of("scheduler:lease:reminder")), anyString());
+	}
+
+	@Test
+	@DisplayName("리스 획득 실패 - 다른 인스턴스가 리더면 건너뜀, 반납하지 않음")
+	@SuppressWarnings("unchecked")
+	void tryAcquire_OtherLeader_ReturnsFalse() {
+		// given
+		givenScriptResult(0L);
+
+		// when
+		boolean acquired = schedulerLease.tryAcquire("reminder", Duration.ofSeconds(30));
+		schedulerLease.releaseAll();
+
+		// then
+		assertFalse(acquired);
+		then(stringRedisTemplate).should(never()).execute(any(RedisScript.class), anyList(), anyString());
+	}
+
+	@Test
+	@DisplayName("Redis 장애 - 작업이 멈추지 않도록 리스 없이 실행")
+	@SuppressWarnings("unchecked")
+	void tryAcquire_RedisFailure_ReturnsTrue() {
+		// given
+		given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+			.willThrow(new RedisConnectionFailureException("down"));
+
+		// when & then
+		assertTrue(schedulerLease.tryAcquire("reminder", Duration.ofSeconds(30)));
+	}
+}
@@ -0,0 +1,92 @@
+package uknowklp.secondbrain.global.websocket;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import uknowklp.secondbrain.api.note.dto.ReminderNotification;
+import uknowklp.secondbrain.global.config.JacksonConfig;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStompMessageRelay 단위 테스트")
+class RedisStompMessageRelayTest {
+
+	private static final String CHANNEL = "stomp:relay";
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisConnectionFactory redisConnectionFactory;
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	private RedisStompMessageRelay relay;
+
+	private final ReminderNotification notification = ReminderNotification.builder()
+		.noteId(10L)
+		.title("제목")
+		.question("질문")
+		.remindCount(1)
+		.timestamp(LocalDateTime.of(2025, 11, 6, 14, 30))
+		.build();
+
+	@BeforeEach
+	void setUp() {
+		relay = new RedisStompMessageRelay(stringRedisTemplate, redisConnectionFactory, messagingTemplate,
+			new JacksonConfig().objectMapper());
+		ReflectionTestUtils.setField(relay, "channel", CHANNEL);
+	}
+
+	@Test
+	@DisplayName("중계 - 발행한 메시지를 수신한 인스턴스가 로컬 구독자에게 전달")
+	void convertAndSend_RelayedToLocalBroker() {
+		// given
+		ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+
+		// when
+		relay.convertAndSend("/topic/reminder/1", notification);
+		verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+		relay.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+			published.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+		// then
+		ArgumentCaptor<JsonNode> payload = ArgumentCaptor.forClass(JsonNode.class);
+		verify(messagingTemplate).convertAndSend(eq("/topic/reminder/1"), payload.capture());
+		assertEquals(10L, payload.getValue().get("noteId").asLong());
+		assertEquals("질문", payload.getValue().get("question").asText());
+	}
+
+	@Test
+	@DisplayName("Redis 장애 - 현재 인스턴스 구독자에게만 전달")
+	void convertAndSend_RedisFailure_FallsBackToLocal() {
+		// given
+		willThrow(new RedisConnectionFailureException("down"))
+			.given(stringRedisTemplate).convertAndSend(anyString(), anyString());
+
+		// when
+		relay.convertAndSend("/topic/reminder/1", notification);
+
+		// then
+		verify(messagingTemplate).convertAndSend(eq("/topic/reminder/1"), any(JsonNode.class));
+	}
+}
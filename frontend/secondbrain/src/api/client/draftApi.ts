@@ -3,6 +3,8 @@ import type {
   NoteDraftRequest,
   NoteDraftResponse,
   NoteDraftListResponse,
+  NoteDraftDeltaRequest,
+  NoteDraftDeltaResponse,
 } from '@/shared/types/draft.types';
 
 const API_BASE_URL = '/api/drafts';
@@ -51,12 +53,38 @@ export async function saveDraft(data: NoteDraftRequest): Promise<NoteDraftRespon
   return response.data.data;
 }
 
+/**
+ * Draft Delta 저장 (PATCH /api/drafts/{noteId})
+ *
+ * 동작:
+ * - 마지막 저장 이후 변경분만 전송 (긴 노트의 자동 저장 트래픽 감소)
+ * - 서버가 저장된 Draft에 순서대로 적용 후 version 증가
+ *
+ * 실패 시:
+ * - 409 Conflict: version 불일치 → Draft 재조회
+ * - 422 Unprocessable Entity: Delta 적용 불가 → saveDraft로 전체 저장
+ *
+ * @param noteId - Draft UUID (기존 Draft 필수)
+ * @param data - Delta 저장 요청 데이터
+ * @returns 적용 후 version 정보
+ */
+export async function saveDraftDelta(
+  noteId: string,
+  data: NoteDraftDeltaRequest,
+): Promise<NoteDraftDeltaResponse> {
+  const response = await apiClient.patch<ApiResponse<NoteDraftDeltaResponse>>(
+    `${API_BASE_URL}/${noteId}`,
+    data,
+  );
+  return response.data.data;
+}
+
 /**
  * Draft 조회 (GET /api/drafts/{noteId})
  *
  * @param noteId - Draft UUID
  * @returns Draft 정보
- * @throws Error - Draft 없음 (404) 또는 권한 없음 (403)
+ * @throws Error - Draft 없음 (404), 권한 없음 (403) 또는 Delta 로그 복원 불가 (422, 전체 저장으로 재동기화 필요)
  */
 export async function getDraft(noteId: string): Promise<NoteDraftResponse> {
   const response = await apiClient.get<ApiResponse<NoteDraftResponse>>(`${API_BASE_URL}/${noteId}`);
@@ -3,13 +3,15 @@ import { useMutation, useQuery, useQueryClient } from '@tanstack/react-query';
 import { debounce } from 'lodash-es';
 import {
   saveDraft,
+  saveDraftDelta,
   getDraft,
   deleteDraft as deleteDraftApi,
   saveToDatabase as saveToDatabaseApi,
   draftQueries,
 } from '@/api/client/draftApi';
 import { deleteNotes as deleteNotesApi } from '@/api/client/noteApi';
-import type { NoteDraftRequest } from '@/shared/types/draft.types';
+import { diffText } from '@/shared/utils/textDelta';
+import type { DeltaOperation, NoteDraftRequest } from '@/shared/types/draft.types';
 
 interface UseNoteDraftOptions {
   draftId: string;
@@ -37,7 +39,7 @@ interface UseNoteDraftReturn {
  * Draft 자동 저장 훅
  *
  * 자동 저장 트리거:
- * 1. Debouncing (500ms) → POST /api/drafts
+ * 1. Debouncing (500ms) → PATCH /api/drafts/{id} (변경분만), 서버 Draft가 없거나 Delta 실패 시 POST /api/drafts
  * 2. Batching (50회 변경 or 5분 경과) → POST /api/notes/from-draft/{id}
  * 3. beforeunload → navigator.sendBeacon()
  *
@@ -72,6 +74,7 @@ export function useNoteDraft(options: UseNoteDraftOptions): UseNoteDraftReturn {
       setLocalTitle(draft.title || '');
       setLocalContent(draft.content || '');
       setLocalVersion(draft.version || 1);
+      savedRef.current = { title: draft.title || '', content: draft.content || '' };
       setIsInitialized(true);
     }
   }, [isLoading, draft, isInitialized]);
@@ -85,6 +88,9 @@ export function useNoteDraft(options: UseNoteDraftOptions): UseNoteDraftReturn {
   const titleRef = useRef(localTitle);
   const contentRef = useRef(localContent);
 
+  // 서버에 저장된 마지막 내용 (Delta 계산 기준, 서버 Draft가 없으면 null)
+  const savedRef = useRef<{ title: string; content: string } | null>(null);
+
   // titleRef, contentRef를 로컬 상태 변경 시 동기화
   useEffect(() => {
     titleRef.current = localTitle;
@@ -94,9 +100,10 @@ export function useNoteDraft(options: UseNoteDraftOptions): UseNoteDraftReturn {
   // Redis 저장 Mutation (Optimistic Update 제거로 성능 개선)
   const saveMutation = useMutation({
     mutationFn: (data: NoteDraftRequest) => saveDraft(data),
-    onSuccess: (response) => {
+    onSuccess: (response, data) => {
       // 서버 응답의 version으로 로컬 상태 동기화 (409 에러 방지)
       setLocalVersion(response.version);
+      savedRef.current = { title: data.title ?? '', content: data.content ?? '' };
       changeCountRef.current++;
       // Batching 조건 체크
       void checkAndSaveToDatabase();
@@ -115,6 +122,23 @@ export function useNoteDraft(options: UseNoteDraftOptions): UseNoteDraftReturn {
     },
   });
 
+  // Redis Delta 저장 Mutation (마지막 저장 이후 변경분만 전송)
+  const deltaMutation = useMutation({
+    mutationFn: ({ draft, operations }: { draft: NoteDraftRequest; operations: DeltaOperation[] }) =>
+      saveDraftDelta(draftId, { version: draft.version, operations }),
+    onSuccess: (response, { draft }) => {
+      setLocalVersion(response.version);
+      savedRef.current = { title: draft.title ?? '', content: draft.content ?? '' };
+      changeCountRef.current++;
+      void checkAndSaveToDatabase();
+    },
+    onError: (_error, { draft }) => {
+      // 404(Draft 만료), 409(버전 불일치), 422(Delta 적용 불가) 등 → 전체 저장으로 재동기화
+      savedRef.current = null;
+      saveMutation.mutate(draft);
+    },
+  });
+
   // Batching: DB 저장 조건 체크
   const checkAndSaveToDatabase = async () => {
     const timeSinceLastSave = Date.now() - lastDbSaveTimeRef.current;
@@ -195,6 +219,20 @@ export function useNoteDraft(options: UseNoteDraftOptions): UseNoteDraftReturn {
         return;
       }
 
+      // 서버 Draft가 있으면 변경분만 전송
+      const saved = savedRef.current;
+      if (saved) {
+        const operations = [
+          diffText('TITLE', saved.title, draft.title ?? ''),
+          diffText('CONTENT', saved.content, draft.content ?? ''),
+        ].filter((operation): operation is DeltaOperation => operation !== null);
+
+        if (operations.length > 0) {
+          deltaMutation.mutate({ draft, operations });
+        }
+        return;
+      }
+
       saveMutation.mutate(draft);
     }, 500),
   ).current;
@@ -285,7 +323,7 @@ export function useNoteDraft(options: UseNoteDraftOptions): UseNoteDraftReturn {
     version: localVersion,
     lastModified: draft?.lastModified ? new Date(draft.lastModified) : null,
     isLoading,
-    isSaving: saveMutation.isPending,
+    isSaving: saveMutation.isPending || deltaMutation.isPending,
     dbNoteId,
     handleTitleChange,
     handleContentChange,
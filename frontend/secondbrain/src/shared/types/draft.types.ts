@@ -59,13 +59,39 @@ export interface NoteDraftListResponse {
 }
 
 /**
- * Delta Operation (미래 확장용)
- * - Phase 3: Delta Sync 구현 시 사용
+ * Delta Operation
+ * - PATCH /api/drafts/{noteId}
+ * - field: 적용 대상 (생략 시 CONTENT)
+ * - position: UTF-16 문자 인덱스 (앞선 작업 적용 결과 기준)
+ * - oldValue: DELETE, REPLACE 시 해당 위치의 기존 텍스트 (서버에서 일치 여부 검증)
+ * - newValue: INSERT, REPLACE 시 새 텍스트
+ * - timestamp: 서버 적용 시각 (epoch millis, 요청 시 생략)
  */
 export interface DeltaOperation {
   type: 'INSERT' | 'DELETE' | 'REPLACE';
+  field?: 'TITLE' | 'CONTENT';
   position: number;
   oldValue?: string;
   newValue?: string;
-  timestamp: string;
+  timestamp?: number;
+}
+
+/**
+ * Draft Delta 저장 요청 DTO
+ * - PATCH /api/drafts/{noteId}
+ * - version: 클라이언트가 알고 있는 현재 버전
+ */
+export interface NoteDraftDeltaRequest {
+  version: number;
+  operations: DeltaOperation[];
+}
+
+/**
+ * Draft Delta 저장 응답 DTO
+ * - title, content는 포함하지 않음 (클라이언트가 최신 상태 보유)
+ */
+export interface NoteDraftDeltaResponse {
+  noteId: string;
+  version: number;
+  lastModified: string;
 }
@@ -0,0 +1,62 @@
+import type { DeltaOperation } from '@/shared/types/draft.types';
+
+/**
+ * 텍스트 Delta 계산 유틸리티
+ */
+
+const isHighSurrogate = (code: number) => code >= 0xd800 && code <= 0xdbff;
+const isLowSurrogate = (code: number) => code >= 0xdc00 && code <= 0xdfff;
+
+/**
+ * 이전 텍스트 → 새 텍스트 변경분을 Delta 1개로 계산
+ *
+ * - 공통 접두사/접미사를 제외한 가운데 구간만 INSERT, DELETE, REPLACE로 표현
+ * - position은 UTF-16 인덱스 (서버 Java String 인덱스와 동일)
+ * - 서로게이트 쌍(이모지 등)은 중간에서 자르지 않음
+ *
+ * @param field - 적용 대상 필드
+ * @param previous - 서버에 저장된 텍스트
+ * @param next - 현재 텍스트
+ * @returns Delta (변경 없으면 null)
+ */
+export function diffText(
+  field: 'TITLE' | 'CONTENT',
+  previous: string,
+  next: string,
+): DeltaOperation | null {
+  if (previous === next) {
+    return null;
+  }
+
+  const maxPrefix = Math.min(previous.length, next.length);
+  let prefix = 0;
+  while (prefix < maxPrefix && previous.charCodeAt(prefix) === next.charCodeAt(prefix)) {
+    prefix++;
+  }
+  if (prefix > 0 && isHighSurrogate(previous.charCodeAt(prefix - 1))) {
+    prefix--;
+  }
+
+  const maxSuffix = maxPrefix - prefix;
+  let suffix = 0;
+  while (
+    suffix < maxSuffix &&
+    previous.charCodeAt(previous.length - 1 - suffix) === next.charCodeAt(next.length - 1 - suffix)
+  ) {
+    suffix++;
+  }
+  if (suffix > 0 && isLowSurrogate(previous.charCodeAt(previous.length - suffix))) {
+    suffix--;
+  }
+
+  const oldValue = previous.slice(prefix, previous.length - suffix);
+  const newValue = next.slice(prefix, next.length - suffix);
+
+  if (!oldValue) {
+    return { type: 'INSERT', field, position: prefix, newValue };
+  }
+  if (!newValue) {
+    return { type: 'DELETE', field, position: prefix, oldValue };
+  }
+  return { type: 'REPLACE', field, position: prefix, oldValue, newValue };
+}
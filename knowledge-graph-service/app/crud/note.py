@@ -221,6 +221,42 @@ def delete_note(
         return False
 
 
+def delete_notes(
+    user_id: int,
+    note_ids: List[int],
+) -> int:
+    """
+    노트 일괄 삭제 (관계 포함, 유저별)
+
+    Args:
+        user_id: 사용자 ID
+        note_ids: 노트 ID 목록
+
+    Returns:
+        삭제된 노트 수
+    """
+    query = """
+    UNWIND $note_ids AS note_id
+    MATCH (n:Note {note_id: note_id, user_id: $user_id})
+    DETACH DELETE n
+    RETURN count(n) AS deleted
+    """
+
+    with neo4j_client.get_session() as session:
+        result = session.run(
+            query,
+            {
+                "user_id": user_id,
+                "note_ids": note_ids,
+            },
+        )
+        record = result.single()
+
+        deleted = record["deleted"] if record else 0
+        logger.debug(f"✅ 노트 일괄 삭제: {user_id} - {deleted}/{len(note_ids)}건")
+        return deleted
+
+
 # ===== 유사 노트 조회 =====
 def get_similar_notes(
     user_id: int,
@@ -1,5 +1,5 @@
 from pydantic import BaseModel, Field
-from typing import Optional
+from typing import List, Optional
 from enum import Enum
 
 
@@ -9,6 +9,7 @@ class EventType(str, Enum):
     NOTE_CREATED = "note.created"
     NOTE_UPDATED = "note.updated"
     NOTE_DELETED = "note.deleted"
+    NOTE_DELETED_BATCH = "note.deleted.batch"
 
 
 class NoteCreatedEvent(BaseModel):
@@ -68,3 +69,20 @@ class NoteDeletedEvent(BaseModel):
                 "user_id": 123,
             }
         }
+
+
+class NoteDeletedBatchEvent(BaseModel):
+    """노트 일괄 삭제 이벤트 (여러 노트 ID를 한 메시지로 전달)"""
+
+    event_type: EventType = EventType.NOTE_DELETED_BATCH
+    user_id: int = Field(..., description="사용자 ID")
+    note_ids: List[int] = Field(..., description="삭제된 노트 ID 목록")
+
+    class Config:
+        json_schema_extra = {
+            "example": {
+                "event_type": "note.deleted.batch",
+                "user_id": 123,
+                "note_ids": [101, 102, 103],
+            }
+        }
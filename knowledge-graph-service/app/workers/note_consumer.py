@@ -13,6 +13,7 @@
 - note.created: 노트 생성 시 임베딩 생성 및 저장
 - note.updated: 노트 수정 시 임베딩 재생성 및 관계 재설정
 - note.deleted: 노트 삭제 시 Neo4j에서 제거
+- note.deleted.batch: 여러 노트 삭제 시 Neo4j에서 한 번에 제거
 """
 
 import json
@@ -27,6 +28,7 @@ from app.schemas.event import (
     NoteCreatedEvent,
     NoteUpdatedEvent,
     NoteDeletedEvent,
+    NoteDeletedBatchEvent,
     EventType,
 )
 
@@ -229,6 +231,49 @@ def process_note_deleted(
 
 
 
+def process_note_deleted_batch(
+    ch,
+    method,
+    properties,
+    body,
+):
+    """
+    노트 일괄 삭제 이벤트 처리
+
+    메시지 구조:
+    {
+        "event_type": "note.deleted.batch",
+        "user_id": 123,
+        "note_ids": [101, 102, 103]
+    }
+
+    처리 로직:
+    - UNWIND 쿼리 1회로 모든 노드 삭제 (관계는 자동 삭제)
+    """
+    try:
+        logger.debug(f"노트 일괄 삭제 이벤트 수신")
+        # 1. 파싱
+        event_data = json.loads(body)
+        event = NoteDeletedBatchEvent(**event_data)
+        logger.debug(f"파싱 완료 - {len(event.note_ids)}건")
+
+        # 2. Neo4j에서 노트 일괄 삭제
+        note_crud.delete_notes(
+            user_id=event.user_id,
+            note_ids=event.note_ids,
+        )
+        logger.debug("노트 일괄 삭제 완료")
+
+        # 3. 메시지 확인
+        ch.basic_ack(delivery_tag=method.delivery_tag)
+        logger.debug("일괄 삭제 메시지 처리 완료")
+
+    except Exception as e:
+        logger.error(f"❌ 노트 일괄 삭제 처리 실패 - {e}")
+        ch.basic_ack(delivery_tag=method.delivery_tag)
+
+
+
 def message_router(
     ch,
     method,
@@ -244,6 +289,7 @@ def message_router(
     - "note.created" → process_note_created()
     - "note.updated" → process_note_updated()
     - "note.deleted" → process_note_deleted()
+    - "note.deleted.batch" → process_note_deleted_batch()
     - 기타 → 오류 처리
     """
     try:
@@ -256,6 +302,8 @@ def message_router(
             process_note_updated(ch, method, properties, body)
         elif event_type == EventType.NOTE_DELETED.value:
             process_note_deleted(ch, method, properties, body)
+        elif event_type == EventType.NOTE_DELETED_BATCH.value:
+            process_note_deleted_batch(ch, method, properties, body)
         else:
             logger.error(f"❌ 알 수 없는 이벤트 타입: {event_type}")
             ch.basic_ack(delivery_tag=method.delivery_tag)
@@ -274,7 +322,7 @@ def start_consumer():
     설정:
     - Exchange: "knowledge_graph_events" (Topic)
     - Queue: "note_creation_queue"
-    - Routing key: "note.*" (note.created, note.updated, note.deleted)
+    - Routing key: "note.#" (note.created, note.updated, note.deleted, note.deleted.batch)
 
     실행:
     1. RabbitMQ 연결
@@ -296,7 +344,7 @@ def start_consumer():
         if not rabbitmq_service.declare_exchange_and_queue(
             exchange_name="knowledge_graph_events",
             queue_name="note_creation_queue",
-            routing_key="note.*",
+            routing_key="note.#",
         ):
             raise Exception("Exchange/Queue 선언 실패")
         logger.debug("Exchange/Queue 선언 성공")